@@ -10,7 +10,13 @@ import org.maks.eventPlugin.command.FullMoonQuestsCommand;
 import org.maks.eventPlugin.config.ConfigManager;
 import org.maks.eventPlugin.db.DatabaseManager;
 import org.maks.eventPlugin.eventsystem.BuffManager;
+import org.maks.eventPlugin.eventsystem.CommunityGoals;
+import org.maks.eventPlugin.eventsystem.KillStats;
+import org.maks.eventPlugin.eventsystem.EventListenerBundle;
 import org.maks.eventPlugin.eventsystem.EventManager;
+import org.maks.eventPlugin.eventsystem.MythicMobLoads;
+import org.maks.eventPlugin.eventsystem.PlayerStateManager;
+import org.maks.eventPlugin.eventsystem.ProgressModifiers;
 import org.maks.eventPlugin.gui.PlayerProgressGUI;
 import org.maks.eventPlugin.gui.AdminRewardEditorGUI;
 
@@ -35,6 +41,12 @@ public final class EventPlugin extends JavaPlugin {
     private DatabaseManager databaseManager;
     private java.util.Map<String, EventManager> eventManagers;
     private BuffManager buffManager;
+    private ProgressModifiers progressModifiers;
+    private CommunityGoals communityGoals;
+    private KillStats killStats;
+    private PlayerStateManager playerStates;
+    // Null without MythicMobs
+    private MythicMobLoads mythicMobLoads;
     private PlayerProgressGUI progressGUI;
     private AdminRewardEditorGUI rewardGUI;
 
@@ -68,6 +80,10 @@ public final class EventPlugin extends JavaPlugin {
         saveDefaultConfig();
         configManager = new ConfigManager(this);
         configManager.load();
+        org.maks.eventPlugin.eventsystem.Notifications.configure(configManager);
+        org.maks.eventPlugin.eventsystem.AnomalyMonitor.configure(configManager);
+        org.maks.eventPlugin.eventsystem.AuditLog.start(this, configManager);
+        org.maks.eventPlugin.fullmoon.map2.BlockJobScheduler.start(this, configManager);
 
         // Initialize IngredientPouch integration
         PouchHelper.initialize();
@@ -89,7 +105,27 @@ public final class EventPlugin extends JavaPlugin {
         }
 
         eventManagers = new java.util.HashMap<>();
-        buffManager = new BuffManager(databaseManager);
+        playerStates = new PlayerStateManager();
+        getServer().getPluginManager().registerEvents(playerStates, this);
+        playerStates.onEvict(id -> eventManagers.values().forEach(manager -> manager.forgetPlayer(id)));
+        playerStates.onEvict(id -> org.maks.eventPlugin.eventsystem.AnomalyMonitor.evictIdle());
+        buffManager = new BuffManager(this, databaseManager, playerStates);
+        getServer().getPluginManager().registerEvents(buffManager, this);
+        buffManager.loadOnline();
+        progressModifiers = new ProgressModifiers(buffManager, playerStates);
+        progressModifiers.load(configManager);
+        // load() bumps the cache generation, so cached multipliers are rebuilt
+        configManager.onReload(progressModifiers::load);
+        EventPluginAPI.setProgressModifiers(progressModifiers);
+        killStats = new KillStats(this, databaseManager);
+        getServer().getPluginManager().registerEvents(killStats, this);
+        getServer().getPluginManager().registerEvents(new org.maks.eventPlugin.eventsystem.InstanceQuitListener(), this);
+        killStats.start();
+        EventPluginAPI.setKillStats(killStats);
+        if (getServer().getPluginManager().isPluginEnabled("MythicMobs")) {
+            mythicMobLoads = new MythicMobLoads(this);
+            getServer().getPluginManager().registerEvents(mythicMobLoads, this);
+        }
         progressGUI = new PlayerProgressGUI(buffManager);
         rewardGUI = new AdminRewardEditorGUI(this);
 
@@ -98,6 +134,9 @@ public final class EventPlugin extends JavaPlugin {
 
         progressGUI.setAllEvents(eventManagers);
 
+        communityGoals = new CommunityGoals(this, databaseManager, eventManagers);
+        communityGoals.start(configManager);
+
         // Initialize public API
         EventPluginAPI.initialize(eventManagers);
         getLogger().info("EventPlugin API initialized with " + eventManagers.size() + " event(s)");
@@ -126,7 +165,8 @@ public final class EventPlugin extends JavaPlugin {
                 winterEventManager,
                 winterDifficultyGUI,
                 winterCaveGUI,
-                databaseManager
+                databaseManager,
+                communityGoals
             );
             Bukkit.getLogger().info("[EventPlugin] Events Main GUI initialized with both Full Moon and New Moon");
         } else if (fullMoonManager != null) {
@@ -144,7 +184,8 @@ public final class EventPlugin extends JavaPlugin {
                 winterEventManager,
                 winterDifficultyGUI,
                 winterCaveGUI,
-                databaseManager
+                databaseManager,
+                communityGoals
             );
             Bukkit.getLogger().info("[EventPlugin] Events Main GUI initialized with Full Moon only");
         } else if (newMoonManager != null) {
@@ -162,34 +203,57 @@ public final class EventPlugin extends JavaPlugin {
                 winterEventManager,
                 winterDifficultyGUI,
                 winterCaveGUI,
-                databaseManager
+                databaseManager,
+                communityGoals
             );
             Bukkit.getLogger().info("[EventPlugin] Events Main GUI initialized with New Moon only");
         }
 
         if (getServer().getPluginManager().isPluginEnabled("MythicMobs")) {
-            getServer().getPluginManager().registerEvents(new MythicMobProgressListener(eventManagers, buffManager), this);
+            getServer().getPluginManager().registerEvents(new MythicMobProgressListener(eventManagers, progressModifiers, communityGoals), this);
 
             // Register Full Moon listeners if event exists
             if (fullMoonManager != null) {
-                getServer().getPluginManager().registerEvents(new FullMoonMobListener(fullMoonManager, buffManager, map2TransitionGUI), this);
-                getServer().getPluginManager().registerEvents(new BloodVialSummonListener(fullMoonManager, configManager), this);
+                // Gameplay listeners are only registered while the event is active
+                FullMoonMobListener fullMoonMobListener = new FullMoonMobListener(fullMoonManager, progressModifiers, map2TransitionGUI);
+                fullMoonManager.getEventManager().setListenerBundle(new EventListenerBundle(this, "full_moon")
+                        .add(fullMoonMobListener)
+                        .add(new BloodVialSummonListener(fullMoonManager, configManager))
+                        .add(new Map2BossListener(fullMoonManager))
+                        .onUnregister(fullMoonManager.getMobRegistry()::clear)
+                        .onUnregister(fullMoonMobListener::clearTracking));
+                // Event mobs loaded with their chunk fire no spawn event
+                mythicMobLoads.onLoad(fullMoonMobListener::registerLoaded);
+                // Amphory and Map2 cleanup must keep working after the event ends
                 getServer().getPluginManager().registerEvents(new CursedAmphoryListener(fullMoonManager.getCursedAmphoryManager()), this);
-                getServer().getPluginManager().registerEvents(new Map2BossListener(fullMoonManager), this);
                 getServer().getPluginManager().registerEvents(new org.maks.eventPlugin.fullmoon.listener.Map2PlayerListener(fullMoonManager), this);
                 Bukkit.getLogger().info("[EventPlugin] Full Moon listeners registered");
             }
 
             // Register New Moon listeners if event exists
             if (newMoonManager != null) {
-                getServer().getPluginManager().registerEvents(new org.maks.eventPlugin.newmoon.listener.NewMoonMobListener(newMoonManager), this);
-                getServer().getPluginManager().registerEvents(new org.maks.eventPlugin.newmoon.listener.CauldronListener(newMoonManager), this);
-                getServer().getPluginManager().registerEvents(new org.maks.eventPlugin.newmoon.listener.LordRespawnListener(newMoonManager), this);
+                newMoonManager.getEventManager().setListenerBundle(new EventListenerBundle(this, "new_moon")
+                        .add(new org.maks.eventPlugin.newmoon.listener.NewMoonMobListener(newMoonManager, progressModifiers))
+                        .add(new org.maks.eventPlugin.newmoon.listener.CauldronListener(newMoonManager))
+                        .add(new org.maks.eventPlugin.newmoon.listener.LordRespawnListener(newMoonManager))
+                        .add(new org.maks.eventPlugin.newmoon.listener.PortalListener(newMoonManager, newMoonPortalGUI)));
+                // Lords and Map2 instances can outlive the event, so these stay registered
                 getServer().getPluginManager().registerEvents(new org.maks.eventPlugin.newmoon.listener.LordImmunityListener(newMoonManager), this);
-                getServer().getPluginManager().registerEvents(new org.maks.eventPlugin.newmoon.listener.PortalListener(newMoonManager, newMoonPortalGUI), this);
+                // Lords loaded with their chunk fire no spawn event
+                mythicMobLoads.onLoad((entity, mobType) -> {
+                    String lordName = newMoonManager.getLordName(mobType);
+                    if (lordName != null) newMoonManager.registerLord(entity.getUniqueId(), lordName);
+                });
                 getServer().getPluginManager().registerEvents(new org.maks.eventPlugin.newmoon.listener.Map2PlayerListener(newMoonManager), this);
                 Bukkit.getLogger().info("[EventPlugin] New Moon listeners registered");
             }
+
+            // Track blocks changed inside Map2 instances so they can be reset instead of re-pasted
+            if (fullMoonManager != null || newMoonManager != null) {
+                getServer().getPluginManager().registerEvents(new org.maks.eventPlugin.fullmoon.map2.DirtySectionListener(
+                        block -> fullMoonManager != null ? fullMoonManager.getMap2InstanceManager().getDirtySectionsAt(block) : null,
+                        block -> newMoonManager != null ? newMoonManager.getMap2InstanceManager().getDirtySectionsAt(block) : null), this);
+            }
         } else {
             Bukkit.getLogger().warning("MythicMobs not found - progress events disabled");
         }
@@ -292,6 +356,11 @@ public final class EventPlugin extends JavaPlugin {
             setShowcaseCmd.setExecutor(new org.maks.eventPlugin.command.SetEventShowcaseCommand(this, rewardPreviewDAO));
             Bukkit.getLogger().info("[EventPlugin] SetEventShowcase command registered");
         }
+
+        // Register MythicMobs that were already loaded (plugin reload) once every hook is in
+        if (mythicMobLoads != null) {
+            Bukkit.getScheduler().runTask(this, mythicMobLoads::scanLoaded);
+        }
     }
 
     /**
@@ -300,7 +369,7 @@ public final class EventPlugin extends JavaPlugin {
     private void initializeFullMoon() {
         EventManager fullMoonEvent = eventManagers.get("full_moon");
         if (fullMoonEvent != null) {
-            fullMoonManager = new FullMoonManager(this, databaseManager, configManager, fullMoonEvent);
+            fullMoonManager = new FullMoonManager(this, databaseManager, configManager, fullMoonEvent, playerStates, killStats);
             mapSelectionGUI = new MapSelectionGUI(this, fullMoonManager);
             questGUI = new QuestGUI(fullMoonManager);
             map2TransitionGUI = new Map2TransitionGUI(fullMoonManager);
@@ -322,7 +391,7 @@ public final class EventPlugin extends JavaPlugin {
     private void initializeNewMoon() {
         EventManager newMoonEvent = eventManagers.get("new_moon");
         if (newMoonEvent != null) {
-            newMoonManager = new org.maks.eventPlugin.newmoon.NewMoonManager(this, databaseManager, configManager, newMoonEvent);
+            newMoonManager = new org.maks.eventPlugin.newmoon.NewMoonManager(this, databaseManager, configManager, newMoonEvent, playerStates, killStats);
             newMoonQuestGUI = new org.maks.eventPlugin.newmoon.gui.NewMoonQuestGUI(newMoonManager);
             newMoonMap1SelectionGUI = new org.maks.eventPlugin.newmoon.gui.Map1SelectionGUI(newMoonManager);
 
@@ -349,7 +418,7 @@ public final class EventPlugin extends JavaPlugin {
     private void initializeWinterEvent() {
         EventManager winterEvent = eventManagers.get("winter_event");
         if (winterEvent != null) {
-            winterEventManager = new org.maks.eventPlugin.winterevent.WinterEventManager(this, databaseManager, configManager, winterEvent);
+            winterEventManager = new org.maks.eventPlugin.winterevent.WinterEventManager(this, databaseManager, configManager, winterEvent, playerStates, killStats);
 
             // Create GUIs
             winterDifficultyGUI = new org.maks.eventPlugin.winterevent.summit.gui.DifficultySelectionGUI(winterEventManager, configManager);
@@ -371,23 +440,28 @@ public final class EventPlugin extends JavaPlugin {
             );
             winterPortalListener.setPortalGUI(winterPortalGUI);
 
-            // Register listeners
-            getServer().getPluginManager().registerEvents(
-                new org.maks.eventPlugin.winterevent.listener.GiftDropListener(winterEventManager), this);
-            getServer().getPluginManager().registerEvents(
-                new org.maks.eventPlugin.winterevent.listener.WinterEventMobListener(winterEventManager, buffManager), this);
+            // Register listeners; gameplay listeners only while the event is active
+            var winterMobListener = new org.maks.eventPlugin.winterevent.listener.WinterEventMobListener(winterEventManager, progressModifiers);
+            var winterListeners = new EventListenerBundle(this, "winter_event")
+                .add(new org.maks.eventPlugin.winterevent.listener.GiftDropListener(winterEventManager))
+                .add(winterMobListener)
+                .add(winterPortalListener)
+                .onUnregister(winterMobListener::clearTracking);
+            // Winter mobs loaded with their chunk fire no spawn event
+            if (mythicMobLoads != null) {
+                mythicMobLoads.onLoad(winterMobListener::registerLoaded);
+            }
+            if (configManager.getBoolean("winter_event.summit.block_interactions_enabled", false)) {
+                winterListeners.add(
+                    new org.maks.eventPlugin.winterevent.summit.listener.SummitInteractionListener(winterEventManager.getWinterSummitManager(), winterEventManager, configManager));
+            }
+            winterEvent.setListenerBundle(winterListeners);
             getServer().getPluginManager().registerEvents(
                 new org.maks.eventPlugin.winterevent.wintercave.listener.WinterCaveMobListener(winterEventManager.getWinterCaveManager()), this);
             getServer().getPluginManager().registerEvents(
                 new org.maks.eventPlugin.winterevent.wintercave.listener.WinterCavePlayerListener(winterEventManager.getWinterCaveManager()), this);
-            if (configManager.getBoolean("winter_event.summit.block_interactions_enabled", false)) {
-                getServer().getPluginManager().registerEvents(
-                    new org.maks.eventPlugin.winterevent.summit.listener.SummitInteractionListener(winterEventManager.getWinterSummitManager(), winterEventManager, configManager), this);
-            }
             getServer().getPluginManager().registerEvents(
                 new org.maks.eventPlugin.winterevent.summit.listener.SummitBossListener(winterEventManager.getWinterSummitManager(), winterEventManager, configManager, this), this);
-            getServer().getPluginManager().registerEvents(
-                winterPortalListener, this);
 
             // Register GUIs as listeners
             getServer().getPluginManager().registerEvents(winterDifficultyGUI, this);
@@ -442,6 +516,32 @@ public final class EventPlugin extends JavaPlugin {
             Bukkit.getLogger().info("[EventPlugin] Cleaned up all Map2 instances on shutdown");
         }
 
+        // Finish clears and pastes still running in slices
+        org.maks.eventPlugin.fullmoon.map2.BlockJobScheduler.finishAll();
+
+        // Persist progress granted during the final tick
+        if (eventManagers != null) {
+            for (EventManager manager : eventManagers.values()) {
+                manager.flushPendingProgress();
+            }
+        }
+
+        // Save pending kill statistics
+        if (killStats != null) {
+            killStats.stop();
+        }
+
+        // Save community goal totals
+        if (communityGoals != null) {
+            communityGoals.stop();
+        }
+
+        // Stop watching schematic files
+        org.maks.eventPlugin.fullmoon.map2.SchematicCache.shutdown();
+
+        // Write out queued audit entries
+        org.maks.eventPlugin.eventsystem.AuditLog.stop();
+
         // Close database connection
         if (databaseManager != null) {
             databaseManager.close();
@@ -1,6 +1,9 @@
 package org.maks.eventPlugin.api;
 
+import org.bukkit.entity.Player;
 import org.maks.eventPlugin.eventsystem.EventManager;
+import org.maks.eventPlugin.eventsystem.KillStats;
+import org.maks.eventPlugin.eventsystem.ProgressModifiers;
 
 import java.util.*;
 
@@ -11,6 +14,8 @@ import java.util.*;
 public class EventPluginAPI {
 
     private static Map<String, EventManager> eventManagers = new HashMap<>();
+    private static ProgressModifiers progressModifiers;
+    private static KillStats killStats;
 
     /**
      * Initialize the API with event managers.
@@ -21,6 +26,58 @@ public class EventPluginAPI {
         eventManagers = managers;
     }
 
+    /**
+     * Set the progress modifier stack used by {@link #setPartySize}.
+     * Called by EventPlugin on startup.
+     */
+    public static void setProgressModifiers(ProgressModifiers modifiers) {
+        progressModifiers = modifiers;
+    }
+
+    /**
+     * Report a player's party size so the party progress bonus applies.
+     * Party plugins should call this whenever the party changes.
+     * @param player The player
+     * @param size Number of party members including the player (1 = solo)
+     */
+    public static void setPartySize(Player player, int size) {
+        if (progressModifiers != null) {
+            progressModifiers.setPartySize(player, size);
+        }
+    }
+
+    /**
+     * Set the kill statistics engine used by the kill queries.
+     * Called by EventPlugin on startup.
+     */
+    public static void setKillStats(KillStats stats) {
+        killStats = stats;
+    }
+
+    /**
+     * Get how many mobs of a type a player killed in an event.
+     * Only available while the player is online (stats are loaded on join).
+     * @param playerId The player
+     * @param eventId The event ID
+     * @param mobType Base mob type (e.g., "bloody_werewolf")
+     * @param lifetime True for all editions, false for the current edition only
+     * @return Kill count, 0 if unknown
+     */
+    public static int getKills(UUID playerId, String eventId, String mobType, boolean lifetime) {
+        return killStats != null ? killStats.getKills(playerId, eventId, mobType, lifetime) : 0;
+    }
+
+    /**
+     * Get how many mobs a player killed in an event in total.
+     * @param playerId The player
+     * @param eventId The event ID
+     * @param lifetime True for all editions, false for the current edition only
+     * @return Kill count, 0 if unknown
+     */
+    public static int getTotalKills(UUID playerId, String eventId, boolean lifetime) {
+        return killStats != null ? killStats.getTotalKills(playerId, eventId, lifetime) : 0;
+    }
+
     /**
      * Get all available event IDs.
      * @return List of event IDs (e.g., "monster_hunt", "full_moon")
@@ -5,6 +5,8 @@ import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.maks.eventPlugin.db.DatabaseManager;
+import org.maks.eventPlugin.eventsystem.AnomalyMonitor;
+import org.maks.eventPlugin.eventsystem.AuditLog;
 import org.maks.eventPlugin.eventsystem.EventManager;
 import org.maks.eventPlugin.fullmoon.FullMoonManager;
 import org.maks.eventPlugin.gui.AdminRewardEditorGUI;
@@ -93,9 +95,11 @@ public class EventCommand implements CommandExecutor {
 
                 manager.start(name, desc, max, duration);
                 config.set("events." + id + ".active", true);
+                AuditLog.admin(sender.getName(), id, "started event");
                 if (id.equalsIgnoreCase("winter_event")) {
                     if (winterEventManager != null) {
                         winterEventManager.resetAllData();
+                        AuditLog.admin(sender.getName(), id, "reset all Winter Event data");
                         sender.sendMessage("Reset Winter Event quest data for new edition");
                     }
                     if (bigPresentManager != null) {
@@ -129,6 +133,7 @@ public class EventCommand implements CommandExecutor {
                         sender.sendMessage("Stopped event " + id);
                     }
                     config.set("events." + id + ".active", false);
+                    AuditLog.admin(sender.getName(), id, "stopped event");
                 } else {
                     sender.sendMessage("Event not found: " + id);
                 }
@@ -148,8 +153,137 @@ public class EventCommand implements CommandExecutor {
                 });
                 rewardGUI.open(player, manager);
             }
+            case "anomalies" -> {
+                if (!sender.hasPermission("eventplugin.admin")) return true;
+                if (args.length >= 3 && args[1].equalsIgnoreCase("clear")) {
+                    java.util.UUID targetId = resolvePlayerId(args[2]);
+                    if (targetId == null) {
+                        sender.sendMessage("§c§l[Anomaly] §cUnknown player " + args[2]);
+                        return true;
+                    }
+                    if (AnomalyMonitor.clear(targetId)) {
+                        sender.sendMessage("§a§l[Anomaly] §aLifted quarantine for " + args[2]);
+                    } else {
+                        sender.sendMessage("§e§l[Anomaly] §e" + args[2] + " was not quarantined (rates reset)");
+                    }
+                    return true;
+                }
+                AnomalyMonitor.Metric metric = AnomalyMonitor.Metric.PROGRESS;
+                if (args.length >= 2) {
+                    try {
+                        metric = AnomalyMonitor.Metric.valueOf(args[1].toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        sender.sendMessage("Usage: /event anomalies [progress|kills|claims] | clear <player>");
+                        return true;
+                    }
+                }
+                var rates = AnomalyMonitor.top(metric, 10);
+                sender.sendMessage("§6§l[Anomaly] §eTop " + metric.name().toLowerCase() + " in the last "
+                        + AnomalyMonitor.getWindowSeconds() + "s:");
+                if (rates.isEmpty()) {
+                    sender.sendMessage("§7  No activity");
+                }
+                int rank = 1;
+                for (AnomalyMonitor.Rate rate : rates) {
+                    sender.sendMessage("§7  " + rank++ + ". §f" + rate.name() + " §e" + rate.value()
+                            + (rate.quarantined() ? " §c[QUARANTINED]" : ""));
+                }
+            }
+            case "audit" -> {
+                if (!sender.hasPermission("eventplugin.admin")) return true;
+                if (args.length < 2) {
+                    sender.sendMessage("Usage: /event audit <player> [hours_back] [hours_until]");
+                    return true;
+                }
+                long hoursBack;
+                long hoursUntil;
+                try {
+                    hoursBack = args.length >= 3 ? Long.parseLong(args[2]) : 24L;
+                    hoursUntil = args.length >= 4 ? Long.parseLong(args[3]) : 0L;
+                } catch (NumberFormatException e) {
+                    sender.sendMessage("Usage: /event audit <player> [hours_back] [hours_until]");
+                    return true;
+                }
+                String targetName = args[1];
+                java.util.UUID targetId = resolvePlayerId(targetName);
+                if (targetId == null) {
+                    sender.sendMessage("§c§l[Audit] §cUnknown player " + targetName);
+                    return true;
+                }
+                long now = System.currentTimeMillis();
+                long from = now - hoursBack * 3_600_000L;
+                long to = now - hoursUntil * 3_600_000L;
+
+                var plugin = org.bukkit.Bukkit.getPluginManager().getPlugin("EventPlugin");
+                sender.sendMessage("§6§l[Audit] §eSearching " + targetName + " (" + hoursBack + "h - " + hoursUntil + "h ago)...");
+                org.bukkit.Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                    java.util.List<String> lines;
+                    try {
+                        lines = AuditLog.query(targetId, from, to, 20);
+                    } catch (java.io.IOException e) {
+                        org.bukkit.Bukkit.getScheduler().runTask(plugin, () ->
+                                sender.sendMessage("§c§l[Audit] §cFailed to read audit log: " + e.getMessage()));
+                        return;
+                    }
+                    org.bukkit.Bukkit.getScheduler().runTask(plugin, () -> {
+                        if (lines.isEmpty()) {
+                            sender.sendMessage("§7  No entries");
+                            return;
+                        }
+                        var timeFormat = new java.text.SimpleDateFormat("MM-dd HH:mm:ss");
+                        for (String line : lines) {
+                            // time, type, player, event, amount, multiplier, detail
+                            String[] f = line.split("\t", 7);
+                            if (f.length < 7) continue;
+                            String time = timeFormat.format(new java.util.Date(Long.parseLong(f[0])));
+                            String detail = f[6].equals("-") ? "" : " §8" + f[6];
+                            String multiplier = f[1].equals("progress") ? " §7x" + f[5] : "";
+                            sender.sendMessage("§7" + time + " §e" + f[1] + " §f" + f[3] + " §a" + f[4] + multiplier + detail);
+                        }
+                    });
+                });
+            }
+            case "pool" -> {
+                if (!sender.hasPermission("eventplugin.admin")) return true;
+                sender.sendMessage("§6§l[Instances] §ePre-pasted instance pools:");
+                java.util.List<org.maks.eventPlugin.eventsystem.InstancePool.Stats> stats = new java.util.ArrayList<>();
+                if (fullMoonManager != null) stats.addAll(fullMoonManager.getMap2InstanceManager().getPoolStats());
+                if (newMoonManager != null) stats.addAll(newMoonManager.getMap2InstanceManager().getPoolStats());
+                for (var pool : stats) {
+                    long total = pool.hits() + pool.misses();
+                    int hitRate = total > 0 ? (int) (pool.hits() * 100 / total) : 0;
+                    sender.sendMessage("§7  " + pool.pool() + " (" + pool.key() + "): §a" + pool.ready() + " ready §7| hits §e" + pool.hits()
+                            + " §7misses §e" + pool.misses() + " §7(" + hitRate + "%)");
+                }
+            }
+            case "reload" -> {
+                if (!sender.hasPermission("eventplugin.admin")) return true;
+                config.reload();
+                sender.sendMessage("§a§l[Event] §aConfig reloaded (progress modifiers rebuilt)");
+            }
+            case "instances" -> {
+                if (!sender.hasPermission("eventplugin.admin")) return true;
+                sender.sendMessage("§6§l[Instances] §eInstance states (now | entered | avg time):");
+                for (var state : org.maks.eventPlugin.eventsystem.InstanceLifecycle.getAllStats()) {
+                    if (state.current() == 0 && state.entered() == 0) continue;
+                    sender.sendMessage("§7  " + state.name() + " " + state.state() + ": §a" + state.current()
+                            + " §7| §e" + state.entered() + " §7| §e" + state.averageMillis() + "ms");
+                }
+            }
             default -> sender.sendMessage("Unknown subcommand");
         }
         return true;
     }
+
+    /**
+     * UUID of an online or previously seen player, without a blocking profile lookup.
+     *
+     * @return The UUID, or null if the name is unknown to this server
+     */
+    private static java.util.UUID resolvePlayerId(String name) {
+        Player online = org.bukkit.Bukkit.getPlayerExact(name);
+        if (online != null) return online.getUniqueId();
+        org.bukkit.OfflinePlayer cached = org.bukkit.Bukkit.getOfflinePlayerIfCached(name);
+        return cached != null ? cached.getUniqueId() : null;
+    }
 }
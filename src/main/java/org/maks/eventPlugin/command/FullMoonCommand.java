@@ -4,6 +4,7 @@ import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.maks.eventPlugin.eventsystem.AuditLog;
 import org.maks.eventPlugin.fullmoon.FullMoonManager;
 import org.maks.eventPlugin.fullmoon.gui.AdminQuestRewardEditorGUI;
 import org.maks.eventPlugin.fullmoon.gui.MapSelectionGUI;
@@ -99,6 +100,7 @@ public class FullMoonCommand implements CommandExecutor {
             }
             case "reset" -> {
                 fullMoonManager.resetAllData();
+                AuditLog.admin(player.getName(), "full_moon", "reset all data");
                 player.sendMessage("§a§l[Full Moon Admin] §aAll Full Moon data has been reset!");
             }
             case "resetplayer" -> {
@@ -114,6 +116,7 @@ public class FullMoonCommand implements CommandExecutor {
                 }
 
                 fullMoonManager.resetPlayerData(target.getUniqueId());
+                AuditLog.admin(player.getName(), "full_moon", "reset data of " + target.getName() + " (" + target.getUniqueId() + ")");
                 player.sendMessage("§a§l[Full Moon Admin] §aReset data for player: " + target.getName());
             }
             default -> {
@@ -8,10 +8,15 @@ import org.bukkit.configuration.ConfigurationSection;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 public class ConfigManager {
     private final JavaPlugin plugin;
     private FileConfiguration config;
+    // Components that cache config values and rebuild them on reload
+    private final List<Consumer<ConfigManager>> reloadHooks = new ArrayList<>();
 
     public ConfigManager(JavaPlugin plugin) {
         this.plugin = plugin;
@@ -58,8 +63,18 @@ public class ConfigManager {
         return config.getConfigurationSection(path);
     }
 
+    /**
+     * Run a hook after every {@link #reload}.
+     */
+    public void onReload(Consumer<ConfigManager> hook) {
+        reloadHooks.add(hook);
+    }
+
     public void reload() {
         load();
+        for (Consumer<ConfigManager> hook : reloadHooks) {
+            hook.accept(this);
+        }
     }
 
     /**
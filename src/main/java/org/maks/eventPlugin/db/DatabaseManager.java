@@ -132,6 +132,18 @@ public class DatabaseManager {
             st.executeUpdate("CREATE TABLE IF NOT EXISTS event_buffs(" +
                     "player_uuid VARCHAR(36) PRIMARY KEY," +
                     "buff_end BIGINT NOT NULL)");
+            // Per-player kill statistics (lifetime and current edition)
+            st.executeUpdate("CREATE TABLE IF NOT EXISTS event_kill_stats(" +
+                    "player_uuid VARCHAR(36)," +
+                    "event_id VARCHAR(100)," +
+                    "mob_type VARCHAR(100)," +
+                    "lifetime INT NOT NULL," +
+                    "edition INT NOT NULL," +
+                    "PRIMARY KEY(player_uuid, event_id, mob_type))");
+            // Server-wide community goal totals, all goals in one row
+            st.executeUpdate("CREATE TABLE IF NOT EXISTS community_goals(" +
+                    "id VARCHAR(32) PRIMARY KEY," +
+                    "counters TEXT NOT NULL)");
 
             // Full Moon quest tables
             st.executeUpdate("CREATE TABLE IF NOT EXISTS full_moon_quest_progress(" +
@@ -0,0 +1,300 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.maks.eventPlugin.config.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sliding-window rate tracking for progress, kills and reward claims.
+ *
+ * Every player has one ring buffer of per-second buckets per metric, so recording
+ * a sample and reading the current window total are O(1). When a window total
+ * passes a configured threshold the player is:
+ * - flag: reported to the log and online admins (once per window)
+ * - throttle: denied further progress and claims until the rate drops
+ * - quarantine: denied progress and claims until an admin clears them
+ *
+ * Throttle and quarantine only apply when enforcing; by default the monitor
+ * only flags. Refused grants and claims are not counted, so a throttled player
+ * cannot push themselves into quarantine, and the player is told their
+ * progress is on hold. Kills always count, since they already happened.
+ *
+ * Main thread only. Configured from the "anomaly" config section.
+ */
+public final class AnomalyMonitor {
+
+    public enum Metric { PROGRESS, KILLS, CLAIMS }
+
+    public record Rate(UUID playerId, String name, long value, boolean quarantined) {}
+
+    private record Thresholds(long flag, long throttle, long quarantine) {}
+
+    /**
+     * Ring buffer of per-second counts covering the last {@code buckets.length} seconds.
+     */
+    private static final class Window {
+        private final long[] buckets;
+        private long lastSecond;
+        private long sum;
+
+        Window(int seconds) {
+            this.buckets = new long[seconds];
+        }
+
+        void add(long second, long amount) {
+            advance(second);
+            buckets[(int) (second % buckets.length)] += amount;
+            sum += amount;
+        }
+
+        long sum(long second) {
+            advance(second);
+            return sum;
+        }
+
+        private void advance(long second) {
+            long gap = second - lastSecond;
+            if (gap <= 0) return;
+            if (gap >= buckets.length) {
+                Arrays.fill(buckets, 0L);
+                sum = 0L;
+            } else {
+                for (long s = lastSecond + 1; s <= second; s++) {
+                    int index = (int) (s % buckets.length);
+                    sum -= buckets[index];
+                    buckets[index] = 0L;
+                }
+            }
+            lastSecond = second;
+        }
+    }
+
+    private static final class Tracker {
+        final String name;
+        final Window[] windows = new Window[Metric.values().length];
+        final long[] flaggedAt = new long[Metric.values().length];
+        long heldNoticeAt;
+        boolean quarantined;
+
+        Tracker(String name, int seconds) {
+            this.name = name;
+            for (int i = 0; i < windows.length; i++) {
+                windows[i] = new Window(seconds);
+            }
+        }
+    }
+
+    private static final Map<UUID, Tracker> trackers = new HashMap<>();
+    private static final Thresholds[] thresholds = new Thresholds[Metric.values().length];
+
+    // Seconds between "progress on hold" messages to the same player
+    private static final long HELD_NOTICE_SECONDS = 30L;
+
+    private static boolean enabled = true;
+    private static boolean enforce = false;
+    private static int windowSeconds = 60;
+
+    static {
+        thresholds[Metric.PROGRESS.ordinal()] = new Thresholds(20000, 40000, 80000);
+        thresholds[Metric.KILLS.ordinal()] = new Thresholds(600, 1200, 2400);
+        thresholds[Metric.CLAIMS.ordinal()] = new Thresholds(10, 20, 40);
+    }
+
+    private AnomalyMonitor() {
+    }
+
+    public static void configure(ConfigManager config) {
+        ConfigurationSection sec = config.getSection("anomaly");
+        if (sec == null) return;
+
+        enabled = sec.getBoolean("enabled", true);
+        enforce = sec.getBoolean("enforce", false);
+        windowSeconds = Math.max(1, sec.getInt("window_seconds", 60));
+        for (Metric metric : Metric.values()) {
+            ConfigurationSection m = sec.getConfigurationSection(metric.name().toLowerCase());
+            if (m == null) continue;
+            Thresholds current = thresholds[metric.ordinal()];
+            thresholds[metric.ordinal()] = new Thresholds(
+                    m.getLong("flag", current.flag()),
+                    m.getLong("throttle", current.throttle()),
+                    m.getLong("quarantine", current.quarantine()));
+        }
+        // Window size may have changed
+        trackers.values().removeIf(t -> !t.quarantined);
+    }
+
+    /**
+     * Record a progress grant.
+     *
+     * @return false if the grant should be dropped (throttled or quarantined)
+     */
+    public static boolean recordProgress(Player player, long amount) {
+        return record(player, Metric.PROGRESS, amount);
+    }
+
+    /**
+     * Record a player kill of an event mob. Kills are never refused.
+     */
+    public static void recordKill(Player player) {
+        record(player, Metric.KILLS, 1);
+    }
+
+    /**
+     * Record a reward claim attempt.
+     *
+     * @return false if the claim should be refused (throttled or quarantined)
+     */
+    public static boolean recordClaim(Player player) {
+        return record(player, Metric.CLAIMS, 1);
+    }
+
+    public static boolean isQuarantined(UUID playerId) {
+        Tracker tracker = trackers.get(playerId);
+        return tracker != null && tracker.quarantined;
+    }
+
+    /**
+     * Lift a quarantine and reset the player's windows.
+     *
+     * @return true if the player was quarantined
+     */
+    public static boolean clear(UUID playerId) {
+        Tracker tracker = trackers.remove(playerId);
+        return tracker != null && tracker.quarantined;
+    }
+
+    /**
+     * Current highest window totals for a metric, highest first.
+     * Idle, non-quarantined trackers are dropped along the way.
+     */
+    public static List<Rate> top(Metric metric, int limit) {
+        long second = nowSecond();
+        List<Rate> rates = new ArrayList<>();
+        Iterator<Map.Entry<UUID, Tracker>> it = trackers.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Tracker> entry = it.next();
+            Tracker tracker = entry.getValue();
+            if (isIdle(tracker, second)) {
+                it.remove();
+                continue;
+            }
+            rates.add(new Rate(entry.getKey(), tracker.name, tracker.windows[metric.ordinal()].sum(second), tracker.quarantined));
+        }
+        rates.sort((a, b) -> Long.compare(b.value(), a.value()));
+        return rates.size() > limit ? rates.subList(0, limit) : rates;
+    }
+
+    /**
+     * Drop idle, non-quarantined trackers. Run when a player quits; a tracker
+     * still inside its window is kept, so relogging does not reset a rate.
+     */
+    public static void evictIdle() {
+        long second = nowSecond();
+        trackers.values().removeIf(tracker -> isIdle(tracker, second));
+    }
+
+    public static int getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    private static boolean record(Player player, Metric metric, long amount) {
+        if (!enabled) return true;
+
+        Tracker tracker = trackers.computeIfAbsent(player.getUniqueId(), k -> new Tracker(player.getName(), windowSeconds));
+        long second = nowSecond();
+        if (tracker.quarantined && metric != Metric.KILLS) {
+            hold(player, tracker, second);
+            return false;
+        }
+
+        Window window = tracker.windows[metric.ordinal()];
+        long total = window.sum(second) + amount;
+        Thresholds limits = thresholds[metric.ordinal()];
+
+        if (total >= limits.flag() && second - tracker.flaggedAt[metric.ordinal()] >= windowSeconds) {
+            tracker.flaggedAt[metric.ordinal()] = second;
+            report(player, metric, total, level(total, limits));
+        }
+        if (!enforce || metric == Metric.KILLS) {
+            window.add(second, amount);
+            return true;
+        }
+
+        // Refused grants and claims are not added to the window
+        if (total >= limits.quarantine()) {
+            tracker.quarantined = true;
+            report(player, metric, total, "quarantined");
+            hold(player, tracker, second);
+            return false;
+        }
+        if (total >= limits.throttle()) {
+            hold(player, tracker, second);
+            return false;
+        }
+
+        // Progress and claims are refused while any other metric is over its throttle
+        for (Metric other : Metric.values()) {
+            if (other != metric && tracker.windows[other.ordinal()].sum(second) >= thresholds[other.ordinal()].throttle()) {
+                hold(player, tracker, second);
+                return false;
+            }
+        }
+        window.add(second, amount);
+        return true;
+    }
+
+    private static boolean isIdle(Tracker tracker, long second) {
+        if (tracker.quarantined) return false;
+        for (Window window : tracker.windows) {
+            if (window.sum(second) > 0) return false;
+        }
+        return true;
+    }
+
+    private static String level(long total, Thresholds limits) {
+        if (!enforce) {
+            if (total >= limits.quarantine()) return "flagged (over quarantine limit)";
+            if (total >= limits.throttle()) return "flagged (over throttle limit)";
+            return "flagged";
+        }
+        return total >= limits.throttle() ? "throttled" : "flagged";
+    }
+
+    /**
+     * Tell the player their progress is held back (at most every HELD_NOTICE_SECONDS).
+     */
+    private static void hold(Player player, Tracker tracker, long second) {
+        if (second - tracker.heldNoticeAt < HELD_NOTICE_SECONDS) return;
+        tracker.heldNoticeAt = second;
+        if (tracker.quarantined) {
+            player.sendMessage("§c§l[Event] §cYour event progress and reward claims are on hold until an admin reviews your activity.");
+        } else {
+            player.sendMessage("§c§l[Event] §cYou are gaining event progress unusually fast; progress and claims are on hold for a moment.");
+        }
+    }
+
+    private static void report(Player player, Metric metric, long total, String action) {
+        String message = "[Anomaly] " + player.getName() + " " + action + ": "
+                + total + " " + metric.name().toLowerCase() + " in " + windowSeconds + "s";
+        Bukkit.getLogger().warning("[EventPlugin] " + message);
+        for (Player admin : Bukkit.getOnlinePlayers()) {
+            if (admin.hasPermission("eventplugin.admin")) {
+                admin.sendMessage("§c§l[Anomaly] §e" + player.getName() + " §c" + action + " §7("
+                        + total + " " + metric.name().toLowerCase() + " / " + windowSeconds + "s)");
+            }
+        }
+    }
+
+    private static long nowSecond() {
+        return System.currentTimeMillis() / 1000L;
+    }
+}
@@ -0,0 +1,298 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.maks.eventPlugin.config.ConfigManager;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only audit trail of progress grants, quest transitions, reward claims
+ * and admin edits.
+ *
+ * Callers only enqueue an entry on a lock-free queue; an async task drains it
+ * once per second into gzip files under plugins/EventPlugin/audit. Files are
+ * named after the time they were opened and rotate by age and size, so a query
+ * only decompresses files overlapping the requested range, streaming line by line.
+ *
+ * Line format (tab separated):
+ * time, type, player, event, amount, multiplier, detail
+ */
+public final class AuditLog {
+
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".log.gz";
+
+    private record Entry(long time, String type, UUID player, String eventId, long amount, double multiplier, String detail) {}
+
+    private static final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private static final Object writeLock = new Object();
+
+    private static boolean enabled;
+    private static File directory;
+    private static long rotateMillis = 3_600_000L;
+    private static long maxFileBytes = 8L * 1024 * 1024;
+    private static long retentionMillis = 30L * 86_400_000L;
+    private static BukkitTask drainTask;
+
+    // Writer state (guarded by writeLock)
+    private static CountingOutputStream currentBytes;
+    private static BufferedWriter writer;
+    private static long currentOpenedAt;
+
+    private AuditLog() {
+    }
+
+    public static void start(JavaPlugin plugin, ConfigManager config) {
+        ConfigurationSection sec = config.getSection("audit");
+        enabled = sec == null || sec.getBoolean("enabled", true);
+        if (!enabled) return;
+        if (sec != null) {
+            rotateMillis = Math.max(1, sec.getInt("rotate_minutes", 60)) * 60_000L;
+            maxFileBytes = Math.max(1, sec.getInt("max_file_mb", 8)) * 1024L * 1024L;
+            retentionMillis = Math.max(1, sec.getInt("retention_days", 30)) * 86_400_000L;
+        }
+
+        directory = new File(plugin.getDataFolder(), "audit");
+        if (!directory.exists() && !directory.mkdirs()) {
+            Bukkit.getLogger().warning("[EventPlugin] Could not create audit directory, audit log disabled");
+            enabled = false;
+            return;
+        }
+        drainTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, AuditLog::drain, 20L, 20L);
+    }
+
+    /**
+     * Write everything still queued and close the current file (blocking).
+     */
+    public static void stop() {
+        if (drainTask != null) {
+            drainTask.cancel();
+            drainTask = null;
+        }
+        if (!enabled) return;
+        drain();
+        synchronized (writeLock) {
+            closeWriter();
+        }
+    }
+
+    // ==================== RECORDING ====================
+
+    public static void progress(UUID player, String eventId, long amount, double multiplier, String source) {
+        record("progress", player, eventId, amount, multiplier, source);
+    }
+
+    public static void quest(UUID player, String eventId, int questId, String transition) {
+        record("quest_" + transition, player, eventId, questId, 1.0, null);
+    }
+
+    public static void claim(UUID player, String eventId, int required) {
+        record("claim", player, eventId, required, 1.0, null);
+    }
+
+    /**
+     * A progress grant or reward claim refused by the {@link AnomalyMonitor}.
+     *
+     * @param action "throttled" or "quarantined"
+     * @param detail What was refused (the progress source, or the claimed threshold)
+     */
+    public static void refused(UUID player, String eventId, String action, long amount, double multiplier, String detail) {
+        record(action, player, eventId, amount, multiplier, detail);
+    }
+
+    public static void admin(String actor, String eventId, String detail) {
+        record("admin", null, eventId, 0, 1.0, actor + ": " + detail);
+    }
+
+    private static void record(String type, UUID player, String eventId, long amount, double multiplier, String detail) {
+        if (!enabled) return;
+        queue.add(new Entry(System.currentTimeMillis(), type, player, eventId, amount, multiplier, detail));
+    }
+
+    // ==================== QUERY ====================
+
+    /**
+     * Read the entries of one player inside a time range, oldest first.
+     * Blocking: call off the main thread.
+     *
+     * @param player Player to look up
+     * @param from Start of the range (epoch millis, inclusive)
+     * @param to End of the range (epoch millis, inclusive)
+     * @param limit Maximum number of lines returned (the most recent ones are kept)
+     */
+    public static List<String> query(UUID player, long from, long to, int limit) throws IOException {
+        Deque<String> result = new ArrayDeque<>();
+        if (!enabled) return new ArrayList<>();
+        drain();
+
+        String playerKey = player.toString();
+        List<File> files = listFiles();
+        for (int i = 0; i < files.size(); i++) {
+            long start = openedAt(files.get(i));
+            long end = i + 1 < files.size() ? openedAt(files.get(i + 1)) : Long.MAX_VALUE;
+            if (end < from || start > to) continue;
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(new FileInputStream(files.get(i))), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = readLine(reader)) != null) {
+                    int firstTab = line.indexOf('\t');
+                    if (firstTab <= 0) continue;
+                    long time;
+                    try {
+                        time = Long.parseLong(line.substring(0, firstTab));
+                    } catch (NumberFormatException e) {
+                        continue;
+                    }
+                    if (time < from || time > to) continue;
+                    if (!line.contains(playerKey)) continue;
+
+                    result.addLast(line);
+                    if (result.size() > limit) result.removeFirst();
+                }
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Read a line, treating the unfinished tail of the file currently being
+     * written as the end of the stream.
+     */
+    private static String readLine(BufferedReader reader) throws IOException {
+        try {
+            return reader.readLine();
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    // ==================== WRITER ====================
+
+    private static void drain() {
+        synchronized (writeLock) {
+            if (queue.isEmpty()) return;
+            try {
+                Entry entry;
+                while ((entry = queue.poll()) != null) {
+                    if (writer == null || entry.time() - currentOpenedAt >= rotateMillis || currentBytes.count >= maxFileBytes) {
+                        rotate(entry.time());
+                    }
+                    writer.write(format(entry));
+                    writer.write('\n');
+                }
+                // Sync flush keeps the file readable up to this point while it stays open
+                writer.flush();
+            } catch (IOException e) {
+                Bukkit.getLogger().warning("[EventPlugin] Failed to write audit log: " + e.getMessage());
+                closeWriter();
+            }
+        }
+    }
+
+    private static void rotate(long now) throws IOException {
+        closeWriter();
+        pruneOldFiles(now);
+
+        File file = new File(directory, PREFIX + now + SUFFIX);
+        currentBytes = new CountingOutputStream(new FileOutputStream(file, true));
+        writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(currentBytes, true), StandardCharsets.UTF_8));
+        currentOpenedAt = now;
+    }
+
+    private static void closeWriter() {
+        if (writer == null) return;
+        try {
+            writer.close();
+        } catch (IOException e) {
+            Bukkit.getLogger().warning("[EventPlugin] Failed to close audit log: " + e.getMessage());
+        }
+        writer = null;
+        currentBytes = null;
+    }
+
+    private static void pruneOldFiles(long now) {
+        List<File> files = listFiles();
+        // A file is only expired once the next one (which ends its range) is old enough too
+        for (int i = 0; i + 1 < files.size(); i++) {
+            if (now - openedAt(files.get(i + 1)) > retentionMillis && !files.get(i).delete()) {
+                Bukkit.getLogger().warning("[EventPlugin] Could not delete old audit file " + files.get(i).getName());
+            }
+        }
+    }
+
+    private static List<File> listFiles() {
+        List<File> files = new ArrayList<>();
+        File[] listed = directory.listFiles((dir, name) -> name.startsWith(PREFIX) && name.endsWith(SUFFIX));
+        if (listed == null) return files;
+        for (File file : listed) {
+            if (openedAt(file) >= 0) files.add(file);
+        }
+        files.sort((a, b) -> Long.compare(openedAt(a), openedAt(b)));
+        return files;
+    }
+
+    private static long openedAt(File file) {
+        String name = file.getName();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return -1L;
+        }
+    }
+
+    private static String format(Entry entry) {
+        return entry.time() + "\t" + entry.type()
+                + "\t" + (entry.player() != null ? entry.player() : "-")
+                + "\t" + (entry.eventId() != null ? entry.eventId() : "-")
+                + "\t" + entry.amount()
+                + "\t" + entry.multiplier()
+                + "\t" + (entry.detail() != null ? entry.detail().replace('\t', ' ').replace('\n', ' ') : "-");
+    }
+
+    /**
+     * Tracks how many compressed bytes were written to the current file.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -1,29 +1,73 @@
 package org.maks.eventPlugin.eventsystem;
 
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.java.JavaPlugin;
 import org.maks.eventPlugin.db.DatabaseManager;
 
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
+import java.sql.SQLException;
+
 /**
  * Manages the attrie buff for players.
+ * The buff end is loaded into the player's session state asynchronously on
+ * join; until the load finishes the player counts as having no buff.
  */
-import java.sql.SQLException;
-
-public class BuffManager {
-    private final Map<UUID, Instant> buffEnd = new HashMap<>();
+public class BuffManager implements Listener {
+    private final JavaPlugin plugin;
     private final DatabaseManager database;
+    private final PlayerStateManager playerStates;
 
-    public BuffManager(DatabaseManager database) {
+    public BuffManager(JavaPlugin plugin, DatabaseManager database, PlayerStateManager playerStates) {
+        this.plugin = plugin;
         this.database = database;
-        loadBuffs();
+        this.playerStates = playerStates;
+    }
+
+    public PlayerStateManager getPlayerStates() {
+        return playerStates;
+    }
+
+    Instant getBuffEnd(Player player) {
+        return playerStates.get(player).getAttrieBuffEnd();
+    }
+
+    @EventHandler
+    public void onJoin(PlayerJoinEvent event) {
+        load(event.getPlayer());
+    }
+
+    /**
+     * Load the buffs of players already online (plugin reload).
+     */
+    public void loadOnline() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            load(player);
+        }
+    }
+
+    private void load(Player player) {
+        UUID uuid = player.getUniqueId();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            Instant end = loadBuff(uuid);
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (Bukkit.getPlayer(uuid) == null) return;
+                PlayerEventState state = playerStates.get(uuid);
+                // A buff applied while loading is newer than the stored one
+                if (state == null || state.isAttrieLoaded()) return;
+                state.setAttrieBuffEnd(end);
+                state.invalidateProgressMultiplier();
+            });
+        });
     }
 
     public boolean hasBuff(Player player) {
-        Instant end = buffEnd.get(player.getUniqueId());
+        Instant end = getBuffEnd(player);
         return end != null && end.isAfter(Instant.now());
     }
 
@@ -32,7 +76,7 @@ public class BuffManager {
      * Returns 0 if the player has no active buff.
      */
     public long getRemaining(Player player) {
-        Instant end = buffEnd.get(player.getUniqueId());
+        Instant end = getBuffEnd(player);
         if (end == null) return 0L;
         long remaining = end.toEpochMilli() - Instant.now().toEpochMilli();
         return Math.max(0L, remaining);
@@ -40,23 +84,26 @@ public class BuffManager {
 
     public void applyBuff(Player player, int days) {
         Instant end = Instant.now().plusSeconds(days * 24L * 3600L);
-        buffEnd.put(player.getUniqueId(), end);
+        PlayerEventState state = playerStates.get(player);
+        state.setAttrieBuffEnd(end);
+        state.invalidateProgressMultiplier();
         saveBuff(player.getUniqueId(), end);
     }
 
-    private void loadBuffs() {
+    private Instant loadBuff(UUID uuid) {
         try (var conn = database.getConnection();
-             var ps = conn.prepareStatement("SELECT player_uuid, buff_end FROM event_buffs")) {
+             var ps = conn.prepareStatement("SELECT buff_end FROM event_buffs WHERE player_uuid=?")) {
+            ps.setString(1, uuid.toString());
 
             try (var rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    UUID id = UUID.fromString(rs.getString(1));
-                    long end = rs.getLong(2);
-                    if (end > 0) buffEnd.put(id, Instant.ofEpochMilli(end));
+                if (rs.next()) {
+                    long end = rs.getLong(1);
+                    if (end > 0) return Instant.ofEpochMilli(end);
                 }
             }
         } catch (SQLException ignored) {
         }
+        return null;
     }
 
     private void saveBuff(UUID uuid, Instant end) {
@@ -0,0 +1,109 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Spatial index from chunk to the instances whose region overlaps it.
+ * Keys are the chunk coordinates packed into a long, one table per world.
+ *
+ * Instances are added when they are allocated and removed when they are freed,
+ * so "which instance contains this location" is one hash lookup plus an exact
+ * bounds check against the (usually single) instance registered for that chunk.
+ * Main thread only.
+ *
+ * @param <I> Instance type
+ */
+public class ChunkInstanceIndex<I> {
+
+    private record Entry<I>(I instance, UUID worldId, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        boolean contains(int x, int y, int z) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+    }
+
+    private final Map<UUID, Map<Long, List<Entry<I>>>> worlds = new HashMap<>();
+    private final Map<I, Entry<I>> entries = new HashMap<>();
+
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Register an instance covering the given block bounds (inclusive).
+     */
+    public void add(I instance, World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        remove(instance);
+
+        Entry<I> entry = new Entry<>(instance, world.getUID(),
+                Math.min(minX, maxX), Math.min(minY, maxY), Math.min(minZ, maxZ),
+                Math.max(minX, maxX), Math.max(minY, maxY), Math.max(minZ, maxZ));
+        Map<Long, List<Entry<I>>> chunks = worlds.computeIfAbsent(world.getUID(), k -> new HashMap<>());
+
+        for (int cx = entry.minX() >> 4; cx <= entry.maxX() >> 4; cx++) {
+            for (int cz = entry.minZ() >> 4; cz <= entry.maxZ() >> 4; cz++) {
+                chunks.computeIfAbsent(chunkKey(cx, cz), k -> new ArrayList<>(1)).add(entry);
+            }
+        }
+        entries.put(instance, entry);
+    }
+
+    /**
+     * Unregister an instance from every chunk it covered.
+     */
+    public void remove(I instance) {
+        Entry<I> entry = entries.remove(instance);
+        if (entry == null) return;
+
+        Map<Long, List<Entry<I>>> chunks = worlds.get(entry.worldId());
+        if (chunks == null) return;
+
+        for (int cx = entry.minX() >> 4; cx <= entry.maxX() >> 4; cx++) {
+            for (int cz = entry.minZ() >> 4; cz <= entry.maxZ() >> 4; cz++) {
+                long key = chunkKey(cx, cz);
+                List<Entry<I>> list = chunks.get(key);
+                if (list == null) continue;
+                list.remove(entry);
+                if (list.isEmpty()) chunks.remove(key);
+            }
+        }
+        if (chunks.isEmpty()) worlds.remove(entry.worldId());
+    }
+
+    /**
+     * Get the instance whose bounds contain the block position, or null.
+     */
+    public I get(World world, int x, int y, int z) {
+        if (world == null) return null;
+        Map<Long, List<Entry<I>>> chunks = worlds.get(world.getUID());
+        if (chunks == null) return null;
+
+        List<Entry<I>> list = chunks.get(chunkKey(x >> 4, z >> 4));
+        if (list == null) return null;
+
+        for (int i = 0; i < list.size(); i++) {
+            Entry<I> entry = list.get(i);
+            if (entry.contains(x, y, z)) return entry.instance();
+        }
+        return null;
+    }
+
+    public I get(Location location) {
+        return get(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public void clear() {
+        worlds.clear();
+        entries.clear();
+    }
+}
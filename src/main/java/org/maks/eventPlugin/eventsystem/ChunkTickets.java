@@ -0,0 +1,90 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Plugin chunk tickets for instance areas, counted per chunk.
+ *
+ * Bukkit keeps one ticket per plugin and chunk, so two instances sharing a
+ * chunk (slots closer than a chunk apart) would drop each other's ticket.
+ * The count here keeps the ticket until the last holder releases it. Chunks
+ * are loaded (and generated) through {@link World#getChunkAtAsync}, never
+ * synchronously. Main thread only; a release from another thread is moved
+ * to the main thread.
+ */
+public final class ChunkTickets {
+
+    // World -> chunk key -> holders
+    private static final Map<UUID, Map<Long, Integer>> holders = new HashMap<>();
+
+    private ChunkTickets() {
+    }
+
+    /**
+     * Load the chunk columns of a box (inclusive block bounds) asynchronously
+     * and hold a ticket on each until {@link #release}.
+     *
+     * @return Completes on the main thread once every chunk is loaded
+     */
+    public static CompletableFuture<Void> acquire(JavaPlugin plugin, World world, int minX, int minZ, int maxX, int maxZ) {
+        Map<Long, Integer> counts = holders.computeIfAbsent(world.getUID(), uid -> new HashMap<>());
+        List<CompletableFuture<Chunk>> loads = new ArrayList<>();
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                long key = key(cx, cz);
+                counts.merge(key, 1, Integer::sum);
+                loads.add(world.getChunkAtAsync(cx, cz).thenApply(chunk -> {
+                    // Released while loading: do not pin it
+                    if (counts.getOrDefault(key, 0) > 0) {
+                        world.addPluginChunkTicket(chunk.getX(), chunk.getZ(), plugin);
+                    }
+                    return chunk;
+                }));
+            }
+        }
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Release the tickets taken by {@link #acquire} for the same box.
+     */
+    public static void release(JavaPlugin plugin, World world, int minX, int minZ, int maxX, int maxZ) {
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(plugin, () -> release(plugin, world, minX, minZ, maxX, maxZ));
+            return;
+        }
+
+        Map<Long, Integer> counts = holders.get(world.getUID());
+        if (counts == null) return;
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                long key = key(cx, cz);
+                Integer count = counts.get(key);
+                if (count == null) continue;
+                if (count > 1) {
+                    counts.put(key, count - 1);
+                } else {
+                    counts.remove(key);
+                    world.removePluginChunkTicket(cx, cz, plugin);
+                }
+            }
+        }
+        if (counts.isEmpty()) {
+            holders.remove(world.getUID());
+        }
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
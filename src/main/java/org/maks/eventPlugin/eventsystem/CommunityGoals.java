@@ -0,0 +1,296 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.maks.eventPlugin.config.ConfigManager;
+import org.maks.eventPlugin.db.DatabaseManager;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-wide community goals ("the server killed 1,000,000 werewolves").
+ *
+ * Each goal counts kills of its configured mob types into a {@link LongAdder},
+ * so increments never contend, whichever thread processes the kill. Totals are
+ * snapshotted periodically and written in order on one DB thread as one row in
+ * community_goals, and a main-thread task fires milestone messages and commands
+ * once a goal passes them.
+ */
+public class CommunityGoals {
+
+    private static final String ROW_ID = "global";
+    private static final Goal[] NO_GOALS = new Goal[0];
+
+    public record Milestone(long at, String message, List<String> commands) {}
+
+    public static final class Goal {
+        private final String id;
+        private final String name;
+        private final String eventId;
+        private final List<String> mobs;
+        private final long target;
+        private final List<Milestone> milestones;
+        private final LongAdder count = new LongAdder();
+        // Index of the next milestone to fire (main thread only)
+        private int nextMilestone;
+
+        Goal(String id, String name, String eventId, List<String> mobs, long target, List<Milestone> milestones) {
+            this.id = id;
+            this.name = name;
+            this.eventId = eventId;
+            this.mobs = mobs;
+            this.target = target;
+            this.milestones = milestones;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getTarget() {
+            return target;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public List<Milestone> getMilestones() {
+            return milestones;
+        }
+
+        /**
+         * Next milestone not yet reached, or null if all are done.
+         */
+        public Milestone getNextMilestone() {
+            return nextMilestone < milestones.size() ? milestones.get(nextMilestone) : null;
+        }
+
+        boolean matches(String mobType) {
+            if (mobs.isEmpty()) return true;
+            for (String mob : mobs) {
+                // Entries also match their difficulty variants (sanguis -> sanguis_hard)
+                if (mobType.equals(mob) || mobType.startsWith(mob + "_")) return true;
+            }
+            return false;
+        }
+    }
+
+    private final JavaPlugin plugin;
+    private final DatabaseManager database;
+    private final Map<String, EventManager> events;
+
+    private final List<Goal> goals = new ArrayList<>();
+    // Exact mob type -> goals counting it, resolved on first kill of that type
+    private final Map<String, Goal[]> goalsByMob = new ConcurrentHashMap<>();
+
+    // One thread, so a periodic save can never land after the final one
+    private final ExecutorService dbThread = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "EventPlugin-CommunityGoals");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private BukkitTask saveTask;
+    private BukkitTask milestoneTask;
+
+    public CommunityGoals(JavaPlugin plugin, DatabaseManager database, Map<String, EventManager> events) {
+        this.plugin = plugin;
+        this.database = database;
+        this.events = events;
+    }
+
+    /**
+     * Load goal definitions from config, restore saved totals and start the
+     * save and milestone tasks.
+     */
+    public void start(ConfigManager config) {
+        ConfigurationSection sec = config.getSection("community_goals");
+        if (sec == null) return;
+
+        ConfigurationSection goalsSec = sec.getConfigurationSection("goals");
+        if (goalsSec != null) {
+            for (String id : goalsSec.getKeys(false)) {
+                ConfigurationSection g = goalsSec.getConfigurationSection(id);
+                if (g == null) continue;
+
+                List<Milestone> milestones = new ArrayList<>();
+                ConfigurationSection ms = g.getConfigurationSection("milestones");
+                if (ms != null) {
+                    for (String key : ms.getKeys(false)) {
+                        ConfigurationSection m = ms.getConfigurationSection(key);
+                        if (m == null) continue;
+                        milestones.add(new Milestone(m.getLong("at"), m.getString("message", ""), m.getStringList("commands")));
+                    }
+                }
+                milestones.sort((a, b) -> Long.compare(a.at(), b.at()));
+
+                List<String> mobs = new ArrayList<>();
+                for (String mob : g.getStringList("mobs")) {
+                    mobs.add(mob.toLowerCase(Locale.ROOT));
+                }
+
+                goals.add(new Goal(id, g.getString("name", id), g.getString("event"), mobs,
+                        g.getLong("target", 0L), Collections.unmodifiableList(milestones)));
+            }
+        }
+        if (goals.isEmpty()) return;
+
+        load();
+        // Milestones already passed before the restart must not fire again
+        for (Goal goal : goals) {
+            long count = goal.getCount();
+            while (goal.nextMilestone < goal.milestones.size() && goal.milestones.get(goal.nextMilestone).at() <= count) {
+                goal.nextMilestone++;
+            }
+        }
+
+        long saveTicks = Math.max(1, sec.getInt("save_interval_seconds", 60)) * 20L;
+        saveTask = Bukkit.getScheduler().runTaskTimer(plugin, this::save, saveTicks, saveTicks);
+        milestoneTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkMilestones, 100L, 100L);
+
+        Bukkit.getLogger().info("[EventPlugin] Loaded " + goals.size() + " community goal(s)");
+    }
+
+    /**
+     * Stop the tasks, save the final totals and wait for the DB thread to finish
+     * (used on shutdown).
+     */
+    public void stop() {
+        if (saveTask != null) saveTask.cancel();
+        if (milestoneTask != null) milestoneTask.cancel();
+        if (!goals.isEmpty()) save();
+        dbThread.shutdown();
+        try {
+            if (!dbThread.awaitTermination(10, TimeUnit.SECONDS)) {
+                Bukkit.getLogger().warning("[EventPlugin] Community goals save did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Count a kill towards every goal tracking this mob type. Safe from any thread.
+     */
+    public void recordKill(String mobType) {
+        if (goals.isEmpty()) return;
+        Goal[] matching = goalsByMob.computeIfAbsent(mobType, this::resolve);
+        for (Goal goal : matching) {
+            if (goal.eventId != null) {
+                EventManager manager = events.get(goal.eventId);
+                if (manager == null || !manager.isActive()) continue;
+            }
+            goal.count.increment();
+        }
+    }
+
+    public List<Goal> getGoals() {
+        return Collections.unmodifiableList(goals);
+    }
+
+    private Goal[] resolve(String mobType) {
+        // Goal mob lists are lower case; the exact name is only folded once per type
+        String lowerType = mobType.toLowerCase(Locale.ROOT);
+        List<Goal> matching = new ArrayList<>();
+        for (Goal goal : goals) {
+            if (goal.matches(lowerType)) matching.add(goal);
+        }
+        return matching.isEmpty() ? NO_GOALS : matching.toArray(new Goal[0]);
+    }
+
+    private void checkMilestones() {
+        for (Goal goal : goals) {
+            long count = goal.getCount();
+            while (goal.nextMilestone < goal.milestones.size()) {
+                Milestone milestone = goal.milestones.get(goal.nextMilestone);
+                if (milestone.at() > count) break;
+                goal.nextMilestone++;
+                fire(goal, milestone);
+            }
+        }
+    }
+
+    private void fire(Goal goal, Milestone milestone) {
+        if (!milestone.message().isEmpty()) {
+            Bukkit.broadcastMessage(format(milestone.message(), goal, milestone));
+        }
+        for (String command : milestone.commands()) {
+            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), format(command, goal, milestone));
+        }
+        Bukkit.getLogger().info("[EventPlugin] Community goal " + goal.id + " reached " + milestone.at());
+    }
+
+    private String format(String text, Goal goal, Milestone milestone) {
+        return text.replace("{goal}", goal.name).replace("{at}", String.valueOf(milestone.at()));
+    }
+
+    // ==================== PERSISTENCE ====================
+
+    private void load() {
+        Map<String, Long> saved = new HashMap<>();
+        try (var conn = database.getConnection();
+             var ps = conn.prepareStatement("SELECT counters FROM community_goals WHERE id=?")) {
+            ps.setString(1, ROW_ID);
+            try (var rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    for (String part : rs.getString(1).split(";")) {
+                        int eq = part.indexOf('=');
+                        if (eq <= 0) continue;
+                        try {
+                            saved.put(part.substring(0, eq), Long.parseLong(part.substring(eq + 1)));
+                        } catch (NumberFormatException ignored) {
+                        }
+                    }
+                }
+            }
+        } catch (SQLException ex) {
+            Bukkit.getLogger().warning("[EventPlugin] Failed to load community goals: " + ex.getMessage());
+        }
+        for (Goal goal : goals) {
+            goal.count.add(saved.getOrDefault(goal.id, 0L));
+        }
+    }
+
+    /**
+     * Snapshot the totals and queue them for the DB thread (main thread).
+     */
+    private void save() {
+        StringBuilder counters = new StringBuilder();
+        for (Goal goal : goals) {
+            if (counters.length() > 0) counters.append(';');
+            counters.append(goal.id).append('=').append(goal.getCount());
+        }
+        String snapshot = counters.toString();
+        dbThread.execute(() -> write(snapshot));
+    }
+
+    private void write(String counters) {
+        try (var conn = database.getConnection();
+             var ps = conn.prepareStatement("INSERT INTO community_goals(id, counters) VALUES (?, ?) " +
+                     "ON DUPLICATE KEY UPDATE counters = ?")) {
+            ps.setString(1, ROW_ID);
+            ps.setString(2, counters);
+            ps.setString(3, counters);
+            ps.executeUpdate();
+        } catch (SQLException ex) {
+            Bukkit.getLogger().warning("[EventPlugin] Failed to save community goals: " + ex.getMessage());
+        }
+    }
+}
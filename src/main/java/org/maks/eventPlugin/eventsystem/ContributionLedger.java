@@ -0,0 +1,219 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.maks.eventPlugin.config.ConfigManager;
+
+import java.util.*;
+
+/**
+ * Accumulates damage dealt by each player to each tracked mob.
+ *
+ * Every damaged mob owns a pooled slot backed by primitive arrays, so recording
+ * a hit is a single map lookup plus a short scan over the slot's participants
+ * and never allocates. When the mob dies the slot is settled into a list of
+ * shares according to the "contribution" config section and returned to the pool;
+ * a despawned mob's slot is discarded. Callers only record MythicMobs, since
+ * nothing else ever settles.
+ */
+public class ContributionLedger {
+
+    /** Hard cap on distinct players tracked per mob. Later joiners are ignored. */
+    private static final int MAX_PARTICIPANTS = 32;
+    private static final int MAX_POOLED_SLOTS = 256;
+
+    /**
+     * Result of settling a mob.
+     *
+     * @param playerId    Participant
+     * @param damage      Damage dealt to the mob
+     * @param share       Fraction of the total damage (0-1)
+     * @param rank        1-based rank by damage
+     * @param weight      Multiplier to apply to the mob's base progress
+     */
+    public record Share(UUID playerId, float damage, double share, int rank, double weight) {}
+
+    private static final class Slot {
+        final UUID[] players = new UUID[MAX_PARTICIPANTS];
+        final float[] damage = new float[MAX_PARTICIPANTS];
+        int count;
+        float total;
+
+        void reset() {
+            Arrays.fill(players, 0, count, null);
+            Arrays.fill(damage, 0, count, 0f);
+            count = 0;
+            total = 0f;
+        }
+    }
+
+    private final Map<UUID, Slot> slots = new HashMap<>();
+    private final ArrayDeque<Slot> pool = new ArrayDeque<>();
+
+    private final Set<String> rewardedBosses = new HashSet<>();
+    private final double minShare;
+    private final int topN;
+    private final double topBonus;
+    private final boolean proportional;
+
+    public ContributionLedger(ConfigManager config) {
+        ConfigurationSection sec = config.getSection("contribution");
+        if (sec != null) {
+            for (String boss : sec.getStringList("bosses")) {
+                rewardedBosses.add(boss.toLowerCase());
+            }
+            minShare = sec.getDouble("min_share", 0.05);
+            topN = sec.getInt("top_n", 3);
+            topBonus = sec.getDouble("top_bonus", 0.10);
+            proportional = sec.getBoolean("proportional", true);
+        } else {
+            rewardedBosses.addAll(List.of("amarok", "sanguis", "krampus_spirit"));
+            minShare = 0.05;
+            topN = 3;
+            topBonus = 0.10;
+            proportional = true;
+        }
+    }
+
+    /**
+     * Check whether contribution rules apply to this mob.
+     * Accepts the base mob type with or without a difficulty suffix.
+     */
+    public boolean isRewardedBoss(String mobType) {
+        String lower = mobType.toLowerCase();
+        for (String boss : rewardedBosses) {
+            if (lower.equals(boss) || lower.startsWith(boss + "_")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Record damage dealt by a player to a mob.
+     */
+    public void record(UUID entityId, UUID playerId, float amount) {
+        Slot slot = slots.get(entityId);
+        if (slot == null) {
+            slot = pool.isEmpty() ? new Slot() : pool.poll();
+            slots.put(entityId, slot);
+        }
+
+        for (int i = 0; i < slot.count; i++) {
+            if (slot.players[i].equals(playerId)) {
+                slot.damage[i] += amount;
+                slot.total += amount;
+                return;
+            }
+        }
+
+        if (slot.count == MAX_PARTICIPANTS) return;
+        slot.players[slot.count] = playerId;
+        slot.damage[slot.count] = amount;
+        slot.count++;
+        slot.total += amount;
+    }
+
+    /**
+     * Check if any player has damaged the mob.
+     */
+    public boolean hasParticipants(UUID entityId) {
+        Slot slot = slots.get(entityId);
+        return slot != null && slot.count > 0;
+    }
+
+    /**
+     * Get the player who dealt the most damage to the mob, or null.
+     */
+    public UUID getTopDamager(UUID entityId) {
+        Slot slot = slots.get(entityId);
+        if (slot == null || slot.count == 0) return null;
+
+        int best = 0;
+        for (int i = 1; i < slot.count; i++) {
+            if (slot.damage[i] > slot.damage[best]) best = i;
+        }
+        return slot.players[best];
+    }
+
+    /**
+     * Settle a dead mob and release its slot.
+     * For rewarded bosses the min share, top-N bonus and proportional rules are
+     * applied; every other mob gives each participant a weight of 1.
+     *
+     * @param entityId The mob UUID
+     * @param mobType  Mob internal name, used to decide which rules apply
+     * @return Eligible participants ordered by damage, highest first
+     */
+    public List<Share> settle(UUID entityId, String mobType) {
+        Slot slot = slots.remove(entityId);
+        if (slot == null) return Collections.emptyList();
+
+        List<Share> shares = new ArrayList<>(slot.count);
+        Integer[] order = new Integer[slot.count];
+        for (int i = 0; i < slot.count; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Float.compare(slot.damage[b], slot.damage[a]));
+
+        if (!isRewardedBoss(mobType) || slot.total <= 0f) {
+            for (int r = 0; r < order.length; r++) {
+                int i = order[r];
+                double share = slot.total > 0f ? slot.damage[i] / slot.total : 1.0 / slot.count;
+                shares.add(new Share(slot.players[i], slot.damage[i], share, r + 1, 1.0));
+            }
+            release(slot);
+            return shares;
+        }
+
+        // Players below the threshold are dropped, but the top damager always qualifies
+        int eligible = 0;
+        float eligibleDamage = 0f;
+        for (int r = 0; r < order.length; r++) {
+            int i = order[r];
+            if (r == 0 || slot.damage[i] / slot.total >= minShare) {
+                eligible++;
+                eligibleDamage += slot.damage[i];
+            }
+        }
+
+        for (int r = 0; r < eligible; r++) {
+            int i = order[r];
+            double share = slot.damage[i] / slot.total;
+
+            // Proportional split keeps the pool at one full reward per eligible player
+            double weight = proportional && eligibleDamage > 0f
+                    ? eligible * (slot.damage[i] / eligibleDamage)
+                    : 1.0;
+            if (r < topN) {
+                weight += topBonus;
+            }
+            shares.add(new Share(slot.players[i], slot.damage[i], share, r + 1, weight));
+        }
+
+        release(slot);
+        return shares;
+    }
+
+    /**
+     * Drop any damage recorded for a mob without settling it.
+     */
+    public void discard(UUID entityId) {
+        Slot slot = slots.remove(entityId);
+        if (slot != null) release(slot);
+    }
+
+    /**
+     * Drop all tracked mobs, e.g. when the event stops.
+     */
+    public void clear() {
+        for (Slot slot : slots.values()) {
+            release(slot);
+        }
+        slots.clear();
+    }
+
+    private void release(Slot slot) {
+        slot.reset();
+        if (pool.size() < MAX_POOLED_SLOTS) {
+            pool.push(slot);
+        }
+    }
+}
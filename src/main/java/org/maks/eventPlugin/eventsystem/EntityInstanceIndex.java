@@ -0,0 +1,81 @@
+package org.maks.eventPlugin.eventsystem;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Maps entity UUIDs to the instance that spawned them.
+ * Used by the Full Moon and New Moon arenas and the Winter Summit so spawn and
+ * death handlers can resolve an entity's instance with a single lookup instead
+ * of parsing scoreboard tags or scanning every instance.
+ *
+ * Entries are added when an entity is tracked and removed when it dies or its
+ * instance is removed. Main thread only.
+ *
+ * @param <I> Instance type
+ */
+public class EntityInstanceIndex<I> {
+
+    private final Map<UUID, I> byEntity = new HashMap<>();
+    private final Map<I, Set<UUID>> byInstance = new HashMap<>();
+
+    /**
+     * Track an entity as belonging to an instance.
+     */
+    public void put(UUID entityId, I instance) {
+        I previous = byEntity.put(entityId, instance);
+        if (previous != null && previous != instance) {
+            Set<UUID> entities = byInstance.get(previous);
+            if (entities != null) entities.remove(entityId);
+        }
+        byInstance.computeIfAbsent(instance, k -> new HashSet<>()).add(entityId);
+    }
+
+    /**
+     * Get the instance owning an entity, or null if the entity is not tracked.
+     */
+    public I get(UUID entityId) {
+        return byEntity.get(entityId);
+    }
+
+    public boolean contains(UUID entityId) {
+        return byEntity.containsKey(entityId);
+    }
+
+    /**
+     * Stop tracking an entity (e.g. on death).
+     *
+     * @return The instance that owned it, or null
+     */
+    public I remove(UUID entityId) {
+        I instance = byEntity.remove(entityId);
+        if (instance != null) {
+            Set<UUID> entities = byInstance.get(instance);
+            if (entities != null) entities.remove(entityId);
+        }
+        return instance;
+    }
+
+    /**
+     * Drop every entity tracked for an instance (e.g. when it is removed).
+     */
+    public void removeInstance(I instance) {
+        Set<UUID> entities = byInstance.remove(instance);
+        if (entities == null) return;
+        for (UUID entityId : entities) {
+            byEntity.remove(entityId);
+        }
+    }
+
+    public int size() {
+        return byEntity.size();
+    }
+
+    public void clear() {
+        byEntity.clear();
+        byInstance.clear();
+    }
+}
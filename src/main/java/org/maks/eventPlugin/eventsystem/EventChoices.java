@@ -0,0 +1,76 @@
+package org.maks.eventPlugin.eventsystem;
+
+/**
+ * The difficulty and realm a player picked for each event.
+ * Unlike the rest of {@link PlayerEventState} these survive a relog: they are
+ * kept by {@link PlayerStateManager} until the event stops or is reset.
+ */
+public class EventChoices {
+    static final String DEFAULT_FULL_MOON_DIFFICULTY = "normal";
+    static final String DEFAULT_NEW_MOON_DIFFICULTY = "normal";
+    static final String DEFAULT_NEW_MOON_REALM = "white";
+    static final String DEFAULT_WINTER_DIFFICULTY = "infernal";
+
+    private String fullMoonDifficulty = DEFAULT_FULL_MOON_DIFFICULTY;
+    private String newMoonDifficulty = DEFAULT_NEW_MOON_DIFFICULTY;
+    private String newMoonRealm = DEFAULT_NEW_MOON_REALM;
+    private String winterDifficulty = DEFAULT_WINTER_DIFFICULTY;
+
+    EventChoices() {
+    }
+
+    public String getFullMoonDifficulty() {
+        return fullMoonDifficulty;
+    }
+
+    public void setFullMoonDifficulty(String fullMoonDifficulty) {
+        this.fullMoonDifficulty = fullMoonDifficulty;
+    }
+
+    public String getNewMoonDifficulty() {
+        return newMoonDifficulty;
+    }
+
+    public void setNewMoonDifficulty(String newMoonDifficulty) {
+        this.newMoonDifficulty = newMoonDifficulty;
+    }
+
+    public String getNewMoonRealm() {
+        return newMoonRealm;
+    }
+
+    public void setNewMoonRealm(String newMoonRealm) {
+        this.newMoonRealm = newMoonRealm;
+    }
+
+    public String getWinterDifficulty() {
+        return winterDifficulty;
+    }
+
+    public void setWinterDifficulty(String winterDifficulty) {
+        this.winterDifficulty = winterDifficulty;
+    }
+
+    public void resetFullMoon() {
+        fullMoonDifficulty = DEFAULT_FULL_MOON_DIFFICULTY;
+    }
+
+    public void resetNewMoon() {
+        newMoonDifficulty = DEFAULT_NEW_MOON_DIFFICULTY;
+        newMoonRealm = DEFAULT_NEW_MOON_REALM;
+    }
+
+    public void resetWinter() {
+        winterDifficulty = DEFAULT_WINTER_DIFFICULTY;
+    }
+
+    /**
+     * Whether every choice is back at its default, so there is nothing to keep.
+     */
+    boolean isDefault() {
+        return DEFAULT_FULL_MOON_DIFFICULTY.equals(fullMoonDifficulty)
+                && DEFAULT_NEW_MOON_DIFFICULTY.equals(newMoonDifficulty)
+                && DEFAULT_NEW_MOON_REALM.equals(newMoonRealm)
+                && DEFAULT_WINTER_DIFFICULTY.equals(winterDifficulty);
+    }
+}
@@ -0,0 +1,85 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listeners that only do work while one event is running.
+ * The owning {@link EventManager} registers the bundle when the event starts and
+ * unregisters it when the event stops or expires, so an inactive event adds no
+ * handlers to the server's hot events (damage, move, interact, mob death).
+ *
+ * Only listeners that already ignore everything while the event is inactive
+ * belong here; anything that must clean up after the event stays registered.
+ * State the listeners keep for the running event is dropped through
+ * {@link #onUnregister}, which also covers an event that expires.
+ */
+public class EventListenerBundle {
+    private final Plugin plugin;
+    private final String eventId;
+    private final List<Listener> listeners = new ArrayList<>();
+    private final List<Runnable> unregisterHooks = new ArrayList<>();
+    private boolean registered;
+
+    public EventListenerBundle(Plugin plugin, String eventId) {
+        this.plugin = plugin;
+        this.eventId = eventId;
+    }
+
+    public EventListenerBundle add(Listener listener) {
+        listeners.add(listener);
+        if (registered) {
+            Bukkit.getPluginManager().registerEvents(listener, plugin);
+        }
+        return this;
+    }
+
+    /**
+     * Run a cleanup every time the bundle is unregistered (event stopped or expired).
+     */
+    public EventListenerBundle onUnregister(Runnable hook) {
+        unregisterHooks.add(hook);
+        return this;
+    }
+
+    public boolean isRegistered() {
+        return registered;
+    }
+
+    /**
+     * Register or unregister the bundle to match the event state. Safe to call repeatedly.
+     */
+    public void sync(boolean active) {
+        if (active) {
+            register();
+        } else {
+            unregister();
+        }
+    }
+
+    public void register() {
+        if (registered || !plugin.isEnabled()) return;
+        for (Listener listener : listeners) {
+            Bukkit.getPluginManager().registerEvents(listener, plugin);
+        }
+        registered = true;
+        plugin.getLogger().info("Registered " + listeners.size() + " listener(s) for event " + eventId);
+    }
+
+    public void unregister() {
+        if (!registered) return;
+        for (Listener listener : listeners) {
+            HandlerList.unregisterAll(listener);
+        }
+        registered = false;
+        for (Runnable hook : unregisterHooks) {
+            hook.run();
+        }
+        plugin.getLogger().info("Unregistered " + listeners.size() + " listener(s) for event " + eventId);
+    }
+}
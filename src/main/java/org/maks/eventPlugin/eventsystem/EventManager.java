@@ -1,6 +1,8 @@
 package org.maks.eventPlugin.eventsystem;
 
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
 import org.maks.eventPlugin.db.DatabaseManager;
 import org.maks.eventPlugin.util.ItemUtil;
 
@@ -19,7 +21,8 @@ public class EventManager {
     private final DatabaseManager database;
     private final String eventId;
     private org.maks.eventPlugin.config.ConfigManager configManager;
-    private boolean active;
+    // Read off the main thread (community goal kills)
+    private volatile boolean active;
     private int maxProgress;
     private String name;
     private String description;
@@ -27,14 +30,29 @@ public class EventManager {
     private final Map<UUID, Integer> progressMap = new HashMap<>();
     private final Map<UUID, java.util.Set<Integer>> claimedMap = new HashMap<>();
     private final List<Reward> rewards = new ArrayList<>();
+
+    // Compiled reward catalog, rebuilt only when rewards change:
+    // rewards sorted by required progress and the distinct thresholds as a primitive array
+    private List<Reward> sortedRewards = List.of();
+    private int[] thresholds = new int[0];
+    // Per player: index of the next threshold not yet reached
+    private final Map<UUID, Integer> thresholdCursors = new HashMap<>();
     private Map<Integer, Double> dropChances = new HashMap<>();
 
+    // Progress grants made during the current tick: player -> progress before the first grant.
+    // Threshold titles and the DB write run once per player when the tick's grants are flushed.
+    private final Map<UUID, Integer> pendingProgress = new HashMap<>();
+    private boolean flushScheduled;
+
+    // Listeners registered only while the event is active
+    private EventListenerBundle listenerBundle;
 
     public EventManager(DatabaseManager database, String eventId) {
         this.database = database;
         this.eventId = eventId;
         loadEvent();
         loadRewards();
+        compileRewards();
         loadProgress();
     }
 
@@ -71,10 +89,34 @@ public class EventManager {
 
     public void toggle() {
         active = !active;
+        syncListeners();
     }
 
     public void setActive(boolean active) {
         this.active = active;
+        syncListeners();
+    }
+
+    /**
+     * Attach the listeners that should only be registered while this event is active.
+     * The bundle is synced to the current state immediately.
+     */
+    public void setListenerBundle(EventListenerBundle bundle) {
+        if (listenerBundle != null && listenerBundle != bundle) {
+            listenerBundle.unregister();
+        }
+        this.listenerBundle = bundle;
+        syncListeners();
+    }
+
+    public EventListenerBundle getListenerBundle() {
+        return listenerBundle;
+    }
+
+    private void syncListeners() {
+        if (listenerBundle != null) {
+            listenerBundle.sync(active);
+        }
     }
 
     public void setMaxProgress(int max) {
@@ -89,39 +131,143 @@ public class EventManager {
         return progressMap.getOrDefault(player.getUniqueId(), 0);
     }
 
+    /**
+     * Add progress for a player. The in-memory total updates immediately, while
+     * reward notifications and persistence are coalesced and applied once at the
+     * end of the tick, no matter how many kills granted progress in between.
+     */
     public void addProgress(Player player, int amount, double multiplier) {
-        int current = progressMap.getOrDefault(player.getUniqueId(), 0);
-        int newProgress = current + (int) Math.round(amount * multiplier);
+        addProgress(player, amount, multiplier, null);
+    }
+
+    /**
+     * Add progress for a player, recording the source (usually the mob type) in the audit log.
+     */
+    public void addProgress(Player player, int amount, double multiplier, String source) {
+        UUID id = player.getUniqueId();
+        int current = progressMap.getOrDefault(id, 0);
+        int granted = (int) Math.round(amount * multiplier);
+        if (granted > 0 && !AnomalyMonitor.recordProgress(player, granted)) {
+            AuditLog.refused(id, eventId, refusal(id), granted, multiplier, source);
+            return;
+        }
+        int newProgress = current + granted;
         if (newProgress > maxProgress) newProgress = maxProgress;
-        progressMap.put(player.getUniqueId(), newProgress);
-        saveProgress(player.getUniqueId(), newProgress);
-
-        // --- POCZĄTEK POPRAWKI (Tytuł powiadomienia) ---
-        // Notify player when they cross a reward threshold
-        for (Reward reward : rewards) {
-            if (current < reward.requiredProgress() && newProgress >= reward.requiredProgress()) {
-                String title = "§b" + this.name; // Nazwa eventu jako tytuł
-                String sub = "§eReward for " + reward.requiredProgress() + " progress unlocked";
-                player.sendTitle(title, sub, 10, 60, 10);
-            }
+        if (newProgress == current) return;
+        AuditLog.progress(id, eventId, newProgress - current, multiplier, source);
+        progressMap.put(id, newProgress);
+        pendingProgress.putIfAbsent(id, current);
+        scheduleFlush();
+    }
+
+    private static String refusal(UUID playerId) {
+        return AnomalyMonitor.isQuarantined(playerId) ? "quarantined" : "throttled";
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled) return;
+        Plugin plugin = Bukkit.getPluginManager().getPlugin("EventPlugin");
+        if (plugin == null || !plugin.isEnabled()) {
+            flushPendingProgress();
+            return;
+        }
+        flushScheduled = true;
+        Bukkit.getScheduler().runTask(plugin, this::flushPendingProgress);
+    }
+
+    /**
+     * Apply all progress grants queued during this tick: one DB write and at most
+     * one reward title per player. Also called on disable so nothing is lost.
+     */
+    public void flushPendingProgress() {
+        flushScheduled = false;
+        if (pendingProgress.isEmpty()) return;
+
+        for (Map.Entry<UUID, Integer> entry : pendingProgress.entrySet()) {
+            UUID id = entry.getKey();
+            int before = entry.getValue();
+            int after = progressMap.getOrDefault(id, 0);
+            saveProgress(id, after);
+
+            // --- POCZĄTEK POPRAWKI (Tytuł powiadomienia) ---
+            // Notify player when they cross a reward threshold
+            Player player = Bukkit.getPlayer(id);
+            if (player == null || !player.isOnline()) continue;
+            int cursor = thresholdCursor(id, before);
+            if (cursor >= thresholds.length || after < thresholds[cursor]) continue;
+
+            int next = cursor;
+            while (next < thresholds.length && thresholds[next] <= after) next++;
+            thresholdCursors.put(id, next);
+            int crossed = next - cursor;
+            int highest = thresholds[next - 1];
+
+            String title = "§b" + this.name; // Nazwa eventu jako tytuł
+            String sub = crossed == 1
+                    ? "§eReward for " + highest + " progress unlocked"
+                    : "§e" + crossed + " rewards unlocked (up to " + highest + " progress)";
+            Notifications.title(player, title, sub, 10, 60, 10, Notifications.Priority.IMPORTANT);
+            // --- KONIEC POPRAWKI ---
         }
-        // --- KONIEC POPRAWKI ---
+        pendingProgress.clear();
+    }
+
+    /**
+     * Index of the first threshold above the given progress. Uses the player's
+     * cached cursor when it is still valid, otherwise falls back to a binary search.
+     */
+    private int thresholdCursor(UUID id, int progress) {
+        Integer cached = thresholdCursors.get(id);
+        if (cached != null && cached <= thresholds.length) {
+            int c = cached;
+            boolean validBelow = c == 0 || thresholds[c - 1] <= progress;
+            boolean validAbove = c == thresholds.length || thresholds[c] > progress;
+            if (validBelow && validAbove) return c;
+        }
+
+        int idx = java.util.Arrays.binarySearch(thresholds, progress);
+        // Exact hit means that threshold is already reached; the next one is after it
+        int cursor = idx >= 0 ? idx + 1 : -idx - 1;
+        thresholdCursors.put(id, cursor);
+        return cursor;
+    }
+
+    /**
+     * Drop the session caches of a player who left.
+     */
+    public void forgetPlayer(UUID id) {
+        thresholdCursors.remove(id);
+    }
+
+    /**
+     * Rebuild the sorted reward list and threshold array after the catalog changed.
+     */
+    private void compileRewards() {
+        List<Reward> sorted = new ArrayList<>(rewards);
+        sorted.sort(java.util.Comparator.comparingInt(Reward::requiredProgress));
+        sortedRewards = java.util.Collections.unmodifiableList(sorted);
+        thresholds = sorted.stream().mapToInt(Reward::requiredProgress).distinct().toArray();
+        thresholdCursors.clear();
     }
 
     public void addReward(int required, ItemStack item) {
         rewards.add(new Reward(required, item));
         saveReward(required, item);
+        compileRewards();
     }
 
     public void setRewards(List<Reward> newRewards) {
         clearRewards();
         for (Reward r : newRewards) {
-            addReward(r.requiredProgress(), r.item());
+            rewards.add(new Reward(r.requiredProgress(), r.item()));
+            saveReward(r.requiredProgress(), r.item());
         }
+        compileRewards();
     }
 
     private void clearRewards() {
         rewards.clear();
+        compileRewards();
         try (var conn = database.getConnection();
              var ps = conn.prepareStatement("DELETE FROM event_rewards WHERE event_id=?")) {
             ps.setString(1, eventId);
@@ -134,6 +280,13 @@ public class EventManager {
         return rewards;
     }
 
+    /**
+     * Rewards ordered by required progress. Cached until the reward catalog changes.
+     */
+    public List<Reward> getSortedRewards() {
+        return sortedRewards;
+    }
+
     /**
      * Check if the player already claimed the reward for the given required progress.
      */
@@ -175,9 +328,17 @@ public class EventManager {
             return false;
         }
 
+        // Only claims that would otherwise succeed count towards the claim rate
+        if (!AnomalyMonitor.recordClaim(player)) {
+            AuditLog.refused(player.getUniqueId(), eventId, refusal(player.getUniqueId()), required, 1.0, "claim");
+            player.sendMessage("§c§l[Event] §cReward claims are temporarily unavailable. Please try again later.");
+            return false;
+        }
+
         // Mark as claimed
         set.add(required);
         saveClaimed(player.getUniqueId(), required);
+        AuditLog.claim(player.getUniqueId(), eventId, required);
 
         // Give player all rewards for this required progress
         for (ItemStack item : itemsToGive) {
@@ -338,6 +499,8 @@ public class EventManager {
     }
 
     private void resetProgress() {
+        pendingProgress.clear();
+        thresholdCursors.clear();
         progressMap.clear();
         claimedMap.clear();
         try (var conn = database.getConnection();
@@ -362,10 +525,12 @@ public class EventManager {
         this.endTime = durationSeconds > 0 ? Instant.now().plusSeconds(durationSeconds).toEpochMilli() : 0L;
         this.active = true;
         saveEvent();
+        syncListeners();
     }
 
     public void stop() {
         this.active = false;
+        syncListeners();
         this.endTime = 0L;
         resetProgress();
         saveEvent();
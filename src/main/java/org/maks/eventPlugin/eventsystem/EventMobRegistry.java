@@ -0,0 +1,134 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Live registry of event MythicMobs, bucketed by chunk.
+ * Mobs are added on spawn or when their chunk loads again, and removed on
+ * death, despawn or removal from the world (chunk unload), so area effects only
+ * look at event mobs in the chunks around a point instead of every entity in
+ * the world. The registry is cleared when the event stops or expires.
+ *
+ * Mobs are bucketed by the chunk they were last seen in. Queries also scan a
+ * small margin of neighbouring chunks to catch mobs that have wandered, and
+ * re-bucket or drop stale entries as they go. Main thread only.
+ */
+public class EventMobRegistry {
+
+    /** Extra chunks scanned around a query to catch mobs that moved since they were bucketed. */
+    private static final int DRIFT_CHUNKS = 2;
+
+    private record Position(UUID worldId, long chunkKey) {}
+
+    private final Map<UUID, Map<Long, Set<UUID>>> buckets = new HashMap<>();
+    private final Map<UUID, Position> positions = new HashMap<>();
+
+    public void add(Entity entity) {
+        Location loc = entity.getLocation();
+        move(entity.getUniqueId(), new Position(loc.getWorld().getUID(),
+                ChunkInstanceIndex.chunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)));
+    }
+
+    public void remove(UUID entityId) {
+        Position position = positions.remove(entityId);
+        if (position != null) {
+            unbucket(entityId, position);
+        }
+    }
+
+    public boolean contains(UUID entityId) {
+        return positions.containsKey(entityId);
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    public void clear() {
+        buckets.clear();
+        positions.clear();
+    }
+
+    /**
+     * Collect registered mobs inside a cube around a location.
+     *
+     * @param center Center of the area
+     * @param radius Half the cube edge, in blocks
+     * @return Living, valid mobs inside the cube
+     */
+    public List<LivingEntity> collect(Location center, double radius) {
+        List<LivingEntity> result = new ArrayList<>();
+        World world = center.getWorld();
+        if (world == null) return result;
+
+        Map<Long, Set<UUID>> chunks = buckets.get(world.getUID());
+        if (chunks == null) return result;
+
+        int minCx = ((int) Math.floor(center.getX() - radius) >> 4) - DRIFT_CHUNKS;
+        int maxCx = ((int) Math.floor(center.getX() + radius) >> 4) + DRIFT_CHUNKS;
+        int minCz = ((int) Math.floor(center.getZ() - radius) >> 4) - DRIFT_CHUNKS;
+        int maxCz = ((int) Math.floor(center.getZ() + radius) >> 4) + DRIFT_CHUNKS;
+
+        List<UUID> candidates = new ArrayList<>();
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                Set<UUID> bucket = chunks.get(ChunkInstanceIndex.chunkKey(cx, cz));
+                if (bucket != null) candidates.addAll(bucket);
+            }
+        }
+
+        for (UUID entityId : candidates) {
+            Entity entity = Bukkit.getEntity(entityId);
+            if (!(entity instanceof LivingEntity living) || !entity.isValid()) {
+                remove(entityId);
+                continue;
+            }
+
+            Location loc = entity.getLocation();
+            add(entity); // re-bucket if it changed chunk or world
+            if (loc.getWorld() != world) continue;
+
+            if (Math.abs(loc.getX() - center.getX()) <= radius
+                    && Math.abs(loc.getY() - center.getY()) <= radius
+                    && Math.abs(loc.getZ() - center.getZ()) <= radius) {
+                result.add(living);
+            }
+        }
+        return result;
+    }
+
+    private void move(UUID entityId, Position position) {
+        Position previous = positions.put(entityId, position);
+        if (position.equals(previous)) return;
+        if (previous != null) {
+            unbucket(entityId, previous);
+        }
+        buckets.computeIfAbsent(position.worldId(), k -> new HashMap<>())
+                .computeIfAbsent(position.chunkKey(), k -> new HashSet<>())
+                .add(entityId);
+    }
+
+    private void unbucket(UUID entityId, Position position) {
+        Map<Long, Set<UUID>> chunks = buckets.get(position.worldId());
+        if (chunks == null) return;
+        Set<UUID> bucket = chunks.get(position.chunkKey());
+        if (bucket == null) return;
+        bucket.remove(entityId);
+        if (bucket.isEmpty()) {
+            chunks.remove(position.chunkKey());
+            if (chunks.isEmpty()) buckets.remove(position.worldId());
+        }
+    }
+}
@@ -0,0 +1,501 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Shared lifecycle for event instances (Full Moon arenas, New Moon realms,
+ * Winter Summit boss rooms).
+ *
+ * Every instance gets a {@link Handle} that moves through the
+ * {@link InstanceState}s. The lifecycle owns what each event used to do on its
+ * own: player, location and entity lookups, the time limit and countdown tasks
+ * (all cancelled together when the instance leaves play), entry without
+ * synchronous chunk loads, quit handling and per-state metrics. What an instance contains and how its blocks are cleared
+ * stays with the event, behind {@link Content}; clearing goes through the
+ * shared block job budget.
+ *
+ * Instances are created and ended on the main thread; lookups are
+ * synchronized so they stay safe from async listeners.
+ *
+ * @param <I> Instance type
+ * @param <S> Slot type (the pasted space an instance occupies)
+ */
+public class InstanceLifecycle<I, S> {
+
+    /**
+     * Event-specific hooks.
+     */
+    public interface Content<I, S> {
+
+        /**
+         * Clear a finished or dropped instance. Call {@link InstanceLifecycle#ready}
+         * once it is reset for reuse, or {@link InstanceLifecycle#free} once its
+         * blocks are cleared.
+         *
+         * @param reuse Whether the instance may be reset for reuse instead of cleared
+         */
+        void clear(Handle<I, S> handle, boolean reuse);
+
+        /**
+         * The time limit ran out; runs right before the instance is cleared.
+         */
+        default void onExpire(Handle<I, S> handle) {
+        }
+
+        /**
+         * The owner left the server; runs right before the instance is cleared.
+         */
+        default void onQuit(Handle<I, S> handle) {
+        }
+    }
+
+    /**
+     * One instance's place in the lifecycle: its state, slot, and (while in
+     * play) the instance and its owner.
+     */
+    public static final class Handle<I, S> {
+        private InstanceState state = InstanceState.ALLOCATING;
+        private long since = System.nanoTime();
+        private S slot;
+        private I instance;
+        private UUID playerId;
+        private final List<BukkitTask> tasks = new ArrayList<>();
+
+        // Block columns of the instance in play, and its chunk load while tickets are held
+        private World world;
+        private int minX, minZ, maxX, maxZ;
+        private CompletableFuture<Void> chunks;
+
+        public InstanceState getState() {
+            return state;
+        }
+
+        public S getSlot() {
+            return slot;
+        }
+
+        /**
+         * Replace the slot (e.g. with the reset job of a recycled instance).
+         */
+        public void setSlot(S slot) {
+            this.slot = slot;
+        }
+
+        /**
+         * The instance, or null while the handle is not in play.
+         */
+        public I getInstance() {
+            return instance;
+        }
+
+        public UUID getPlayerId() {
+            return playerId;
+        }
+    }
+
+    public record Stats(String name, InstanceState state, int current, long entered, long averageMillis) {}
+
+    private static final InstanceState[] STATES = InstanceState.values();
+    private static final List<InstanceLifecycle<?, ?>> lifecycles = new CopyOnWriteArrayList<>();
+
+    private final JavaPlugin plugin;
+    private final String name;
+    private final Content<I, S> content;
+    private final Map<UUID, Handle<I, S>> byPlayer = new HashMap<>();
+    private final Map<I, Handle<I, S>> byInstance = new HashMap<>();
+    private final EntityInstanceIndex<I> entityIndex = new EntityInstanceIndex<>();
+    private final ChunkInstanceIndex<I> spatialIndex = new ChunkInstanceIndex<>();
+    // Space occupied by each slot, in every state until freed
+    private final ChunkInstanceIndex<Handle<I, S>> slotIndex = new ChunkInstanceIndex<>();
+
+    // Per state: instances in it now, times entered, times left and time spent before leaving
+    private final int[] current = new int[STATES.length];
+    private final long[] entered = new long[STATES.length];
+    private final long[] left = new long[STATES.length];
+    private final long[] nanosIn = new long[STATES.length];
+
+    /**
+     * @param name Name shown in stats and logs
+     */
+    public InstanceLifecycle(JavaPlugin plugin, String name, Content<I, S> content) {
+        this.plugin = plugin;
+        this.name = name;
+        this.content = content;
+        lifecycles.add(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // ==================== Transitions ====================
+
+    /**
+     * Start a new instance (ALLOCATING). Follow with {@link #pasting}, or
+     * {@link #free} if no slot could be claimed.
+     */
+    public synchronized Handle<I, S> allocate() {
+        Handle<I, S> handle = new Handle<>();
+        current[InstanceState.ALLOCATING.ordinal()]++;
+        entered[InstanceState.ALLOCATING.ordinal()]++;
+        return handle;
+    }
+
+    /**
+     * The slot is claimed and the schematic is being pasted into it.
+     */
+    public synchronized void pasting(Handle<I, S> handle) {
+        move(handle, InstanceState.PASTING);
+    }
+
+    /**
+     * Register the space a handle's slot occupies (inclusive bounds). Unlike
+     * the bounds of an instance in play, it stays resolvable through
+     * {@link #getHandleAt} while the slot is pooled, in play or clearing,
+     * until the handle is freed.
+     */
+    public synchronized void occupy(Handle<I, S> handle, World world,
+                                    int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        slotIndex.add(handle, world, minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * The instance is pasted (or reset) and can be handed out.
+     */
+    public synchronized void ready(Handle<I, S> handle) {
+        if (move(handle, InstanceState.READY)) {
+            releaseChunks(handle);
+            handle.instance = null;
+            handle.playerId = null;
+        }
+    }
+
+    /**
+     * Hand a ready instance to a player and register its bounds (inclusive).
+     *
+     * @param timeLimitTicks Ticks until the instance expires, or 0 for no limit
+     * @return false if the handle was not ready
+     */
+    public synchronized boolean activate(Handle<I, S> handle, UUID playerId, I instance, World world,
+                                         int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                                         long timeLimitTicks) {
+        if (!move(handle, InstanceState.ACTIVE)) return false;
+
+        handle.instance = instance;
+        handle.playerId = playerId;
+        handle.world = world;
+        handle.minX = minX;
+        handle.minZ = minZ;
+        handle.maxX = maxX;
+        handle.maxZ = maxZ;
+        byPlayer.put(playerId, handle);
+        byInstance.put(instance, handle);
+        spatialIndex.add(instance, world, minX, minY, minZ, maxX, maxY, maxZ);
+
+        if (timeLimitTicks > 0) {
+            schedule(handle, timeLimitTicks, () -> {
+                content.onExpire(handle);
+                end(handle);
+            });
+        }
+        return true;
+    }
+
+    /**
+     * Bring a player into an instance in play without loading chunks on the
+     * main thread: the instance's chunks are loaded asynchronously and held
+     * by chunk tickets until it is cleared, then the player is moved with
+     * teleportAsync. Main thread only.
+     *
+     * @return Completes on the main thread with whether the player arrived
+     */
+    public CompletableFuture<Boolean> enter(Handle<I, S> handle, Player player, Location destination) {
+        CompletableFuture<Void> loaded;
+        synchronized (this) {
+            if (!isInPlay(handle)) return CompletableFuture.completedFuture(false);
+            if (handle.chunks == null) {
+                handle.chunks = ChunkTickets.acquire(plugin, handle.world, handle.minX, handle.minZ, handle.maxX, handle.maxZ);
+            }
+            loaded = handle.chunks;
+        }
+
+        return loaded.thenCompose(ignored -> {
+            // The instance may have ended or the player left while the chunks loaded
+            if (!isInPlay(handle) || !player.isOnline()) {
+                return CompletableFuture.completedFuture(false);
+            }
+            return player.teleportAsync(destination);
+        }).exceptionally(e -> {
+            plugin.getLogger().warning("[EventPlugin] Could not bring " + player.getName() + " into " + name + " instance: " + e.getMessage());
+            return false;
+        });
+    }
+
+    /**
+     * Run a task for an instance in play (e.g. a countdown message). It is
+     * cancelled when the instance drains or ends.
+     */
+    public synchronized BukkitTask schedule(Handle<I, S> handle, long delayTicks, Runnable task) {
+        BukkitTask scheduled = Bukkit.getScheduler().runTaskLater(plugin, task, delayTicks);
+        handle.tasks.add(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Stop an instance in play and end it after a delay (DRAINING). Pending
+     * tasks, including the time limit and an earlier drain, are cancelled.
+     *
+     * @param beforeEnd Runs when the delay is over, right before the instance ends
+     */
+    public synchronized void drain(Handle<I, S> handle, long delayTicks, Runnable beforeEnd) {
+        if (handle.state == InstanceState.ACTIVE) {
+            move(handle, InstanceState.DRAINING);
+        } else if (handle.state != InstanceState.DRAINING) {
+            return;
+        }
+        cancelTasks(handle);
+        schedule(handle, delayTicks, () -> {
+            beforeEnd.run();
+            end(handle);
+        });
+    }
+
+    /**
+     * End an instance now and hand it to {@link Content#clear} (CLEARING).
+     * Ending an instance that is already clearing or free does nothing.
+     */
+    public void end(Handle<I, S> handle) {
+        end(handle, true);
+    }
+
+    /**
+     * @param reuse Whether the instance may be reset for reuse instead of cleared
+     */
+    public synchronized void end(Handle<I, S> handle, boolean reuse) {
+        switch (handle.state) {
+            case PASTING, READY, ACTIVE, DRAINING -> {
+            }
+            default -> {
+                return;
+            }
+        }
+
+        cancelTasks(handle);
+        if (handle.instance != null) {
+            byInstance.remove(handle.instance);
+            entityIndex.removeInstance(handle.instance);
+            spatialIndex.remove(handle.instance);
+        }
+        if (handle.playerId != null) {
+            byPlayer.remove(handle.playerId, handle);
+        }
+        // Chunk tickets stay until the clear or reset jobs are done (see free and ready)
+        move(handle, InstanceState.CLEARING);
+        content.clear(handle, reuse);
+    }
+
+    /**
+     * The instance's space is free again (its blocks are cleared, or it was
+     * never pasted).
+     */
+    public synchronized void free(Handle<I, S> handle) {
+        if (move(handle, InstanceState.FREE)) {
+            slotIndex.remove(handle);
+            releaseChunks(handle);
+            handle.instance = null;
+            handle.playerId = null;
+        }
+    }
+
+    /**
+     * End every instance in play without reuse (pooled ones are dropped
+     * through their pool).
+     */
+    public synchronized void endAll() {
+        for (Handle<I, S> handle : new ArrayList<>(byInstance.values())) {
+            end(handle, false);
+        }
+        entityIndex.clear();
+    }
+
+    /**
+     * End a player's instance because they left the server.
+     *
+     * @return Whether the player had an instance
+     */
+    public synchronized boolean quit(UUID playerId) {
+        Handle<I, S> handle = byPlayer.get(playerId);
+        if (handle == null) return false;
+
+        plugin.getLogger().info("[EventPlugin] Player " + playerId + " left, ending their " + name + " instance");
+        content.onQuit(handle);
+        end(handle);
+        return true;
+    }
+
+    /**
+     * End the instances of a player who left, in every lifecycle.
+     */
+    public static void quitAll(UUID playerId) {
+        for (InstanceLifecycle<?, ?> lifecycle : lifecycles) {
+            lifecycle.quit(playerId);
+        }
+    }
+
+    // ==================== Lookups ====================
+
+    /**
+     * The player's instance in play (ACTIVE or DRAINING), or null.
+     */
+    public synchronized I get(UUID playerId) {
+        Handle<I, S> handle = byPlayer.get(playerId);
+        return handle != null ? handle.instance : null;
+    }
+
+    public synchronized Handle<I, S> getHandle(UUID playerId) {
+        return byPlayer.get(playerId);
+    }
+
+    public synchronized Handle<I, S> getHandle(I instance) {
+        return byInstance.get(instance);
+    }
+
+    /**
+     * The instance in play whose bounds contain a location, or null.
+     */
+    public synchronized I getAt(Location location) {
+        return spatialIndex.get(location);
+    }
+
+    public synchronized I getAt(World world, int x, int y, int z) {
+        return spatialIndex.get(world, x, y, z);
+    }
+
+    /**
+     * The handle whose slot contains a block, in any state but FREE, or null
+     * (see {@link #occupy}).
+     */
+    public synchronized Handle<I, S> getHandleAt(World world, int x, int y, int z) {
+        return slotIndex.get(world, x, y, z);
+    }
+
+    /**
+     * Snapshot of the instances in play.
+     */
+    public synchronized List<I> getInstances() {
+        return new ArrayList<>(byInstance.keySet());
+    }
+
+    /**
+     * Instances in play (ACTIVE or DRAINING).
+     */
+    public synchronized int activeCount() {
+        return current[InstanceState.ACTIVE.ordinal()] + current[InstanceState.DRAINING.ordinal()];
+    }
+
+    public synchronized int count(InstanceState state) {
+        return current[state.ordinal()];
+    }
+
+    // ==================== Entities ====================
+
+    /**
+     * Track an entity spawned in an instance in play so it can be resolved by UUID.
+     */
+    public synchronized void trackEntity(I instance, UUID entityId) {
+        if (byInstance.containsKey(instance)) {
+            entityIndex.put(entityId, instance);
+        }
+    }
+
+    public synchronized I getByEntity(UUID entityId) {
+        return entityIndex.get(entityId);
+    }
+
+    /**
+     * Stop tracking an entity (on death).
+     *
+     * @return The instance that owned it, or null
+     */
+    public synchronized I untrackEntity(UUID entityId) {
+        return entityIndex.remove(entityId);
+    }
+
+    // ==================== Metrics ====================
+
+    /**
+     * Instances per state, times each state was entered, and the average time
+     * spent in it. FREE has no current count.
+     */
+    public synchronized List<Stats> getStats() {
+        List<Stats> stats = new ArrayList<>();
+        for (InstanceState state : STATES) {
+            int i = state.ordinal();
+            long average = left[i] > 0 ? nanosIn[i] / left[i] / 1_000_000L : 0L;
+            stats.add(new Stats(name, state, current[i], entered[i], average));
+        }
+        return stats;
+    }
+
+    public static List<Stats> getAllStats() {
+        List<Stats> stats = new ArrayList<>();
+        for (InstanceLifecycle<?, ?> lifecycle : lifecycles) {
+            stats.addAll(lifecycle.getStats());
+        }
+        return stats;
+    }
+
+    // ==================== Internals ====================
+
+    private boolean move(Handle<I, S> handle, InstanceState next) {
+        InstanceState from = handle.state;
+        if (!from.canMoveTo(next)) {
+            plugin.getLogger().warning("[EventPlugin] " + name + " instance cannot go from " + from + " to " + next);
+            return false;
+        }
+
+        long now = System.nanoTime();
+        current[from.ordinal()]--;
+        left[from.ordinal()]++;
+        nanosIn[from.ordinal()] += now - handle.since;
+        if (next != InstanceState.FREE) {
+            current[next.ordinal()]++;
+        }
+        entered[next.ordinal()]++;
+
+        handle.state = next;
+        handle.since = now;
+        return true;
+    }
+
+    private void releaseChunks(Handle<I, S> handle) {
+        if (handle.chunks != null) {
+            ChunkTickets.release(plugin, handle.world, handle.minX, handle.minZ, handle.maxX, handle.maxZ);
+            handle.chunks = null;
+        }
+    }
+
+    private synchronized boolean isInPlay(Handle<I, S> handle) {
+        return handle.state == InstanceState.ACTIVE || handle.state == InstanceState.DRAINING;
+    }
+
+    private void cancelTasks(Handle<I, S> handle) {
+        for (BukkitTask task : handle.tasks) {
+            task.cancel();
+        }
+        handle.tasks.clear();
+    }
+}
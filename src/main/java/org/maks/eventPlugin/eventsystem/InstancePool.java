@@ -0,0 +1,160 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Pool of pre-built instance slots (e.g. pasted realm schematics), kept per key.
+ *
+ * A timer tops every key up to its target size, building at most one slot per
+ * run and only while the server's average tick time is under the configured
+ * limit, so the cost lands on quiet ticks instead of on the player waiting for
+ * an instance. Taking a slot is a queue poll; misses fall back to building the
+ * instance on demand. Finished instances can be reset and offered back instead
+ * of being torn down. Main thread only.
+ *
+ * @param <S> Slot type
+ */
+public class InstancePool<S> {
+
+    public record Stats(String pool, String key, int ready, long hits, long misses) {}
+
+    private static final class Bucket<S> {
+        final Deque<S> ready = new ArrayDeque<>();
+        int target;
+        long hits;
+        long misses;
+    }
+
+    private final String name;
+    private final Function<String, S> builder;
+    private final Consumer<S> releaser;
+    private final Map<String, Bucket<S>> buckets = new LinkedHashMap<>();
+
+    private double maxTickMillis = 40.0;
+    private BukkitTask task;
+
+    /**
+     * @param name Pool name shown in stats
+     * @param builder Builds a slot for a key; returns null when no slot can be built right now
+     * @param releaser Frees a slot that is dropped from the pool
+     */
+    public InstancePool(String name, Function<String, S> builder, Consumer<S> releaser) {
+        this.name = name;
+        this.builder = builder;
+        this.releaser = releaser;
+    }
+
+    /**
+     * Set how many ready slots to keep for a key (0 disables pooling for it).
+     */
+    public void setTarget(String key, int target) {
+        Bucket<S> bucket = buckets.computeIfAbsent(key, k -> new Bucket<>());
+        bucket.target = Math.max(0, target);
+        while (bucket.ready.size() > bucket.target) {
+            releaser.accept(bucket.ready.pollLast());
+        }
+    }
+
+    public void start(JavaPlugin plugin, long intervalTicks, double maxTickMillis) {
+        this.maxTickMillis = maxTickMillis;
+        if (task != null) task.cancel();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::replenish, intervalTicks, intervalTicks);
+    }
+
+    /**
+     * Take a ready slot, or null on a miss.
+     */
+    public S take(String key) {
+        Bucket<S> bucket = buckets.computeIfAbsent(key, k -> new Bucket<>());
+        S slot = bucket.ready.pollFirst();
+        if (slot != null) {
+            bucket.hits++;
+        } else {
+            bucket.misses++;
+        }
+        return slot;
+    }
+
+    /**
+     * Whether a key is below its target size.
+     */
+    public boolean hasRoom(String key) {
+        Bucket<S> bucket = buckets.get(key);
+        return bucket != null && bucket.ready.size() < bucket.target;
+    }
+
+    /**
+     * Put a recycled slot back into the pool.
+     *
+     * @return false if the key is already full; the slot then stays with the caller
+     */
+    public boolean offer(String key, S slot) {
+        if (!hasRoom(key)) return false;
+        buckets.get(key).ready.addLast(slot);
+        return true;
+    }
+
+    /**
+     * Ready slots across all keys (they count towards instance limits).
+     */
+    public int readyCount() {
+        int count = 0;
+        for (Bucket<S> bucket : buckets.values()) {
+            count += bucket.ready.size();
+        }
+        return count;
+    }
+
+    public int readyCount(String key) {
+        Bucket<S> bucket = buckets.get(key);
+        return bucket != null ? bucket.ready.size() : 0;
+    }
+
+    /**
+     * Drop and free every ready slot.
+     */
+    public void clear() {
+        for (Bucket<S> bucket : buckets.values()) {
+            S slot;
+            while ((slot = bucket.ready.pollFirst()) != null) {
+                releaser.accept(slot);
+            }
+        }
+    }
+
+    public List<Stats> getStats() {
+        List<Stats> stats = new ArrayList<>();
+        for (Map.Entry<String, Bucket<S>> entry : buckets.entrySet()) {
+            Bucket<S> bucket = entry.getValue();
+            stats.add(new Stats(name, entry.getKey(), bucket.ready.size(), bucket.hits, bucket.misses));
+        }
+        return stats;
+    }
+
+    private void replenish() {
+        if (Bukkit.getAverageTickTime() > maxTickMillis) return;
+
+        for (Map.Entry<String, Bucket<S>> entry : buckets.entrySet()) {
+            Bucket<S> bucket = entry.getValue();
+            if (bucket.ready.size() >= bucket.target) continue;
+
+            S slot = builder.apply(entry.getKey());
+            if (slot != null) {
+                bucket.ready.addLast(slot);
+                // One build per run keeps the cost of a run to a single paste
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Ends the instances of players who leave the server, for every
+ * {@link InstanceLifecycle}. Stays registered, since instances outlive events.
+ */
+public class InstanceQuitListener implements Listener {
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        InstanceLifecycle.quitAll(event.getPlayer().getUniqueId());
+    }
+}
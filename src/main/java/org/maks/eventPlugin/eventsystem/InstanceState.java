@@ -0,0 +1,34 @@
+package org.maks.eventPlugin.eventsystem;
+
+/**
+ * Lifecycle state of an event instance (a pasted arena, realm or boss room).
+ *
+ * ALLOCATING (claiming a slot) -> PASTING -> READY (pooled or about to be
+ * handed out) -> ACTIVE -> DRAINING (countdown before removal) -> CLEARING ->
+ * FREE. A cleared instance that is reset for reuse goes from CLEARING back to
+ * READY; a pooled one that is dropped goes from READY to CLEARING.
+ */
+public enum InstanceState {
+    ALLOCATING,
+    PASTING,
+    READY,
+    ACTIVE,
+    DRAINING,
+    CLEARING,
+    FREE;
+
+    /**
+     * Whether an instance in this state may move to the given one.
+     */
+    public boolean canMoveTo(InstanceState next) {
+        return switch (this) {
+            case ALLOCATING -> next == PASTING || next == FREE;
+            case PASTING -> next == READY || next == CLEARING || next == FREE;
+            case READY -> next == ACTIVE || next == CLEARING;
+            case ACTIVE -> next == DRAINING || next == CLEARING;
+            case DRAINING -> next == CLEARING;
+            case CLEARING -> next == READY || next == FREE;
+            case FREE -> false;
+        };
+    }
+}
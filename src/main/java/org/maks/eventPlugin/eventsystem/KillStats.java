@@ -0,0 +1,341 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.maks.eventPlugin.db.DatabaseManager;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-player kill statistics for every event, lifetime and current edition.
+ *
+ * Mob types are interned into a registry on first sight and counters are plain
+ * int arrays indexed by the mob type's ordinal, so recording a kill is an array
+ * increment. Kills since the last flush are kept as deltas and written in one
+ * batch every 60 seconds on a single DB thread (so resets and flushes stay in
+ * order) - there are no per-kill DB writes.
+ *
+ * The edition counters are reset whenever an event resets its per-player data.
+ * Each reset bumps the event's generation, so edition values loaded before it
+ * are dropped instead of re-added. Rows that fail to save are kept on the DB
+ * thread and retried with the next write. Main thread only, except for the DB thread.
+ */
+public class KillStats implements Listener {
+
+    private static final long FLUSH_INTERVAL_TICKS = 20L * 60;
+
+    private static final class Counters {
+        int[] lifetime = new int[0];
+        int[] edition = new int[0];
+        int[] pending = new int[0];
+        boolean dirty;
+
+        void ensure(int size) {
+            if (lifetime.length >= size) return;
+            int length = Math.max(size, lifetime.length * 2);
+            lifetime = Arrays.copyOf(lifetime, length);
+            edition = Arrays.copyOf(edition, length);
+            pending = Arrays.copyOf(pending, length);
+        }
+
+        int get(int ordinal, boolean lifetimeStats) {
+            int[] counts = lifetimeStats ? lifetime : edition;
+            return ordinal < counts.length ? counts[ordinal] : 0;
+        }
+    }
+
+    private record Row(UUID playerId, String eventId, String mobType, int lifetime, int edition) {}
+
+    private final JavaPlugin plugin;
+    private final DatabaseManager database;
+
+    // Mob type registry: name -> ordinal and back
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> mobTypes = new ArrayList<>();
+
+    // Player -> event -> counters
+    private final Map<UUID, Map<String, Counters>> players = new HashMap<>();
+    private final Set<UUID> dirtyPlayers = new HashSet<>();
+
+    // Event -> edition reset generation
+    private final Map<String, Integer> editionGenerations = new HashMap<>();
+
+    // Rows whose write failed, retried with the next write (DB thread only)
+    private final List<Row> unsaved = new ArrayList<>();
+
+    private final ExecutorService dbThread = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "EventPlugin-KillStats");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private BukkitTask flushTask;
+
+    public KillStats(JavaPlugin plugin, DatabaseManager database) {
+        this.plugin = plugin;
+        this.database = database;
+    }
+
+    public void start() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            load(player.getUniqueId());
+        }
+        flushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flush, FLUSH_INTERVAL_TICKS, FLUSH_INTERVAL_TICKS);
+    }
+
+    /**
+     * Write pending kills and wait for the DB thread to finish (used on shutdown).
+     */
+    public void stop() {
+        if (flushTask != null) flushTask.cancel();
+        flush();
+        dbThread.shutdown();
+        try {
+            if (!dbThread.awaitTermination(10, TimeUnit.SECONDS)) {
+                Bukkit.getLogger().warning("[EventPlugin] Kill stats flush did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== RECORDING ====================
+
+    public void recordKill(UUID playerId, String eventId, String mobType) {
+        int ordinal = ordinal(mobType);
+        Counters counters = players.computeIfAbsent(playerId, k -> new HashMap<>())
+                .computeIfAbsent(eventId, k -> new Counters());
+        counters.ensure(ordinal + 1);
+        counters.lifetime[ordinal]++;
+        counters.edition[ordinal]++;
+        counters.pending[ordinal]++;
+        counters.dirty = true;
+        dirtyPlayers.add(playerId);
+    }
+
+    /**
+     * Reset the current-edition counters of an event for every player.
+     */
+    public void resetEdition(String eventId) {
+        for (Map<String, Counters> events : players.values()) {
+            Counters counters = events.get(eventId);
+            if (counters != null) Arrays.fill(counters.edition, 0);
+        }
+        editionGenerations.merge(eventId, 1, Integer::sum);
+        List<Row> rows = collectPending();
+        dbThread.execute(() -> {
+            write(rows);
+            dropUnsavedEdition(eventId, null);
+            update("UPDATE event_kill_stats SET edition=0 WHERE event_id=?", eventId, null);
+        });
+    }
+
+    /**
+     * Reset the current-edition counters of an event for one player.
+     */
+    public void resetEdition(UUID playerId, String eventId) {
+        Map<String, Counters> events = players.get(playerId);
+        if (events != null && events.containsKey(eventId)) {
+            Arrays.fill(events.get(eventId).edition, 0);
+        }
+        editionGenerations.merge(eventId, 1, Integer::sum);
+        List<Row> rows = collectPending();
+        dbThread.execute(() -> {
+            write(rows);
+            dropUnsavedEdition(eventId, playerId);
+            update("UPDATE event_kill_stats SET edition=0 WHERE event_id=? AND player_uuid=?", eventId, playerId);
+        });
+    }
+
+    // ==================== QUERIES ====================
+
+    public int getKills(UUID playerId, String eventId, String mobType, boolean lifetime) {
+        Counters counters = find(playerId, eventId);
+        Integer ordinal = ordinals.get(mobType.toLowerCase());
+        if (counters == null || ordinal == null) return 0;
+        return counters.get(ordinal, lifetime);
+    }
+
+    public int getTotalKills(UUID playerId, String eventId, boolean lifetime) {
+        Counters counters = find(playerId, eventId);
+        if (counters == null) return 0;
+        int total = 0;
+        for (int count : lifetime ? counters.lifetime : counters.edition) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * All non-zero kill counts of a player in an event, by mob type.
+     */
+    public Map<String, Integer> getKills(UUID playerId, String eventId, boolean lifetime) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        Counters counters = find(playerId, eventId);
+        if (counters == null) return result;
+        for (int i = 0; i < mobTypes.size(); i++) {
+            int count = counters.get(i, lifetime);
+            if (count > 0) result.put(mobTypes.get(i), count);
+        }
+        return result;
+    }
+
+    private Counters find(UUID playerId, String eventId) {
+        Map<String, Counters> events = players.get(playerId);
+        return events != null ? events.get(eventId) : null;
+    }
+
+    private int ordinal(String mobType) {
+        String key = mobType.toLowerCase();
+        Integer ordinal = ordinals.get(key);
+        if (ordinal == null) {
+            ordinal = mobTypes.size();
+            mobTypes.add(key);
+            ordinals.put(key, ordinal);
+        }
+        return ordinal;
+    }
+
+    // ==================== PERSISTENCE ====================
+
+    @EventHandler
+    public void onJoin(PlayerJoinEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        // Still in memory from the last session (not evicted yet)
+        if (players.containsKey(playerId)) return;
+        load(playerId);
+    }
+
+    private void load(UUID playerId) {
+        Map<String, Integer> generations = new HashMap<>(editionGenerations);
+        dbThread.execute(() -> {
+            List<Object[]> rows = new ArrayList<>();
+            try (var conn = database.getConnection();
+                 var ps = conn.prepareStatement("SELECT event_id, mob_type, lifetime, edition FROM event_kill_stats WHERE player_uuid=?")) {
+                ps.setString(1, playerId.toString());
+                try (var rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        rows.add(new Object[]{rs.getString(1), rs.getString(2), rs.getInt(3), rs.getInt(4)});
+                    }
+                }
+            } catch (SQLException ex) {
+                Bukkit.getLogger().warning("[EventPlugin] Failed to load kill stats for " + playerId + ": " + ex.getMessage());
+                return;
+            }
+            if (rows.isEmpty() || !plugin.isEnabled()) return;
+
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                Map<String, Counters> events = players.computeIfAbsent(playerId, k -> new HashMap<>());
+                for (Object[] row : rows) {
+                    int ordinal = ordinal((String) row[1]);
+                    Counters counters = events.computeIfAbsent((String) row[0], k -> new Counters());
+                    counters.ensure(ordinal + 1);
+                    // Added, not assigned: kills made while loading are already counted in memory
+                    counters.lifetime[ordinal] += (int) row[2];
+                    // Edition reset while loading: the loaded value is from the old edition
+                    if (Objects.equals(generations.get(row[0]), editionGenerations.get(row[0]))) {
+                        counters.edition[ordinal] += (int) row[3];
+                    }
+                }
+            });
+        });
+    }
+
+    private void flush() {
+        List<Row> rows = collectPending();
+
+        // Drop players who went offline once their kills are on their way to the DB
+        Iterator<UUID> it = players.keySet().iterator();
+        while (it.hasNext()) {
+            if (Bukkit.getPlayer(it.next()) == null) it.remove();
+        }
+
+        // Always queued, even when empty, so earlier failed rows are retried
+        dbThread.execute(() -> write(rows));
+    }
+
+    private List<Row> collectPending() {
+        List<Row> rows = new ArrayList<>();
+        for (UUID playerId : dirtyPlayers) {
+            Map<String, Counters> events = players.get(playerId);
+            if (events == null) continue;
+            for (Map.Entry<String, Counters> entry : events.entrySet()) {
+                Counters counters = entry.getValue();
+                if (!counters.dirty) continue;
+                for (int i = 0; i < counters.pending.length; i++) {
+                    if (counters.pending[i] == 0) continue;
+                    rows.add(new Row(playerId, entry.getKey(), mobTypes.get(i), counters.pending[i], counters.pending[i]));
+                    counters.pending[i] = 0;
+                }
+                counters.dirty = false;
+            }
+        }
+        dirtyPlayers.clear();
+        return rows;
+    }
+
+    private void write(List<Row> pending) {
+        List<Row> rows = pending;
+        if (!unsaved.isEmpty()) {
+            rows = new ArrayList<>(unsaved);
+            rows.addAll(pending);
+            unsaved.clear();
+        }
+        if (rows.isEmpty()) return;
+        try (var conn = database.getConnection();
+             var ps = conn.prepareStatement("INSERT INTO event_kill_stats(player_uuid, event_id, mob_type, lifetime, edition) " +
+                     "VALUES (?,?,?,?,?) ON DUPLICATE KEY UPDATE lifetime = lifetime + VALUES(lifetime), edition = edition + VALUES(edition)")) {
+            for (Row row : rows) {
+                ps.setString(1, row.playerId().toString());
+                ps.setString(2, row.eventId());
+                ps.setString(3, row.mobType());
+                ps.setInt(4, row.lifetime());
+                ps.setInt(5, row.edition());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        } catch (SQLException ex) {
+            Bukkit.getLogger().warning("[EventPlugin] Failed to save " + rows.size() + " kill stat rows, retrying with the next flush: " + ex.getMessage());
+            unsaved.addAll(rows);
+        }
+    }
+
+    /**
+     * Keep only the lifetime part of unsaved rows from before an edition reset.
+     * DB thread only.
+     */
+    private void dropUnsavedEdition(String eventId, UUID playerId) {
+        unsaved.replaceAll(row -> row.eventId().equals(eventId) && (playerId == null || row.playerId().equals(playerId))
+                ? new Row(row.playerId(), row.eventId(), row.mobType(), row.lifetime(), 0)
+                : row);
+    }
+
+    private void update(String sql, String eventId, UUID playerId) {
+        try (var conn = database.getConnection();
+             var ps = conn.prepareStatement(sql)) {
+            ps.setString(1, eventId);
+            if (playerId != null) ps.setString(2, playerId.toString());
+            ps.executeUpdate();
+        } catch (SQLException ex) {
+            Bukkit.getLogger().warning("[EventPlugin] Failed to reset kill stats: " + ex.getMessage());
+        }
+    }
+}
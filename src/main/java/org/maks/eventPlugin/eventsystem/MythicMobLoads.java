@@ -0,0 +1,89 @@
+package org.maks.eventPlugin.eventsystem;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import io.lumine.mythic.bukkit.MythicBukkit;
+import io.lumine.mythic.core.mobs.ActiveMob;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Reports MythicMobs that come back with their chunk, or were already loaded
+ * when the plugin enabled.
+ *
+ * MythicMobs fires no spawn event for a mob loaded from disk, so registries
+ * filled from {@code MythicMobSpawnEvent} (event mobs, Lords) subscribe here to
+ * re-register them. A registry miss then simply means "not tracked", without a
+ * MythicMobs lookup on every hit. Entities added to a world are resolved in one
+ * batch on the next tick, once MythicMobs has re-attached them. Main thread only.
+ */
+public class MythicMobLoads implements Listener {
+
+    private final JavaPlugin plugin;
+    private final List<BiConsumer<Entity, String>> hooks = new ArrayList<>();
+    private final List<Entity> pending = new ArrayList<>();
+    private boolean flushScheduled;
+
+    public MythicMobLoads(JavaPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Run a hook with every loaded MythicMob and its internal mob type.
+     */
+    public void onLoad(BiConsumer<Entity, String> hook) {
+        hooks.add(hook);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAddToWorld(EntityAddToWorldEvent event) {
+        Entity entity = event.getEntity();
+        if (hooks.isEmpty() || !(entity instanceof LivingEntity) || entity instanceof Player) return;
+
+        pending.add(entity);
+        if (!flushScheduled && plugin.isEnabled()) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::flush);
+        }
+    }
+
+    /**
+     * Report the MythicMobs already loaded in every world (after a plugin reload).
+     */
+    public void scanLoaded() {
+        for (World world : Bukkit.getWorlds()) {
+            for (LivingEntity entity : world.getLivingEntities()) {
+                if (!(entity instanceof Player)) resolve(entity);
+            }
+        }
+    }
+
+    private void flush() {
+        flushScheduled = false;
+        List<Entity> batch = new ArrayList<>(pending);
+        pending.clear();
+        for (Entity entity : batch) {
+            if (entity.isValid()) resolve(entity);
+        }
+    }
+
+    private void resolve(Entity entity) {
+        Optional<ActiveMob> mob = MythicBukkit.inst().getMobManager().getActiveMob(entity.getUniqueId());
+        if (mob.isEmpty()) return;
+        String mobType = mob.get().getMobType();
+        for (BiConsumer<Entity, String> hook : hooks) {
+            hook.accept(entity, mobType);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Sound;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.maks.eventPlugin.config.ConfigManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-player notification aggregator for kill feedback.
+ *
+ * Chat lines, titles and sounds queued during a tick are merged and sent together
+ * on the next tick:
+ * - identical chat lines collapse into one line with a repeat count, and keyed
+ *   lines (e.g. quest progress) keep only their latest text
+ * - normal chat beyond max_chat_lines is dropped; important lines are always sent
+ * - important titles are queued and shown one after another, each for its full
+ *   duration, and a title identical to one still waiting is not queued again;
+ *   a normal title is only shown when no important one is on screen, and is
+ *   rate limited
+ * - identical sounds play once
+ *
+ * Main thread only. Configured from the "notifications" config section.
+ */
+public final class Notifications {
+
+    public enum Priority { NORMAL, IMPORTANT }
+
+    private record Line(String text, Priority priority, int count) {}
+
+    private record Title(String title, String subtitle, int fadeIn, int stay, int fadeOut, Priority priority) {}
+
+    private record SoundKey(Sound sound, float volume, float pitch) {}
+
+    private static final class Batch {
+        // Key -> line; unkeyed lines use their text as the key so duplicates merge
+        final Map<String, Line> lines = new LinkedHashMap<>();
+        final List<SoundKey> sounds = new ArrayList<>(2);
+        final List<Title> importantTitles = new ArrayList<>(1);
+        Title title;
+    }
+
+    private static final class TitleState {
+        final Deque<Title> important = new ArrayDeque<>();
+        long lastAt;
+        boolean showing; // an important title is on screen
+    }
+
+    private static final Map<UUID, Batch> batches = new HashMap<>();
+    private static final Map<UUID, TitleState> titles = new HashMap<>();
+    private static boolean flushScheduled;
+
+    private static long titleCooldownMs = 1500L;
+    private static int maxChatLines = 6;
+
+    private Notifications() {
+    }
+
+    public static void configure(ConfigManager config) {
+        ConfigurationSection sec = config.getSection("notifications");
+        if (sec != null) {
+            titleCooldownMs = sec.getLong("title_cooldown_ms", 1500L);
+            maxChatLines = sec.getInt("max_chat_lines", 6);
+        }
+    }
+
+    public static void chat(Player player, String message) {
+        chat(player, message, message, Priority.NORMAL);
+    }
+
+    public static void important(Player player, String message) {
+        chat(player, message, message, Priority.IMPORTANT);
+    }
+
+    /**
+     * Queue a chat line. Lines with the same key are merged into one: the latest
+     * text is kept and the number of merged lines is shown as a repeat count.
+     */
+    public static void chat(Player player, String key, String message, Priority priority) {
+        Batch batch = batch(player);
+        Line previous = batch.lines.get(key);
+        if (previous == null) {
+            batch.lines.put(key, new Line(message, priority, 1));
+        } else {
+            Priority merged = previous.priority() == Priority.IMPORTANT ? Priority.IMPORTANT : priority;
+            batch.lines.put(key, new Line(message, merged, previous.count() + 1));
+        }
+        queued();
+    }
+
+    public static void title(Player player, String title, String subtitle, int fadeIn, int stay, int fadeOut, Priority priority) {
+        Batch batch = batch(player);
+        Title queued = new Title(title, subtitle, fadeIn, stay, fadeOut, priority);
+        // Important titles are all kept in order; of the normal ones the latest wins
+        if (priority == Priority.IMPORTANT) {
+            if (!batch.importantTitles.contains(queued)) {
+                batch.importantTitles.add(queued);
+            }
+        } else {
+            batch.title = queued;
+        }
+        queued();
+    }
+
+    public static void sound(Player player, Sound sound, float volume, float pitch) {
+        Batch batch = batch(player);
+        SoundKey key = new SoundKey(sound, volume, pitch);
+        if (!batch.sounds.contains(key)) {
+            batch.sounds.add(key);
+        }
+        queued();
+    }
+
+    /**
+     * Send everything queued so far. Runs automatically on the tick after the first queued notification.
+     */
+    public static void flush() {
+        flushScheduled = false;
+        if (batches.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, Batch> entry : batches.entrySet()) {
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null || !player.isOnline()) {
+                titles.remove(entry.getKey());
+                continue;
+            }
+            Batch batch = entry.getValue();
+
+            StringBuilder chat = new StringBuilder();
+            int normalSent = 0;
+            for (Line line : batch.lines.values()) {
+                if (line.priority() == Priority.NORMAL) {
+                    if (normalSent >= maxChatLines) continue;
+                    normalSent++;
+                }
+                if (chat.length() > 0) chat.append('\n');
+                chat.append(line.text());
+                if (line.count() > 1) chat.append(" §7(x").append(line.count()).append(')');
+            }
+            if (chat.length() > 0) {
+                player.sendMessage(chat.toString());
+            }
+
+            if (!batch.importantTitles.isEmpty()) {
+                TitleState state = titles.computeIfAbsent(entry.getKey(), k -> new TitleState());
+                for (Title title : batch.importantTitles) {
+                    // Collapse repeats of a title that is still waiting its turn
+                    if (!state.important.contains(title)) {
+                        state.important.add(title);
+                    }
+                }
+                if (!state.showing) {
+                    showNextTitle(entry.getKey());
+                }
+            } else if (batch.title != null) {
+                TitleState state = titles.computeIfAbsent(entry.getKey(), k -> new TitleState());
+                if (!state.showing && now - state.lastAt >= titleCooldownMs) {
+                    Title title = batch.title;
+                    player.sendTitle(title.title(), title.subtitle(), title.fadeIn(), title.stay(), title.fadeOut());
+                    state.lastAt = now;
+                }
+            }
+
+            for (SoundKey sound : batch.sounds) {
+                player.playSound(player.getLocation(), sound.sound(), sound.volume(), sound.pitch());
+            }
+        }
+        batches.clear();
+    }
+
+    /**
+     * Drop everything kept for a player (on quit).
+     */
+    public static void forget(UUID playerId) {
+        batches.remove(playerId);
+        titles.remove(playerId);
+    }
+
+    /**
+     * Show the next queued important title, then the one after it once this one
+     * has faded out.
+     */
+    private static void showNextTitle(UUID playerId) {
+        TitleState state = titles.get(playerId);
+        if (state == null) return;
+        Player player = Bukkit.getPlayer(playerId);
+        Title title = state.important.poll();
+        if (player == null || title == null) {
+            state.showing = false;
+            return;
+        }
+
+        player.sendTitle(title.title(), title.subtitle(), title.fadeIn(), title.stay(), title.fadeOut());
+        state.lastAt = System.currentTimeMillis();
+        state.showing = true;
+
+        Plugin plugin = Bukkit.getPluginManager().getPlugin("EventPlugin");
+        if (plugin == null || !plugin.isEnabled()) {
+            // Shutting down: nothing left to pace
+            state.showing = false;
+            state.important.clear();
+            return;
+        }
+        long ticks = Math.max(1, title.fadeIn() + title.stay() + title.fadeOut());
+        Bukkit.getScheduler().runTaskLater(plugin, () -> showNextTitle(playerId), ticks);
+    }
+
+    private static Batch batch(Player player) {
+        return batches.computeIfAbsent(player.getUniqueId(), k -> new Batch());
+    }
+
+    private static void queued() {
+        if (flushScheduled) return;
+        Plugin plugin = Bukkit.getPluginManager().getPlugin("EventPlugin");
+        if (plugin == null || !plugin.isEnabled()) {
+            // Scheduler unavailable (e.g. during shutdown) - deliver right away
+            flush();
+            return;
+        }
+        flushScheduled = true;
+        Bukkit.getScheduler().runTask(plugin, Notifications::flush);
+    }
+}
@@ -0,0 +1,273 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.boss.BossBar;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * All transient per-player event state for one online session.
+ * Created on first use while the player is online and dropped on quit by
+ * {@link PlayerStateManager}, so nothing here outlives the session except the
+ * difficulty and realm choices, which live in the shared {@link EventChoices}.
+ */
+public class PlayerEventState {
+    private final UUID playerId;
+    private final EventChoices choices;
+
+    // ==================== ATTRIE BUFF ====================
+    private boolean attrieLoaded;
+    private Instant attrieBuffEnd;
+
+    // ==================== PROGRESS MODIFIERS ====================
+    private int partySize = 1;
+    private double progressMultiplier = 1.0;
+    private long modifierValidUntil;
+    private int modifierGeneration;
+
+    // ==================== FULL MOON ====================
+    private long bloodVialClickAt;
+
+    // ==================== NEW MOON ====================
+    private long cauldronBuffExpiry;
+    private BossBar cauldronBossBar;
+    private BukkitTask cauldronBossBarTask;
+    private long cauldronClickAt;
+    private long lordRespawnClickAt;
+    private long lordWarningAt;
+    private long portalGuiCooldownUntil;
+    private long lockedPortalCooldownUntil;
+
+    // ==================== WINTER EVENT ====================
+    private long winterPortalGuiCooldownUntil;
+    private boolean winterPortalGuiOpen;
+
+    PlayerEventState(UUID playerId, EventChoices choices) {
+        this.playerId = playerId;
+        this.choices = choices;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    // Attrie buff
+
+    public boolean isAttrieLoaded() {
+        return attrieLoaded;
+    }
+
+    public Instant getAttrieBuffEnd() {
+        return attrieBuffEnd;
+    }
+
+    public void setAttrieBuffEnd(Instant attrieBuffEnd) {
+        this.attrieBuffEnd = attrieBuffEnd;
+        this.attrieLoaded = true;
+    }
+
+    // Progress modifiers
+
+    public int getPartySize() {
+        return partySize;
+    }
+
+    public void setPartySize(int partySize) {
+        this.partySize = partySize;
+    }
+
+    public double getProgressMultiplier() {
+        return progressMultiplier;
+    }
+
+    public long getModifierValidUntil() {
+        return modifierValidUntil;
+    }
+
+    public int getModifierGeneration() {
+        return modifierGeneration;
+    }
+
+    /**
+     * Cache the combined progress multiplier until the given time (epoch millis).
+     */
+    public void setProgressMultiplier(double multiplier, long validUntil, int generation) {
+        this.progressMultiplier = multiplier;
+        this.modifierValidUntil = validUntil;
+        this.modifierGeneration = generation;
+    }
+
+    public void invalidateProgressMultiplier() {
+        this.modifierValidUntil = 0L;
+    }
+
+    // Full Moon
+
+    public String getFullMoonDifficulty() {
+        return choices.getFullMoonDifficulty();
+    }
+
+    public void setFullMoonDifficulty(String fullMoonDifficulty) {
+        choices.setFullMoonDifficulty(fullMoonDifficulty);
+    }
+
+    public long getBloodVialClickAt() {
+        return bloodVialClickAt;
+    }
+
+    public void setBloodVialClickAt(long bloodVialClickAt) {
+        this.bloodVialClickAt = bloodVialClickAt;
+    }
+
+    /**
+     * Reset everything the Full Moon event tracks for this player.
+     */
+    public void resetFullMoon() {
+        choices.resetFullMoon();
+    }
+
+    // New Moon
+
+    public String getNewMoonDifficulty() {
+        return choices.getNewMoonDifficulty();
+    }
+
+    public void setNewMoonDifficulty(String newMoonDifficulty) {
+        choices.setNewMoonDifficulty(newMoonDifficulty);
+    }
+
+    public String getNewMoonRealm() {
+        return choices.getNewMoonRealm();
+    }
+
+    public void setNewMoonRealm(String newMoonRealm) {
+        choices.setNewMoonRealm(newMoonRealm);
+    }
+
+    public long getCauldronBuffExpiry() {
+        return cauldronBuffExpiry;
+    }
+
+    public void setCauldronBuffExpiry(long cauldronBuffExpiry) {
+        this.cauldronBuffExpiry = cauldronBuffExpiry;
+    }
+
+    public BossBar getCauldronBossBar() {
+        return cauldronBossBar;
+    }
+
+    public BukkitTask getCauldronBossBarTask() {
+        return cauldronBossBarTask;
+    }
+
+    public void setCauldronBossBar(BossBar bossBar, BukkitTask task) {
+        this.cauldronBossBar = bossBar;
+        this.cauldronBossBarTask = task;
+    }
+
+    /**
+     * Cancel the cauldron timer task and hide its boss bar.
+     */
+    public void clearCauldronBossBar() {
+        if (cauldronBossBarTask != null) {
+            cauldronBossBarTask.cancel();
+            cauldronBossBarTask = null;
+        }
+        if (cauldronBossBar != null) {
+            cauldronBossBar.removeAll();
+            cauldronBossBar = null;
+        }
+    }
+
+    public long getCauldronClickAt() {
+        return cauldronClickAt;
+    }
+
+    public void setCauldronClickAt(long cauldronClickAt) {
+        this.cauldronClickAt = cauldronClickAt;
+    }
+
+    public long getLordRespawnClickAt() {
+        return lordRespawnClickAt;
+    }
+
+    public void setLordRespawnClickAt(long lordRespawnClickAt) {
+        this.lordRespawnClickAt = lordRespawnClickAt;
+    }
+
+    public long getLordWarningAt() {
+        return lordWarningAt;
+    }
+
+    public void setLordWarningAt(long lordWarningAt) {
+        this.lordWarningAt = lordWarningAt;
+    }
+
+    public long getPortalGuiCooldownUntil() {
+        return portalGuiCooldownUntil;
+    }
+
+    public void setPortalGuiCooldownUntil(long portalGuiCooldownUntil) {
+        this.portalGuiCooldownUntil = portalGuiCooldownUntil;
+    }
+
+    public long getLockedPortalCooldownUntil() {
+        return lockedPortalCooldownUntil;
+    }
+
+    public void setLockedPortalCooldownUntil(long lockedPortalCooldownUntil) {
+        this.lockedPortalCooldownUntil = lockedPortalCooldownUntil;
+    }
+
+    /**
+     * Reset everything the New Moon event tracks for this player.
+     */
+    public void resetNewMoon() {
+        choices.resetNewMoon();
+        cauldronBuffExpiry = 0L;
+        clearCauldronBossBar();
+    }
+
+    // Winter Event
+
+    public String getWinterDifficulty() {
+        return choices.getWinterDifficulty();
+    }
+
+    public void setWinterDifficulty(String winterDifficulty) {
+        choices.setWinterDifficulty(winterDifficulty);
+    }
+
+    public long getWinterPortalGuiCooldownUntil() {
+        return winterPortalGuiCooldownUntil;
+    }
+
+    public void setWinterPortalGuiCooldownUntil(long winterPortalGuiCooldownUntil) {
+        this.winterPortalGuiCooldownUntil = winterPortalGuiCooldownUntil;
+    }
+
+    public boolean isWinterPortalGuiOpen() {
+        return winterPortalGuiOpen;
+    }
+
+    public void setWinterPortalGuiOpen(boolean winterPortalGuiOpen) {
+        this.winterPortalGuiOpen = winterPortalGuiOpen;
+    }
+
+    /**
+     * Reset everything the Winter Event tracks for this player.
+     */
+    public void resetWinter() {
+        choices.resetWinter();
+        winterPortalGuiCooldownUntil = 0L;
+        winterPortalGuiOpen = false;
+    }
+
+    /**
+     * Release resources held by the session (called when the player quits).
+     */
+    void release() {
+        clearCauldronBossBar();
+    }
+}
@@ -0,0 +1,128 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Owns the {@link PlayerEventState} of every online player.
+ * States are created lazily on first access and evicted when the player quits,
+ * after all other quit handlers have run. The {@link EventChoices} behind them
+ * are kept across quits until the event resets them.
+ */
+public class PlayerStateManager implements Listener {
+
+    private final Map<UUID, PlayerEventState> states = new HashMap<>();
+    // Difficulty and realm choices, kept across quits
+    private final Map<UUID, EventChoices> choices = new HashMap<>();
+    // Session caches kept outside PlayerEventState, cleared on quit
+    private final List<Consumer<UUID>> evictHooks = new ArrayList<>();
+
+    /**
+     * Run a hook for every player that quits, after their state is evicted.
+     */
+    public void onEvict(Consumer<UUID> hook) {
+        evictHooks.add(hook);
+    }
+
+    /**
+     * Get the session state for an online player, creating it if needed.
+     */
+    public PlayerEventState get(Player player) {
+        return states.computeIfAbsent(player.getUniqueId(), this::create);
+    }
+
+    /**
+     * Get the session state for a player by UUID.
+     * Creates it only if the player is online; returns null for offline players.
+     */
+    public PlayerEventState get(UUID playerId) {
+        PlayerEventState state = states.get(playerId);
+        if (state == null && Bukkit.getPlayer(playerId) != null) {
+            state = create(playerId);
+            states.put(playerId, state);
+        }
+        return state;
+    }
+
+    /**
+     * Get the session state only if it already exists.
+     */
+    public PlayerEventState find(UUID playerId) {
+        return states.get(playerId);
+    }
+
+    /**
+     * Get a player's kept choices, online or not; null if they made none.
+     */
+    public EventChoices findChoices(UUID playerId) {
+        return choices.get(playerId);
+    }
+
+    /**
+     * All live session states.
+     */
+    public Collection<PlayerEventState> all() {
+        return states.values();
+    }
+
+    /**
+     * Apply an event's reset to the choices of every player, online or not.
+     */
+    public void resetChoices(Consumer<EventChoices> reset) {
+        Iterator<Map.Entry<UUID, EventChoices>> it = choices.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, EventChoices> entry = it.next();
+            reset.accept(entry.getValue());
+            // Online players' states still point at their choices
+            if (entry.getValue().isDefault() && !states.containsKey(entry.getKey())) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Apply an event's reset to one player's choices, online or not.
+     */
+    public void resetChoices(UUID playerId, Consumer<EventChoices> reset) {
+        EventChoices playerChoices = choices.get(playerId);
+        if (playerChoices == null) return;
+        reset.accept(playerChoices);
+        if (playerChoices.isDefault() && !states.containsKey(playerId)) {
+            choices.remove(playerId);
+        }
+    }
+
+    private PlayerEventState create(UUID playerId) {
+        return new PlayerEventState(playerId, choices.computeIfAbsent(playerId, id -> new EventChoices()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        PlayerEventState state = states.remove(event.getPlayer().getUniqueId());
+        if (state != null) {
+            state.release();
+            // Keep the choices only if there is something to keep
+            EventChoices kept = choices.get(state.getPlayerId());
+            if (kept != null && kept.isDefault()) {
+                choices.remove(state.getPlayerId());
+            }
+        }
+        Notifications.forget(event.getPlayer().getUniqueId());
+        for (Consumer<UUID> hook : evictHooks) {
+            hook.accept(event.getPlayer().getUniqueId());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.maks.eventPlugin.config.ConfigManager;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Progress multiplier stack for event kills.
+ *
+ * Layers (all multiplied together):
+ * - Attrie buff
+ * - weekend boost on the configured days
+ * - party bonus per extra party member (party size is pushed in via {@link #setPartySize})
+ * - per-event difficulty factor
+ *
+ * The player-wide layers are folded into one multiplier cached in the player's
+ * session state. It is recomputed only when an input changes: the Attrie buff is
+ * applied, the party size changes, the config is reloaded, or a time-based layer
+ * (buff expiry, day change) runs out.
+ */
+public class ProgressModifiers {
+
+    private final BuffManager buffManager;
+    private final PlayerStateManager playerStates;
+
+    private double attrieMultiplier = 1.5;
+    private boolean weekendEnabled;
+    private double weekendMultiplier = 1.0;
+    private final Set<DayOfWeek> weekendDays = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+    private double partyBonusPerMember;
+    private int partyMaxMembers = 5;
+    // eventId -> difficulty -> factor, resolved on load so kills only do lookups
+    private final Map<String, Map<String, Double>> difficultyFactors = new HashMap<>();
+
+    // Bumped on every config load so cached multipliers are rebuilt
+    private int generation = 1;
+
+    public ProgressModifiers(BuffManager buffManager, PlayerStateManager playerStates) {
+        this.buffManager = buffManager;
+        this.playerStates = playerStates;
+    }
+
+    public void load(ConfigManager config) {
+        attrieMultiplier = 1.5;
+        weekendEnabled = false;
+        weekendMultiplier = 1.0;
+        partyBonusPerMember = 0.0;
+        partyMaxMembers = 5;
+        difficultyFactors.clear();
+        putDifficultyFactor("full_moon", "hard", 2.0);
+        putDifficultyFactor("new_moon", "hard", 2.0);
+
+        ConfigurationSection sec = config.getSection("progress_modifiers");
+        if (sec != null) {
+            attrieMultiplier = sec.getDouble("attrie", attrieMultiplier);
+
+            ConfigurationSection weekend = sec.getConfigurationSection("weekend");
+            if (weekend != null) {
+                weekendEnabled = weekend.getBoolean("enabled", false);
+                weekendMultiplier = weekend.getDouble("multiplier", 1.0);
+                List<String> days = weekend.getStringList("days");
+                if (!days.isEmpty()) {
+                    weekendDays.clear();
+                    for (String day : days) {
+                        try {
+                            weekendDays.add(DayOfWeek.valueOf(day.toUpperCase(Locale.ROOT)));
+                        } catch (IllegalArgumentException e) {
+                            config.debug("[Progress] Unknown weekend day: " + day);
+                        }
+                    }
+                }
+            }
+
+            ConfigurationSection party = sec.getConfigurationSection("party");
+            if (party != null) {
+                partyBonusPerMember = party.getDouble("bonus_per_member", 0.0);
+                partyMaxMembers = party.getInt("max_members", 5);
+            }
+
+            ConfigurationSection difficulty = sec.getConfigurationSection("difficulty");
+            if (difficulty != null) {
+                for (String eventId : difficulty.getKeys(false)) {
+                    ConfigurationSection event = difficulty.getConfigurationSection(eventId);
+                    if (event == null) continue;
+                    for (String level : event.getKeys(false)) {
+                        putDifficultyFactor(eventId, level, event.getDouble(level, 1.0));
+                    }
+                }
+            }
+        }
+        generation++;
+    }
+
+    /**
+     * Progress multiplier for a kill in the given event and difficulty.
+     */
+    public double getMultiplier(Player player, String eventId, String difficulty) {
+        double base = getMultiplier(player);
+        if (difficulty == null) return base;
+        Map<String, Double> factors = difficultyFactors.get(eventId);
+        Double factor = factors != null ? factors.get(difficulty) : null;
+        return factor != null ? base * factor : base;
+    }
+
+    /**
+     * Player-wide progress multiplier (Attrie, weekend, party).
+     */
+    public double getMultiplier(Player player) {
+        PlayerEventState state = playerStates.get(player);
+        long now = System.currentTimeMillis();
+        if (state.getModifierGeneration() == generation && now < state.getModifierValidUntil()) {
+            return state.getProgressMultiplier();
+        }
+        return recompute(player, state, now);
+    }
+
+    /**
+     * Set the player's party size (1 = solo). Called by party integrations.
+     */
+    public void setPartySize(Player player, int size) {
+        PlayerEventState state = playerStates.get(player);
+        int clamped = Math.max(1, size);
+        if (state.getPartySize() != clamped) {
+            state.setPartySize(clamped);
+            state.invalidateProgressMultiplier();
+        }
+    }
+
+    /**
+     * Drop the cached multiplier so it is rebuilt on the next kill.
+     */
+    public void invalidate(Player player) {
+        PlayerEventState state = playerStates.find(player.getUniqueId());
+        if (state != null) {
+            state.invalidateProgressMultiplier();
+        }
+    }
+
+    private void putDifficultyFactor(String eventId, String difficulty, double factor) {
+        difficultyFactors.computeIfAbsent(eventId, id -> new HashMap<>()).put(difficulty, factor);
+    }
+
+    private double recompute(Player player, PlayerEventState state, long now) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        // Weekend layer can only change at midnight
+        long validUntil = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+        double multiplier = 1.0;
+
+        Instant buffEnd = buffManager.getBuffEnd(player);
+        if (buffEnd != null && buffEnd.toEpochMilli() > now) {
+            multiplier *= attrieMultiplier;
+            validUntil = Math.min(validUntil, buffEnd.toEpochMilli());
+        }
+
+        if (weekendEnabled && weekendDays.contains(today.getDayOfWeek())) {
+            multiplier *= weekendMultiplier;
+        }
+
+        int extraMembers = Math.min(state.getPartySize(), partyMaxMembers) - 1;
+        if (extraMembers > 0) {
+            multiplier *= 1.0 + partyBonusPerMember * extraMembers;
+        }
+
+        state.setProgressMultiplier(multiplier, validUntil, generation);
+        return multiplier;
+    }
+}
@@ -0,0 +1,258 @@
+package org.maks.eventPlugin.eventsystem;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Fixed grid of instance slots inside a spawn area.
+ *
+ * The slot size comes from the schematic bounds, so two slots can never
+ * overlap. Slots are precomputed; a stack of free slots makes allocate and free
+ * O(1), and a bitmap of used slots is written to plugins/EventPlugin/slots so
+ * instances left behind by a crash or restart are found and cleared on the
+ * next start. Thread-safe.
+ */
+public class SlotAllocator {
+
+    /**
+     * Grid layout: the area (inclusive block bounds), the slot size, the gap
+     * between slots, and the Y range an instance occupies (used to clear leftovers).
+     */
+    public record Layout(int minX, int minZ, int maxX, int maxZ,
+                         int slotWidth, int slotDepth, int spacing,
+                         int minY, int maxY) {
+
+        public Layout {
+            int x1 = Math.min(minX, maxX), x2 = Math.max(minX, maxX);
+            int z1 = Math.min(minZ, maxZ), z2 = Math.max(minZ, maxZ);
+            minX = x1;
+            maxX = x2;
+            minZ = z1;
+            maxZ = z2;
+            slotWidth = Math.max(1, slotWidth);
+            slotDepth = Math.max(1, slotDepth);
+            spacing = Math.max(0, spacing);
+        }
+
+        int columns() {
+            return Math.max(0, (maxX - minX + 1 + spacing) / (slotWidth + spacing));
+        }
+
+        int rows() {
+            return Math.max(0, (maxZ - minZ + 1 + spacing) / (slotDepth + spacing));
+        }
+
+        Slot slot(int index) {
+            int columns = columns();
+            int x = minX + (index % columns) * (slotWidth + spacing);
+            int z = minZ + (index / columns) * (slotDepth + spacing);
+            return new Slot(index, x, z, x + slotWidth - 1, z + slotDepth - 1);
+        }
+    }
+
+    /**
+     * A slot's block columns (inclusive).
+     */
+    public record Slot(int index, int minX, int minZ, int maxX, int maxZ) {
+
+        boolean intersects(Slot other) {
+            return minX <= other.maxX && maxX >= other.minX && minZ <= other.maxZ && maxZ >= other.minZ;
+        }
+    }
+
+    /**
+     * Space an instance was still using at the last shutdown. Clear the box,
+     * then free the blocked slots.
+     */
+    public record Leftover(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, List<Integer> blockedSlots) {}
+
+    private static final int MAGIC = 0x45565341; // "EVSA"
+    private static final int VERSION = 1;
+
+    private final JavaPlugin plugin;
+    private final String name;
+    private final Layout layout;
+    private final int capacity;
+    private final BitSet used = new BitSet();
+    private final Deque<Integer> free = new ArrayDeque<>();
+    private final List<Leftover> leftovers = new ArrayList<>();
+    private final File file;
+    private final Object writeLock = new Object();
+
+    private long saveSeq;
+    private long writtenSeq;
+
+    /**
+     * @param name Area name; also the name of the state file
+     */
+    public SlotAllocator(JavaPlugin plugin, String name, Layout layout) {
+        this.plugin = plugin;
+        this.name = name;
+        this.layout = layout;
+        this.capacity = layout.columns() * layout.rows();
+        this.file = new File(new File(plugin.getDataFolder(), "slots"), name + ".dat");
+
+        loadLeftovers();
+        for (int index = capacity - 1; index >= 0; index--) {
+            if (!used.get(index)) {
+                free.push(index);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Layout getLayout() {
+        return layout;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public synchronized int freeCount() {
+        return free.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return used.isEmpty();
+    }
+
+    /**
+     * Claim a free slot (lowest index first).
+     *
+     * @return The slot, or null if the area is full
+     */
+    public synchronized Slot allocate() {
+        Integer index = free.poll();
+        if (index == null) return null;
+        used.set(index);
+        save();
+        return layout.slot(index);
+    }
+
+    /**
+     * Release a slot once its blocks are cleared.
+     */
+    public synchronized void free(int index) {
+        if (index < 0 || index >= capacity || !used.get(index)) return;
+        used.clear(index);
+        free.push(index);
+        save();
+    }
+
+    /**
+     * Leftovers from the last run, each returned once.
+     */
+    public synchronized List<Leftover> takeLeftovers() {
+        List<Leftover> taken = new ArrayList<>(leftovers);
+        leftovers.clear();
+        return taken;
+    }
+
+    private void loadLeftovers() {
+        if (!file.isFile()) return;
+
+        Layout previous;
+        BitSet previousUsed;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) return;
+            previous = new Layout(in.readInt(), in.readInt(), in.readInt(), in.readInt(),
+                    in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+            long[] words = new long[in.readInt()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = in.readLong();
+            }
+            previousUsed = BitSet.valueOf(words);
+        } catch (IOException e) {
+            plugin.getLogger().warning("[EventPlugin] Could not read slot state " + file.getName() + ": " + e.getMessage());
+            return;
+        }
+
+        if (previous.columns() == 0) return;
+        for (int index = previousUsed.nextSetBit(0); index >= 0; index = previousUsed.nextSetBit(index + 1)) {
+            Slot old = previous.slot(index);
+            List<Integer> blocked = new ArrayList<>();
+            if (previous.equals(layout)) {
+                blocked.add(index);
+            } else {
+                // The layout changed (e.g. a new schematic size): block every new slot the old one overlaps
+                for (int candidate = 0; candidate < capacity; candidate++) {
+                    if (layout.slot(candidate).intersects(old)) blocked.add(candidate);
+                }
+            }
+            for (int slot : blocked) {
+                used.set(slot);
+            }
+            leftovers.add(new Leftover(old.minX(), previous.minY(), old.minZ(),
+                    old.maxX(), previous.maxY(), old.maxZ(), List.copyOf(blocked)));
+        }
+    }
+
+    /**
+     * Write the used bitmap off the main thread (in order, newest wins).
+     */
+    private void save() {
+        long seq = ++saveSeq;
+        long[] words = used.toLongArray();
+        if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> write(seq, words));
+        } else {
+            write(seq, words);
+        }
+    }
+
+    private void write(long seq, long[] words) {
+        synchronized (writeLock) {
+            if (seq <= writtenSeq) return;
+            File directory = file.getParentFile();
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                plugin.getLogger().warning("[EventPlugin] Could not create " + directory);
+                return;
+            }
+            File temp = new File(directory, file.getName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new FileOutputStream(temp))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(layout.minX());
+                out.writeInt(layout.minZ());
+                out.writeInt(layout.maxX());
+                out.writeInt(layout.maxZ());
+                out.writeInt(layout.slotWidth());
+                out.writeInt(layout.slotDepth());
+                out.writeInt(layout.spacing());
+                out.writeInt(layout.minY());
+                out.writeInt(layout.maxY());
+                out.writeInt(words.length);
+                for (long word : words) {
+                    out.writeLong(word);
+                }
+            } catch (IOException e) {
+                plugin.getLogger().warning("[EventPlugin] Could not save slot state " + file.getName() + ": " + e.getMessage());
+                return;
+            }
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                writtenSeq = seq;
+            } catch (IOException e) {
+                plugin.getLogger().warning("[EventPlugin] Could not save slot state " + file.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -4,13 +4,17 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.maks.eventPlugin.config.ConfigManager;
 import org.maks.eventPlugin.db.DatabaseManager;
+import org.maks.eventPlugin.eventsystem.EventChoices;
 import org.maks.eventPlugin.eventsystem.EventManager;
+import org.maks.eventPlugin.eventsystem.EventMobRegistry;
+import org.maks.eventPlugin.eventsystem.KillStats;
+import org.maks.eventPlugin.eventsystem.Notifications;
+import org.maks.eventPlugin.eventsystem.PlayerEventState;
+import org.maks.eventPlugin.eventsystem.PlayerStateManager;
 import org.maks.eventPlugin.fullmoon.integration.PouchHelper;
 import org.maks.eventPlugin.fullmoon.map2.Map2InstanceManager;
 import org.maks.eventPlugin.fullmoon.map2.Map2BossSequenceManager;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -27,22 +31,25 @@ public class FullMoonManager {
     private final Map2InstanceManager map2InstanceManager;
     private final Map2BossSequenceManager map2BossSequenceManager;
 
-    // Track which difficulty each player is currently in (normal or hard)
-    private final Map<UUID, String> playerDifficulty = new HashMap<>();
+    // Live MythicMobs spawned while the event is active, bucketed by chunk
+    private final EventMobRegistry mobRegistry = new EventMobRegistry();
 
-    // Track mob kills for quest progress (mob type -> kill count)
-    // This is separate from EventManager progress
-    private final Map<UUID, Map<String, Integer>> playerMobKills = new HashMap<>();
+    // Per-player difficulty and kill counts live in the player's session state
+    private final PlayerStateManager playerStates;
+    private final KillStats killStats;
 
-    public FullMoonManager(JavaPlugin plugin, DatabaseManager database, ConfigManager config, EventManager eventManager) {
+    public FullMoonManager(JavaPlugin plugin, DatabaseManager database, ConfigManager config, EventManager eventManager,
+                           PlayerStateManager playerStates, KillStats killStats) {
         this.plugin = plugin;
+        this.playerStates = playerStates;
+        this.killStats = killStats;
         this.database = database;
         this.config = config;
         this.eventManager = eventManager;
         this.questManager = new QuestManager(database, config);  // Pass ConfigManager!
         this.cursedAmphoryManager = new CursedAmphoryManager(plugin, this, config);
-        this.map2InstanceManager = new Map2InstanceManager(plugin, config);
-        this.map2BossSequenceManager = new Map2BossSequenceManager(config);
+        this.map2InstanceManager = new Map2InstanceManager(plugin, config, this::isEventActive);
+        this.map2BossSequenceManager = new Map2BossSequenceManager(config, map2InstanceManager);
 
         // Start Cursed Amphory system if event is active
         if (isEventActive()) {
@@ -62,6 +69,10 @@ public class FullMoonManager {
         return config;
     }
 
+    public PlayerStateManager getPlayerStates() {
+        return playerStates;
+    }
+
     public CursedAmphoryManager getCursedAmphoryManager() {
         return cursedAmphoryManager;
     }
@@ -74,6 +85,10 @@ public class FullMoonManager {
         return map2BossSequenceManager;
     }
 
+    public EventMobRegistry getMobRegistry() {
+        return mobRegistry;
+    }
+
     /**
      * Stop the Full Moon event and reset all quest progress.
      * This should be called when the event ends or is manually stopped.
@@ -81,14 +96,15 @@ public class FullMoonManager {
     public void stopEvent() {
         // Stop Cursed Amphory spawns
         cursedAmphoryManager.stop();
+        mobRegistry.clear();
 
         // Reset all quest progress for all players
         questManager.resetAllProgress();
         plugin.getLogger().info("[Full Moon] All quest progress has been reset for event rerun");
 
-        // Clear player difficulty tracking
-        playerDifficulty.clear();
-        playerMobKills.clear();
+        // Clear player difficulty tracking and this edition's kill counts
+        playerStates.resetChoices(EventChoices::resetFullMoon);
+        killStats.resetEdition(eventManager.getEventId());
 
         // Stop the event through EventManager
         eventManager.stop();
@@ -99,7 +115,10 @@ public class FullMoonManager {
      */
     public void setPlayerDifficulty(UUID playerId, String difficulty) {
         if (difficulty.equalsIgnoreCase("normal") || difficulty.equalsIgnoreCase("hard")) {
-            playerDifficulty.put(playerId, difficulty.toLowerCase());
+            PlayerEventState state = playerStates.get(playerId);
+            if (state != null) {
+                state.setFullMoonDifficulty(difficulty.toLowerCase());
+            }
         }
     }
 
@@ -107,7 +126,8 @@ public class FullMoonManager {
      * Get the current difficulty for a player.
      */
     public String getPlayerDifficulty(UUID playerId) {
-        return playerDifficulty.getOrDefault(playerId, "normal");
+        EventChoices choices = playerStates.findChoices(playerId);
+        return choices != null ? choices.getFullMoonDifficulty() : "normal";
     }
 
     /**
@@ -154,11 +174,10 @@ public class FullMoonManager {
      * @param mobType The MythicMobs internal name
      * @param isHard Whether this was a hard mode kill
      * @param progressAmount Base progress amount for event
-     * @param buffMultiplier The buff multiplier (e.g., 1.0 for none, 1.5 for Attrie)
+     * @param multiplier Combined progress multiplier from {@link org.maks.eventPlugin.eventsystem.ProgressModifiers}
+     *                   (Attrie, weekend, party and hard mode)
      */
-    // +++ POCZĄTEK MODYFIKACJI: Dodano parametr buffMultiplier +++
-    public void handleMobKill(Player player, String mobType, boolean isHard, int progressAmount, double buffMultiplier) {
-        // +++ KONIEC MODYFIKACJI +++
+    public void handleMobKill(Player player, String mobType, boolean isHard, int progressAmount, double multiplier) {
         UUID playerId = player.getUniqueId();
 
         // Determine actual mob type (strip _normal or _hard suffix for quest matching)
@@ -172,29 +191,22 @@ public class FullMoonManager {
         // Update quest progress (pass isHard for quest matching)
         boolean questCompleted = questManager.addQuestProgress(playerId, baseMobType, 1, isHard);
         if (questCompleted) {
-            player.sendMessage("§a§l[Full Moon] §aQuest completed!");
-            player.sendTitle("§aQuest Complete!", "", 10, 40, 10);
+            Notifications.important(player, "§a§l[Full Moon] §aQuest completed!");
+            Notifications.title(player, "§aQuest Complete!", "", 10, 40, 10, Notifications.Priority.IMPORTANT);
         }
 
-        // Update event progress (with 2x multiplier for hard mode AND buff multiplier)
-        // +++ POCZĄTEK MODYFIKACJI: Zastosuj połączone mnożniki +++
-        double hardMultiplier = isHard ? 2.0 : 1.0;
-        double totalMultiplier = hardMultiplier * buffMultiplier; // Połącz mnożniki
-        eventManager.addProgress(player, progressAmount, totalMultiplier);
-        // +++ KONIEC MODYFIKACJI +++
+        // Update event progress (multiplier already includes hard mode and buffs)
+        eventManager.addProgress(player, progressAmount, multiplier, mobType);
 
         // Track kill count for statistics
-        Map<String, Integer> kills = playerMobKills.computeIfAbsent(playerId, k -> new HashMap<>());
-        kills.put(baseMobType, kills.getOrDefault(baseMobType, 0) + 1);
+        killStats.recordKill(playerId, eventManager.getEventId(), baseMobType);
     }
 
     /**
-     * Get total kills of a mob type for a player.
+     * Get kills of a mob type for a player in the current edition.
      */
     public int getPlayerKills(UUID playerId, String mobType) {
-        Map<String, Integer> kills = playerMobKills.get(playerId);
-        if (kills == null) return 0;
-        return kills.getOrDefault(mobType, 0);
+        return killStats.getKills(playerId, eventManager.getEventId(), mobType, false);
     }
 
     /**
@@ -202,8 +214,8 @@ public class FullMoonManager {
      */
     public void resetAllData() {
         questManager.resetAllProgress();
-        playerDifficulty.clear();
-        playerMobKills.clear();
+        playerStates.resetChoices(EventChoices::resetFullMoon);
+        killStats.resetEdition(eventManager.getEventId());
         plugin.getLogger().info("[Full Moon] All data reset for event rerun");
     }
 
@@ -212,8 +224,8 @@ public class FullMoonManager {
      */
     public void resetPlayerData(UUID playerId) {
         questManager.resetPlayerProgress(playerId);
-        playerDifficulty.remove(playerId);
-        playerMobKills.remove(playerId);
+        playerStates.resetChoices(playerId, EventChoices::resetFullMoon);
+        killStats.resetEdition(playerId, eventManager.getEventId());
     }
 
     /**
@@ -4,6 +4,7 @@ import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.maks.eventPlugin.config.ConfigManager;
 import org.maks.eventPlugin.db.DatabaseManager;
+import org.maks.eventPlugin.eventsystem.AuditLog;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -150,6 +151,7 @@ public class QuestManager {
         Set<Integer> accepted = acceptedQuests.computeIfAbsent(playerId, k -> new HashSet<>());
         accepted.add(questId);
         saveAcceptance(playerId, questId);
+        AuditLog.quest(playerId, eventId, questId, "accepted");
         return true;
     }
 
@@ -180,6 +182,7 @@ public class QuestManager {
         Set<Integer> claimed = claimedRewards.computeIfAbsent(playerId, k -> new HashSet<>());
         claimed.add(questId);
         saveClaim(playerId, questId);
+        AuditLog.quest(playerId, eventId, questId, "claimed");
         return true;
     }
 
@@ -257,6 +260,7 @@ public class QuestManager {
         Set<Integer> completed = completedQuests.computeIfAbsent(playerId, k -> new HashSet<>());
         completed.add(questId);
         saveCompletion(playerId, questId);
+        AuditLog.quest(playerId, eventId, questId, "completed");
     }
 
     /**
@@ -16,6 +16,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.maks.eventPlugin.fullmoon.Quest;
 import org.maks.eventPlugin.fullmoon.QuestManager;
+import org.maks.eventPlugin.eventsystem.AuditLog;
 
 import java.util.*;
 
@@ -235,6 +236,7 @@ public class AdminQuestRewardEditorGUI implements Listener {
             }
         }
 
+        AuditLog.admin(player.getName(), "full_moon", "saved " + savedCount + " rewards for quest " + session.selectedQuestId);
         player.sendMessage(ChatColor.GREEN + "Saved " + savedCount + " rewards for Quest " + session.selectedQuestId);
         plugin.getLogger().info("[AdminQuestRewardGUI] Saved " + savedCount + " rewards for quest " + session.selectedQuestId);
     }
@@ -189,59 +189,71 @@ public class Map2TransitionGUI implements Listener {
         String difficulty = fullMoonManager.getPlayerDifficulty(player.getUniqueId());
         Bukkit.getLogger().info("[Full Moon] Player " + player.getName() + " entering Map2 with difficulty: " + difficulty + " (isHard=" + isHard + ")");
 
-        // Run instance creation asynchronously to avoid blocking
-        Bukkit.getScheduler().runTaskAsynchronously(
-                Bukkit.getPluginManager().getPlugin("EventPlugin"),
-                () -> {
-                    Map2Instance instance = fullMoonManager.getMap2InstanceManager().createInstance(player, isHard);
-
-                    if (instance == null) {
-                        player.sendMessage("§c§l[Full Moon] §cFailed to create arena instance! (Perhaps no free slots)");
-                        // Zwróć IPS jeśli wystąpił błąd
-                        if (isHard && entryCost > 0) {
-                            PouchHelper.addItem(player, "ips", entryCost);
-                            player.sendMessage("§a§l[Full Moon] §aYour " + entryCost + " IPS have been refunded.");
-                        }
-                        return;
-                    }
+        // Create on the main thread: a pooled arena is handed out at once, a
+        // fresh one is pasted in slices first; the pool, slot allocator and
+        // block jobs are main-thread only
+        fullMoonManager.getMap2InstanceManager().createInstance(player, isHard)
+                .thenAccept(instance -> enterArena(player, instance, isHard, entryCost));
+
+        // Silent - no title screen
+    }
+
+    /**
+     * Teleport the player into a created arena, or refund them if creation failed.
+     */
+    private void enterArena(Player player, Map2Instance instance, boolean isHard, int entryCost) {
+        if (instance == null) {
+            if (!player.isOnline()) return;
+            player.sendMessage("§c§l[Full Moon] §cFailed to create arena instance! (Perhaps no free slots)");
+            // Zwróć IPS jeśli wystąpił błąd
+            if (isHard && entryCost > 0) {
+                PouchHelper.addItem(player, "ips", entryCost);
+                player.sendMessage("§a§l[Full Moon] §aYour " + entryCost + " IPS have been refunded.");
+            }
+            return;
+        }
+
+        // --- POCZĄTEK POPRAWKI (Teleport gracza) ---
+        // Get player spawn location (gold block) by scanning
+        Location spawnLoc = fullMoonManager.getMap2BossSequenceManager().getPlayerSpawn(instance);
+
+        if (spawnLoc == null) {
+            player.sendMessage("§c§l[Full Moon] §cCRITICAL ERROR: No player spawn block found in schematic!");
+            // Wyczyść instancję i zwróć koszty
+            fullMoonManager.getMap2InstanceManager().removeInstance(player.getUniqueId());
+            if (isHard && entryCost > 0) {
+                PouchHelper.addItem(player, "ips", entryCost);
+                player.sendMessage("§a§l[Full Moon] §aYour " + entryCost + " IPS have been refunded.");
+            }
+            return;
+        }
 
-                    // Teleport and initialize on main thread
-                    Bukkit.getScheduler().runTask(
-                            Bukkit.getPluginManager().getPlugin("EventPlugin"),
-                            () -> {
-                                // --- POCZĄTEK POPRAWKI (Teleport gracza) ---
-                                // Get player spawn location (gold block) by scanning
-                                Location spawnLoc = fullMoonManager.getMap2BossSequenceManager().getPlayerSpawn(instance);
-
-                                if (spawnLoc == null) {
-                                    player.sendMessage("§c§l[Full Moon] §cCRITICAL ERROR: No player spawn block found in schematic!");
-                                    // Wyczyść instancję i zwróć koszty
-                                    fullMoonManager.getMap2InstanceManager().removeInstance(player.getUniqueId());
-                                    if (isHard && entryCost > 0) {
-                                        PouchHelper.addItem(player, "ips", entryCost);
-                                        player.sendMessage("§a§l[Full Moon] §aYour " + entryCost + " IPS have been refunded.");
-                                    }
-                                    return;
-                                }
-
-                                spawnLoc.add(0.5, 0.5, 0.5); // Center player on block
-                                player.teleport(spawnLoc);
-                                // --- KONIEC POPRAWKI ---
-
-                                // Initialize boss sequence with 5 second delay (prevent instant death)
-                                Bukkit.getScheduler().runTaskLater(
-                                        Bukkit.getPluginManager().getPlugin("EventPlugin"),
-                                        () -> {
-                                            fullMoonManager.getMap2BossSequenceManager()
-                                                    .initializeBossSequence(instance, player);
-                                        },
-                                        5 * 20L  // 5 seconds delay
-                                );
-
-                                // Silent - no title screen
-                            }
-                    );
+        spawnLoc.add(0.5, 0.5, 0.5); // Center player on block
+        // --- KONIEC POPRAWKI ---
+
+        // Load the arena's chunks off the main thread, then teleport
+        fullMoonManager.getMap2InstanceManager().enterInstance(instance, player, spawnLoc).thenAccept(arrived -> {
+            if (!arrived) {
+                fullMoonManager.getMap2InstanceManager().removeInstance(player.getUniqueId());
+                if (player.isOnline()) {
+                    player.sendMessage("§c§l[Full Moon] §cFailed to enter the arena!");
+                    if (isHard && entryCost > 0) {
+                        PouchHelper.addItem(player, "ips", entryCost);
+                        player.sendMessage("§a§l[Full Moon] §aYour " + entryCost + " IPS have been refunded.");
+                    }
                 }
-        );
+                return;
+            }
+
+            // Initialize boss sequence with 5 second delay (prevent instant death)
+            Bukkit.getScheduler().runTaskLater(
+                    Bukkit.getPluginManager().getPlugin("EventPlugin"),
+                    () -> {
+                        fullMoonManager.getMap2BossSequenceManager()
+                                .initializeBossSequence(instance, player);
+                    },
+                    5 * 20L  // 5 seconds delay
+            );
+        });
     }
-}
\ No newline at end of file
+}
@@ -12,6 +12,7 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.maks.eventPlugin.config.ConfigManager;
+import org.maks.eventPlugin.eventsystem.PlayerEventState;
 import org.maks.eventPlugin.fullmoon.FullMoonManager;
 import org.maks.eventPlugin.fullmoon.integration.PouchHelper;
 
@@ -19,7 +20,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Listener for Blood Vial summon mechanic.
@@ -32,7 +32,6 @@ public class BloodVialSummonListener implements Listener {
     private final ConfigManager config;
 
     // Anti-spam cooldown per player (1 second to prevent double-click)
-    private final Map<UUID, Long> playerClickCooldown = new HashMap<>();
     private static final long CLICK_COOLDOWN_MS = 1000; // 1 second
 
     // Boss spawn cooldown per difficulty (60 seconds between spawns)
@@ -54,7 +53,6 @@ public class BloodVialSummonListener implements Listener {
         if (!fullMoonManager.isEventActive()) return;
 
         Player player = event.getPlayer();
-        UUID playerId = player.getUniqueId();
         Location clickedLoc = event.getClickedBlock().getLocation();
 
         // === POCZĄTEK POPRAWKI: Sprawdzanie obu kociołków ===
@@ -83,12 +81,12 @@ public class BloodVialSummonListener implements Listener {
 
         // (Poprawka "mikro CD" zapobiegająca podwójnym wiadomościom)
         long now = System.currentTimeMillis();
-        Long lastClick = playerClickCooldown.get(playerId);
-        if (lastClick != null && (now - lastClick) < CLICK_COOLDOWN_MS) {
+        PlayerEventState state = fullMoonManager.getPlayerStates().get(player);
+        if ((now - state.getBloodVialClickAt()) < CLICK_COOLDOWN_MS) {
             event.setCancelled(true);
             return;
         }
-        playerClickCooldown.put(playerId, now);
+        state.setBloodVialClickAt(now);
 
         // Check boss spawn cooldown (60s between spawns per difficulty)
         Long lastSpawn = difficultySpawnCooldown.get(difficultyKey);
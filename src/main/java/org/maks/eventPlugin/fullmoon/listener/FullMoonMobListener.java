@@ -1,7 +1,9 @@
 package org.maks.eventPlugin.fullmoon.listener;
 
-import io.lumine.mythic.bukkit.MythicBukkit;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
 import io.lumine.mythic.bukkit.events.MythicMobDeathEvent;
+import io.lumine.mythic.bukkit.events.MythicMobDespawnEvent;
+import io.lumine.mythic.bukkit.events.MythicMobSpawnEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
@@ -10,9 +12,13 @@ import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
 import org.bukkit.entity.Tameable;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
-import org.maks.eventPlugin.eventsystem.BuffManager;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.maks.eventPlugin.eventsystem.ContributionLedger;
+import org.maks.eventPlugin.eventsystem.EventMobRegistry;
+import org.maks.eventPlugin.eventsystem.ProgressModifiers;
 import org.maks.eventPlugin.fullmoon.FullMoonManager;
 import org.maks.eventPlugin.fullmoon.gui.Map2TransitionGUI;
 
@@ -25,18 +31,35 @@ import java.util.*;
 public class FullMoonMobListener implements Listener {
 
     private final FullMoonManager fullMoonManager;
-    private final BuffManager buffManager;
+    private final ProgressModifiers progressModifiers;
     private final Map2TransitionGUI transitionGUI;
 
-    // Track players who damaged a boss (for participation rewards)
-    // Boss UUID -> Set of Player UUIDs
-    private final Map<UUID, Set<UUID>> bossParticipants = new HashMap<>();
+    // Damage dealt per player to each mob (for participation and boss shares)
+    private final ContributionLedger contributionLedger;
 
     // +++ POCZĄTEK MODYFIKACJI +++
     // Usunięto statyczną PROGRESS_MAP
     // Dodano randomizer dla zakresów progresu i szans
     private final java.util.Random random = new java.util.Random();
 
+    /** Base (suffix-less) types of the Full Moon mobs tracked by the mob registry. */
+    private static final Set<String> EVENT_MOB_TYPES = Set.of(
+            "werewolf", "wolf", "bloody_werewolf", "blood_sludgeling",
+            "werewolf_commander", "amarok", "werewolf_blood_mage_disciple",
+            "sanguis", "crystallized_curse");
+
+    /**
+     * Strip the _normal / _hard difficulty suffix from a mob type.
+     */
+    private static String getBaseMobType(String mobType) {
+        if (mobType.endsWith("_normal")) {
+            return mobType.substring(0, mobType.length() - 7);
+        } else if (mobType.endsWith("_hard")) {
+            return mobType.substring(0, mobType.length() - 5);
+        }
+        return mobType;
+    }
+
     /**
      * Get the BASE (Normal) progress amount for a mob type.
      * This method handles the 5% chance for normal mobs and 100% for bosses,
@@ -44,12 +67,7 @@ public class FullMoonMobListener implements Listener {
      */
     private int getBaseProgressForMob(String mobType) {
         // Get base mob type (strip suffixes)
-        String baseMobType = mobType;
-        if (mobType.endsWith("_normal")) {
-            baseMobType = mobType.substring(0, mobType.length() - 7);
-        } else if (mobType.endsWith("_hard")) {
-            baseMobType = mobType.substring(0, mobType.length() - 5);
-        }
+        String baseMobType = getBaseMobType(mobType);
 
         // 100% chance mobs (Bosses / Mini-bosses)
         switch (baseMobType.toLowerCase()) {
@@ -86,26 +104,78 @@ public class FullMoonMobListener implements Listener {
     }
     // +++ KONIEC MODYFIKACJI +++
 
-    public FullMoonMobListener(FullMoonManager fullMoonManager, BuffManager buffManager, Map2TransitionGUI transitionGUI) {
+    public FullMoonMobListener(FullMoonManager fullMoonManager, ProgressModifiers progressModifiers, Map2TransitionGUI transitionGUI) {
         this.fullMoonManager = fullMoonManager;
-        this.buffManager = buffManager;
+        this.progressModifiers = progressModifiers;
         this.transitionGUI = transitionGUI;
+        this.contributionLedger = new ContributionLedger(fullMoonManager.getConfig());
     }
 
     /**
-     * Track damage to potential bosses for participation tracking.
+     * Register Full Moon mobs spawned during the event so area effects can find them by chunk.
      */
-    @EventHandler
-    public void onEntityDamage(EntityDamageByEntityEvent event) {
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMythicMobSpawn(MythicMobSpawnEvent event) {
         if (!fullMoonManager.isEventActive()) return;
         if (!(event.getEntity() instanceof LivingEntity)) return;
+        if (event.getMobType() == null) return;
+
+        registerLoaded(event.getEntity(), event.getMobType().getInternalName());
+    }
+
+    /**
+     * Register a Full Moon mob that spawned or came back with its chunk
+     * (see {@link org.maks.eventPlugin.eventsystem.MythicMobLoads}).
+     */
+    public void registerLoaded(Entity entity, String mobType) {
+        if (!fullMoonManager.isEventActive()) return;
+        if (!EVENT_MOB_TYPES.contains(getBaseMobType(mobType).toLowerCase())) return;
+
+        fullMoonManager.getMobRegistry().add(entity);
+    }
+
+    /**
+     * Drop all tracked damage (the event stopped or expired).
+     */
+    public void clearTracking() {
+        contributionLedger.clear();
+    }
+
+    /**
+     * Drop despawned mobs from the registry and release their damage slot.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onMythicMobDespawn(MythicMobDespawnEvent event) {
+        UUID mobId = event.getEntity().getUniqueId();
+        fullMoonManager.getMobRegistry().remove(mobId);
+        contributionLedger.discard(mobId);
+    }
+
+    /**
+     * Drop mobs removed from the world (chunk unload, plugin removal) from the registry.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        fullMoonManager.getMobRegistry().remove(event.getEntity().getUniqueId());
+    }
+
+    /**
+     * Track damage dealt to registered Full Moon mobs for participation and boss contribution shares.
+     * Players, vanilla mobs and other MythicMobs get no slot, so the ledger only holds mobs that settle.
+     * Other MythicMobs still credit their killer on death.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityDamage(EntityDamageByEntityEvent event) {
+        if (!fullMoonManager.isEventActive()) return;
+        if (!(event.getEntity() instanceof LivingEntity living) || living instanceof Player) return;
 
         Player damager = getDamager(event.getDamager());
         if (damager == null) return;
+        if (!fullMoonManager.getMobRegistry().contains(living.getUniqueId())) return;
 
-        // Track participation for all damaged mobs
-        UUID mobId = event.getEntity().getUniqueId();
-        bossParticipants.computeIfAbsent(mobId, k -> new HashSet<>()).add(damager.getUniqueId());
+        // Overkill damage does not count towards the share
+        float dealt = (float) Math.min(event.getFinalDamage(), living.getHealth());
+        contributionLedger.record(living.getUniqueId(), damager.getUniqueId(), dealt);
     }
 
     /**
@@ -119,27 +189,23 @@ public class FullMoonMobListener implements Listener {
         Entity killerEntity = event.getKiller();
         Player killer = getPlayer(killerEntity);
 
+        UUID mobId = event.getEntity().getUniqueId();
+        fullMoonManager.getMobRegistry().remove(mobId);
+
         if (killer == null) {
             // Jeśli zabójca nie jest graczem, sprawdź uczestników
-            Set<UUID> participants = bossParticipants.getOrDefault(event.getEntity().getUniqueId(), new HashSet<>());
-            if (participants.isEmpty()) {
+            if (!contributionLedger.hasParticipants(mobId)) {
                 // Nikt nie uderzył moba, wyczyść i wyjdź
-                bossParticipants.remove(event.getEntity().getUniqueId());
+                contributionLedger.discard(mobId);
                 return;
             }
-            // Użyj pierwszego uczestnika jako "zabójcy" do celów logiki, jeśli killer jest nullem
-            killer = Bukkit.getPlayer(participants.iterator().next());
-            if (killer == null) {
-                bossParticipants.remove(event.getEntity().getUniqueId());
-                return; // Gracz jest offline
-            }
         } else {
             // Jeśli killer jest graczem, upewnij się, że jest na liście uczestników
-            bossParticipants.computeIfAbsent(event.getEntity().getUniqueId(), k -> new HashSet<>()).add(killer.getUniqueId());
+            contributionLedger.record(mobId, killer.getUniqueId(), 0f);
         }
 
-        // Get all participants who damaged this mob
-        Set<UUID> participants = bossParticipants.getOrDefault(event.getEntity().getUniqueId(), new HashSet<>());
+        // Settle damage shares - bosses drop low contributors and weight the rest
+        List<ContributionLedger.Share> shares = contributionLedger.settle(mobId, mobType);
 
         // +++ POCZĄTEK MODYFIKACJI: Przebudowana logika progresu +++
 
@@ -157,51 +223,35 @@ public class FullMoonMobListener implements Listener {
         // ==== KONIEC POPRAWKI BŁĘDU ====
 
 
-        // Award progress and quest updates to all participants
-        for (UUID participantId : participants) {
+        // Award progress and quest updates to all eligible participants
+        for (ContributionLedger.Share share : shares) {
+            UUID participantId = share.playerId();
             Player participant = Bukkit.getPlayer(participantId);
             if (participant == null || !participant.isOnline()) continue;
 
             // Determine if this participant is in hard mode
             boolean isHard = fullMoonManager.isHardMode(participantId);
 
-            // Get Attrie buff status
-            double buffMultiplier = buffManager.hasBuff(participant) ? 1.5 : 1.0;
+            // Combined Attrie / weekend / party / difficulty multiplier
+            double multiplier = progressModifiers.getMultiplier(participant, "full_moon", isHard ? "hard" : "normal");
 
             // Handle mob kill (quest + event progress)
-            // Pass base progress, hard mode status, and buff multiplier to the manager
+            // Pass base progress, hard mode status, and multiplier to the manager
             // To wywołanie zaliczy +1 do questa (zawsze) i +baseProgress do eventu (jeśli > 0)
-            fullMoonManager.handleMobKill(participant, mobType, isHard, baseProgress, buffMultiplier);
+            int sharedProgress = (int) Math.round(baseProgress * share.weight());
+            fullMoonManager.handleMobKill(participant, mobType, isHard, sharedProgress, multiplier);
         }
         // +++ KONIEC MODYFIKACJI +++
 
-        // Special handling for Crystallized Curse - kill all MythicMobs in 50 block radius
+        // Special handling for Crystallized Curse - kill all event mobs around it
         if (mobType.equalsIgnoreCase("crystallized_curse")) {
-            Location deathLocation = event.getEntity().getLocation();
-            int mobsKilled = 0;
-
-            // Get all entities within 50 blocks
-            for (Entity nearbyEntity : deathLocation.getWorld().getNearbyEntities(deathLocation, 50, 50, 50)) {
-                // Skip players
-                if (nearbyEntity instanceof Player) continue;
-
-                // Skip if not a LivingEntity
-                if (!(nearbyEntity instanceof LivingEntity)) continue;
-
-                // Check if entity is a MythicMob
-                if (MythicBukkit.inst().getAPIHelper().isMythicMob(nearbyEntity)) {
-                    // Kill the MythicMob
-                    ((LivingEntity) nearbyEntity).setHealth(0);
-                    mobsKilled++;
-                }
-            }
-
-            // Silent purge - no notifications
+            purgeAround(event.getEntity().getLocation());
         }
 
         // Special handling for Amarok (Map 1 boss) - show transition GUI to all participants
         if (mobType.equalsIgnoreCase("amarok_normal") || mobType.equalsIgnoreCase("amarok_hard")) {
-            for (UUID participantId : participants) {
+            for (ContributionLedger.Share share : shares) {
+                UUID participantId = share.playerId();
                 Player participant = Bukkit.getPlayer(participantId);
                 if (participant == null || !participant.isOnline()) continue;
 
@@ -221,9 +271,43 @@ public class FullMoonMobListener implements Listener {
                 // Silent - no message if quest not completed
             }
         }
+    }
 
-        // Clean up participants tracking for this mob
-        bossParticipants.remove(event.getEntity().getUniqueId());
+    /**
+     * Kill all registered event mobs in a cube around the location.
+     * Only the chunks around the location are scanned; large purges are spread
+     * over several ticks.
+     */
+    private void purgeAround(Location center) {
+        var section = fullMoonManager.getConfig().getSection("full_moon.crystallized_curse");
+        double radius = section != null ? section.getDouble("purge_radius", 50) : 50;
+        int perTick = Math.max(1, section != null ? section.getInt("purge_per_tick", 25) : 25);
+
+        EventMobRegistry registry = fullMoonManager.getMobRegistry();
+        List<LivingEntity> targets = registry.collect(center, radius);
+        if (targets.isEmpty()) return;
+
+        // Silent purge - no notifications
+        if (targets.size() <= perTick) {
+            for (LivingEntity target : targets) {
+                if (target.isValid()) target.setHealth(0);
+            }
+            return;
+        }
+
+        new BukkitRunnable() {
+            private int index = 0;
+
+            @Override
+            public void run() {
+                int end = Math.min(index + perTick, targets.size());
+                for (; index < end; index++) {
+                    LivingEntity target = targets.get(index);
+                    if (target.isValid()) target.setHealth(0);
+                }
+                if (index >= targets.size()) cancel();
+            }
+        }.runTaskTimer(Bukkit.getPluginManager().getPlugin("EventPlugin"), 0L, 1L);
     }
 
     /**
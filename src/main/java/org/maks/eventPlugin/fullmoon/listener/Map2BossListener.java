@@ -1,10 +1,8 @@
 package org.maks.eventPlugin.fullmoon.listener;
 
-import com.sk89q.worldedit.math.BlockVector3;
 import io.lumine.mythic.bukkit.events.MythicMobDeathEvent;
 import io.lumine.mythic.bukkit.events.MythicMobSpawnEvent;
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -12,8 +10,7 @@ import org.bukkit.event.Listener;
 import org.maks.eventPlugin.fullmoon.FullMoonManager;
 import org.maks.eventPlugin.fullmoon.map2.Map2BossSequenceManager;
 import org.maks.eventPlugin.fullmoon.map2.Map2Instance;
-
-import java.util.UUID;
+import org.maks.eventPlugin.fullmoon.map2.Map2InstanceManager;
 
 /**
  * Listener for boss spawns and deaths in Map 2 (Blood Moon Arena).
@@ -38,33 +35,18 @@ public class Map2BossListener implements Listener {
         // Get entity and check if it's a LivingEntity
         if (!(event.getEntity() instanceof LivingEntity)) return;
         LivingEntity entity = (LivingEntity) event.getEntity();
-        Location spawnLoc = entity.getLocation();
 
         // Get mob internal name
         String mobType = event.getMobType() != null ? event.getMobType().getInternalName() : null;
         if (mobType == null) return;
 
-        // Find which instance this mob belongs to (check if spawn location is within any instance)
-        Map2Instance matchedInstance = null;
-        for (Map2Instance instance : fullMoonManager.getMap2InstanceManager().getAllInstances()) {
-            BlockVector3 spawnVec = BlockVector3.at(
-                    spawnLoc.getBlockX(),
-                    spawnLoc.getBlockY(),
-                    spawnLoc.getBlockZ()
-            );
-            if (instance.getRegion().contains(spawnVec)) {
-                matchedInstance = instance;
-                break;
-            }
-        }
-
+        // Find which instance this mob belongs to (spawn location within an instance region)
+        Map2InstanceManager instanceManager = fullMoonManager.getMap2InstanceManager();
+        Map2Instance matchedInstance = instanceManager.getInstanceAt(entity.getLocation());
         if (matchedInstance == null) return;
 
-        // Track entity in instance
-        matchedInstance.trackEntity(entity.getUniqueId());
-
-        // Add instance tag to all mobs
-        entity.addScoreboardTag("fullmoon_instance_" + matchedInstance.getInstanceId());
+        // Track entity in instance and in the entity -> instance index
+        instanceManager.trackEntity(matchedInstance, entity.getUniqueId());
 
         // Determine mob role based on type and add appropriate tags
         if (mobType.equals("werewolf_blood_mage_disciple_normal") || mobType.equals("werewolf_blood_mage_disciple_hard")) {
@@ -86,6 +68,11 @@ public class Map2BossListener implements Listener {
         if (!fullMoonManager.isEventActive()) return;
 
         LivingEntity entity = (LivingEntity) event.getEntity();
+
+        // Resolve the owning instance from the entity index (mobs outside arenas are not tracked)
+        Map2Instance instance = fullMoonManager.getMap2InstanceManager().untrackEntity(entity.getUniqueId());
+        if (instance == null) return;
+
         Map2BossSequenceManager sequenceManager = fullMoonManager.getMap2BossSequenceManager();
 
         // Check if this is a mini-boss or final boss
@@ -94,23 +81,8 @@ public class Map2BossListener implements Listener {
 
         if (!isMiniBoss && !isFinalBoss) return;
 
-        // Get the instance ID from entity tags
-        UUID instanceId = sequenceManager.getInstanceIdFromEntity(entity);
-        if (instanceId == null) return;
-
-        // Find the instance and player
-        Map2Instance instance = null;
-        Player player = null;
-
-        for (Map2Instance inst : fullMoonManager.getMap2InstanceManager().getAllInstances()) {
-            if (inst.getInstanceId().equals(instanceId)) {
-                instance = inst;
-                player = Bukkit.getPlayer(inst.getPlayerId());
-                break;
-            }
-        }
-
-        if (instance == null || player == null) return;
+        Player player = Bukkit.getPlayer(instance.getPlayerId());
+        if (player == null) return;
 
         // Handle boss death based on type
         if (isMiniBoss) {
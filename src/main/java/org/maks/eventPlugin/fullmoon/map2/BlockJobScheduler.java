@@ -0,0 +1,403 @@
+package org.maks.eventPlugin.fullmoon.map2;
+
+import com.sk89q.worldedit.EditSession;
+import com.sk89q.worldedit.WorldEdit;
+import com.sk89q.worldedit.WorldEditException;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.extent.clipboard.Clipboard;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import com.sk89q.worldedit.world.block.BlockTypes;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.maks.eventPlugin.config.ConfigManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Runs large block jobs (paste, restore, clear) and entity sweeps in
+ * chunk-aligned slices spread over several ticks.
+ *
+ * Every tick the scheduler works through the queued jobs in order, one slice
+ * (the part of the job's box inside one chunk column or section) at a time, until the
+ * per-tick budget is used up. At least one slice runs per tick so jobs always
+ * progress. Jobs report their progress, can be cancelled, and run callbacks
+ * once they are finished or cancelled. Main thread only.
+ */
+public final class BlockJobScheduler {
+
+    /**
+     * A block job over a box, split into slices (chunk columns, or chunk
+     * sections for restores). Each slice is {minX, minY, minZ, maxX, maxY, maxZ}.
+     */
+    public abstract static class Job {
+        private final String name;
+        final World world;
+        private final List<int[]> slices = new ArrayList<>();
+        private final List<Runnable> callbacks = new ArrayList<>();
+        private int next;
+        private boolean cancelled;
+        int changed;
+
+        Job(String name, World world, BlockVector3 min, BlockVector3 max) {
+            this(name, world, min, max, null);
+        }
+
+        /**
+         * @param sections Chunk sections to limit the job to, or null for the whole box
+         */
+        Job(String name, World world, BlockVector3 min, BlockVector3 max, Collection<Long> sections) {
+            this.name = name;
+            this.world = world;
+            int minX = Math.min(min.getX(), max.getX());
+            int minY = Math.min(min.getY(), max.getY());
+            int minZ = Math.min(min.getZ(), max.getZ());
+            int maxX = Math.max(min.getX(), max.getX());
+            int maxY = Math.max(min.getY(), max.getY());
+            int maxZ = Math.max(min.getZ(), max.getZ());
+
+            if (sections == null) {
+                for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+                    for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                        slices.add(new int[]{
+                                Math.max(minX, cx << 4), minY, Math.max(minZ, cz << 4),
+                                Math.min(maxX, (cx << 4) + 15), maxY, Math.min(maxZ, (cz << 4) + 15)});
+                    }
+                }
+                return;
+            }
+
+            for (long section : sections) {
+                int sx = DirtySections.sectionX(section) << 4;
+                int sy = DirtySections.sectionY(section) << 4;
+                int sz = DirtySections.sectionZ(section) << 4;
+                int[] slice = {
+                        Math.max(minX, sx), Math.max(minY, sy), Math.max(minZ, sz),
+                        Math.min(maxX, sx + 15), Math.min(maxY, sy + 15), Math.min(maxZ, sz + 15)};
+                // Skip sections outside the box
+                if (slice[0] <= slice[3] && slice[1] <= slice[4] && slice[2] <= slice[5]) {
+                    slices.add(slice);
+                }
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Fraction of slices done (0.0 - 1.0).
+         */
+        public double getProgress() {
+            return slices.isEmpty() ? 1.0 : (double) next / slices.size();
+        }
+
+        /**
+         * Blocks changed (or entities removed) so far.
+         */
+        public int getChangedBlocks() {
+            return changed;
+        }
+
+        public boolean isDone() {
+            return cancelled || next >= slices.size();
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Stop the job; slices already run stay applied.
+         */
+        public void cancel() {
+            checkMainThread("cancel");
+            if (isDone()) return;
+            cancelled = true;
+            jobs.remove(this);
+            finished();
+        }
+
+        /**
+         * Run a callback once the job is finished or cancelled (right away if it already is).
+         */
+        public void whenDone(Runnable callback) {
+            if (isDone()) {
+                callback.run();
+            } else {
+                callbacks.add(callback);
+            }
+        }
+
+        /**
+         * Run the remaining slices now, ignoring the budget.
+         */
+        public void finishNow() {
+            checkMainThread("finishNow");
+            if (isDone()) return;
+            jobs.remove(this);
+            open();
+            try {
+                while (next < slices.size()) {
+                    runNextSlice();
+                }
+            } finally {
+                close();
+            }
+            finished();
+        }
+
+        private void runNextSlice() {
+            int[] slice = slices.get(next++);
+            try {
+                runSlice(slice[0], slice[1], slice[2], slice[3], slice[4], slice[5]);
+            } catch (WorldEditException | RuntimeException e) {
+                Bukkit.getLogger().warning("[EventPlugin] Block job " + name + " failed a slice: " + e.getMessage());
+            }
+        }
+
+        private void finished() {
+            for (Runnable callback : callbacks) {
+                callback.run();
+            }
+            callbacks.clear();
+        }
+
+        void open() {
+        }
+
+        void close() {
+        }
+
+        abstract void runSlice(int sliceMinX, int sliceMinY, int sliceMinZ,
+                               int sliceMaxX, int sliceMaxY, int sliceMaxZ) throws WorldEditException;
+    }
+
+    /**
+     * Job that edits through one WorldEdit session per tick.
+     */
+    private abstract static class EditJob extends Job {
+        EditSession session;
+
+        EditJob(String name, World world, BlockVector3 min, BlockVector3 max) {
+            super(name, world, min, max);
+        }
+
+        EditJob(String name, World world, BlockVector3 min, BlockVector3 max, Collection<Long> sections) {
+            super(name, world, min, max, sections);
+        }
+
+        @Override
+        void open() {
+            session = WorldEdit.getInstance().newEditSession(BukkitAdapter.adapt(world));
+        }
+
+        @Override
+        void close() {
+            if (session == null) return;
+            WorldEditSchematicHandler.flushEditSession(session);
+            session.close();
+            session = null;
+        }
+    }
+
+    private static final class ClearJob extends EditJob {
+        ClearJob(World world, BlockVector3 min, BlockVector3 max) {
+            super("clear", world, min, max);
+        }
+
+        @Override
+        void runSlice(int sliceMinX, int sliceMinY, int sliceMinZ,
+                      int sliceMaxX, int sliceMaxY, int sliceMaxZ) throws WorldEditException {
+            CuboidRegion slice = new CuboidRegion(
+                    BlockVector3.at(sliceMinX, sliceMinY, sliceMinZ),
+                    BlockVector3.at(sliceMaxX, sliceMaxY, sliceMaxZ));
+            changed += session.setBlocks((com.sk89q.worldedit.regions.Region) slice, BlockTypes.AIR.getDefaultState());
+        }
+    }
+
+    private static final class PasteJob extends EditJob {
+        private final Clipboard clipboard;
+        private final BlockVector3 shift;
+
+        PasteJob(World world, Clipboard clipboard, BlockVector3 to) {
+            super("paste", world,
+                    to.add(clipboard.getMinimumPoint().subtract(clipboard.getOrigin())),
+                    to.add(clipboard.getMaximumPoint().subtract(clipboard.getOrigin())));
+            this.clipboard = clipboard;
+            // World position -> clipboard position
+            this.shift = clipboard.getOrigin().subtract(to);
+        }
+
+        PasteJob(World world, Clipboard clipboard, BlockVector3 to, Collection<Long> sections) {
+            super("restore", world,
+                    to.add(clipboard.getMinimumPoint().subtract(clipboard.getOrigin())),
+                    to.add(clipboard.getMaximumPoint().subtract(clipboard.getOrigin())),
+                    sections);
+            this.clipboard = clipboard;
+            this.shift = clipboard.getOrigin().subtract(to);
+        }
+
+        @Override
+        void runSlice(int sliceMinX, int sliceMinY, int sliceMinZ,
+                      int sliceMaxX, int sliceMaxY, int sliceMaxZ) throws WorldEditException {
+            for (int x = sliceMinX; x <= sliceMaxX; x++) {
+                for (int z = sliceMinZ; z <= sliceMaxZ; z++) {
+                    for (int y = sliceMinY; y <= sliceMaxY; y++) {
+                        BlockVector3 target = BlockVector3.at(x, y, z);
+                        if (session.setBlock(target, clipboard.getFullBlock(target.add(shift)))) {
+                            changed++;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes mobs (and optionally dropped items) inside a box, one chunk column
+     * per slice. Only the entities of the chunks the box overlaps are looked
+     * at; unloaded chunks are skipped. Players are never removed.
+     */
+    private static final class EntitySweepJob extends Job {
+        private final boolean items;
+
+        EntitySweepJob(World world, BlockVector3 min, BlockVector3 max, boolean items) {
+            super("entities", world, min, max);
+            this.items = items;
+        }
+
+        @Override
+        void runSlice(int sliceMinX, int sliceMinY, int sliceMinZ,
+                      int sliceMaxX, int sliceMaxY, int sliceMaxZ) {
+            int chunkX = sliceMinX >> 4;
+            int chunkZ = sliceMinZ >> 4;
+            if (!world.isChunkLoaded(chunkX, chunkZ)) return;
+
+            for (Entity entity : world.getChunkAt(chunkX, chunkZ).getEntities()) {
+                if (entity instanceof Player) continue;
+                if (!(entity instanceof LivingEntity) && !(items && entity instanceof Item)) continue;
+
+                Location loc = entity.getLocation();
+                int x = loc.getBlockX(), y = loc.getBlockY(), z = loc.getBlockZ();
+                if (x >= sliceMinX && x <= sliceMaxX && y >= sliceMinY && y <= sliceMaxY
+                        && z >= sliceMinZ && z <= sliceMaxZ) {
+                    entity.remove();
+                    changed++;
+                }
+            }
+        }
+    }
+
+    private static final Deque<Job> jobs = new ArrayDeque<>();
+
+    private static long budgetNanos = 5_000_000L;
+    private static BukkitTask task;
+
+    private BlockJobScheduler() {
+    }
+
+    public static void start(JavaPlugin plugin, ConfigManager config) {
+        ConfigurationSection sec = config.getSection("block_jobs");
+        if (sec != null) {
+            budgetNanos = (long) (Math.max(0.5, sec.getDouble("budget_ms", 5.0)) * 1_000_000L);
+        }
+        if (task != null) task.cancel();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, BlockJobScheduler::tick, 1L, 1L);
+    }
+
+    /**
+     * Finish every queued job right away (used on shutdown).
+     */
+    public static void finishAll() {
+        checkMainThread("finishAll");
+        while (!jobs.isEmpty()) {
+            jobs.peekFirst().finishNow();
+        }
+    }
+
+    /**
+     * Set a box (inclusive corners) to air.
+     */
+    public static Job clear(World world, BlockVector3 min, BlockVector3 max) {
+        return submit(new ClearJob(world, min, max));
+    }
+
+    /**
+     * Paste a clipboard with its origin at {@code to} (air included, like a normal paste).
+     */
+    public static Job paste(World world, Clipboard clipboard, BlockVector3 to) {
+        return submit(new PasteJob(world, clipboard, to));
+    }
+
+    /**
+     * Restore only the given chunk sections of a pasted clipboard (see {@link DirtySections}).
+     */
+    public static Job restore(World world, Clipboard clipboard, BlockVector3 to, Collection<Long> sections) {
+        return submit(new PasteJob(world, clipboard, to, sections));
+    }
+
+    /**
+     * Remove the mobs left inside a box (inclusive corners), and its dropped
+     * items if {@code items} is set.
+     */
+    public static Job removeEntities(World world, BlockVector3 min, BlockVector3 max, boolean items) {
+        return submit(new EntitySweepJob(world, min, max, items));
+    }
+
+    public static int getQueuedJobs() {
+        return jobs.size();
+    }
+
+    private static Job submit(Job job) {
+        checkMainThread("submit " + job.getName());
+        if (!job.isDone()) {
+            jobs.addLast(job);
+        }
+        return job;
+    }
+
+    /**
+     * Jobs edit the world and share an unsynchronized queue; refuse calls from other threads.
+     */
+    private static void checkMainThread(String action) {
+        if (!Bukkit.isPrimaryThread()) {
+            throw new IllegalStateException("Block job " + action + " called off the main thread");
+        }
+    }
+
+    private static void tick() {
+        if (jobs.isEmpty()) return;
+        long deadline = System.nanoTime() + budgetNanos;
+
+        boolean first = true;
+        while (!jobs.isEmpty() && (first || System.nanoTime() < deadline)) {
+            Job job = jobs.peekFirst();
+            job.open();
+            try {
+                do {
+                    job.runNextSlice();
+                    first = false;
+                } while (job.next < job.slices.size() && System.nanoTime() < deadline);
+            } finally {
+                job.close();
+            }
+            if (job.next >= job.slices.size()) {
+                jobs.pollFirst();
+                job.finished();
+            }
+        }
+    }
+}
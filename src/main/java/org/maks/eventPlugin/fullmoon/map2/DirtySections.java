@@ -0,0 +1,58 @@
+package org.maks.eventPlugin.fullmoon.map2;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Chunk sections (16x16x16) of a pasted slot that were modified since its last
+ * paste or reset, so a reset only has to restore those sections from the schematic.
+ *
+ * Sections are packed into a long: 22 bits X, 22 bits Z, 20 bits Y (section
+ * coordinates, i.e. block coordinates >> 4). Main thread only.
+ */
+public final class DirtySections {
+
+    private final Set<Long> sections = new HashSet<>();
+
+    /**
+     * Mark the section containing a block.
+     */
+    public void mark(int x, int y, int z) {
+        sections.add(pack(x >> 4, y >> 4, z >> 4));
+    }
+
+    public boolean isEmpty() {
+        return sections.isEmpty();
+    }
+
+    public int size() {
+        return sections.size();
+    }
+
+    public Set<Long> getSections() {
+        return Collections.unmodifiableSet(sections);
+    }
+
+    public void clear() {
+        sections.clear();
+    }
+
+    static long pack(int sectionX, int sectionY, int sectionZ) {
+        return ((long) (sectionX & 0x3FFFFF) << 42)
+                | ((long) (sectionZ & 0x3FFFFF) << 20)
+                | (sectionY & 0xFFFFF);
+    }
+
+    static int sectionX(long section) {
+        return (int) (section >> 42); // arithmetic shift keeps the sign
+    }
+
+    static int sectionZ(long section) {
+        return (int) (section << 22 >> 42);
+    }
+
+    static int sectionY(long section) {
+        return (int) (section << 44 >> 44);
+    }
+}
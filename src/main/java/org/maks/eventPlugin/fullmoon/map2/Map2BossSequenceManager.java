@@ -17,13 +17,15 @@ import java.util.UUID;
 public class Map2BossSequenceManager {
 
     private final ConfigManager config;
+    private final Map2InstanceManager instanceManager;
 
     // Scoreboard tags for tracking
     private static final String MINI_BOSS_TAG = "fullmoon_miniboss";
     private static final String FINAL_BOSS_TAG = "fullmoon_finalboss";
 
-    public Map2BossSequenceManager(ConfigManager config) {
+    public Map2BossSequenceManager(ConfigManager config, Map2InstanceManager instanceManager) {
         this.config = config;
+        this.instanceManager = instanceManager;
     }
 
     /**
@@ -176,15 +178,12 @@ public class Map2BossSequenceManager {
     private void startCleanupCountdown(Map2Instance instance, Player player) {
         // Silent countdown - no messages
 
-        // Teleport to spawn at 60 seconds
-        instance.scheduleCleanup(60L, () -> {
+        // Teleport to spawn at 60 seconds, then remove the instance
+        instanceManager.drainInstance(instance, 60 * 20L, () -> {
             if (player.isOnline()) {
                 // Execute /spawn as console (player doesn't have permission)
                 Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "spawn " + player.getName());
             }
-
-            // Cleanup instance
-            instance.cleanup();
             config.debug("[Full Moon] Instance " + instance.getInstanceId() + " completed and cleaned up");
         });
     }
@@ -242,20 +241,4 @@ public class Map2BossSequenceManager {
     public boolean isFinalBoss(LivingEntity entity) {
         return entity.getScoreboardTags().contains(FINAL_BOSS_TAG);
     }
-
-    /**
-     * Get the instance ID from an entity's tags.
-     */
-    public UUID getInstanceIdFromEntity(LivingEntity entity) {
-        for (String tag : entity.getScoreboardTags()) {
-            if (tag.startsWith("fullmoon_instance_")) {
-                try {
-                    return UUID.fromString(tag.substring("fullmoon_instance_".length()));
-                } catch (IllegalArgumentException e) {
-                    return null;
-                }
-            }
-        }
-        return null;
-    }
 }
\ No newline at end of file
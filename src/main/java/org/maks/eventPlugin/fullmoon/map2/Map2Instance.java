@@ -3,19 +3,14 @@ package org.maks.eventPlugin.fullmoon.map2;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
-import com.sk89q.worldedit.world.block.BlockTypes;
-import com.sk89q.worldedit.EditSession;
-import com.sk89q.worldedit.WorldEdit;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
-import org.bukkit.entity.LivingEntity;
-import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 import org.maks.eventPlugin.config.ConfigManager;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -24,7 +19,9 @@ import java.util.UUID;
 
 /**
  * Represents a solo Blood Moon Arena instance for a player.
- * Manages the instance lifecycle, entity tracking, and cleanup.
+ * Holds the arena's markers, boss progress and spawned entities, and clears
+ * them on cleanup. States, timers and lookups live in the manager's
+ * {@link org.maks.eventPlugin.eventsystem.InstanceLifecycle}.
  */
 public class Map2Instance {
 
@@ -48,15 +45,11 @@ public class Map2Instance {
     private boolean finalBossSpawned = false;
     private boolean completed = false;
 
-    // Lifecycle
-    private BukkitTask cleanupTask;
-    private BukkitTask autoCleanupTimer;
-    private final List<BukkitTask> countdownTasks = new ArrayList<>(); // For countdown messages
+    // Cleanup
+    private BlockJobScheduler.Job clearJob;
+    private final DirtySections dirtySections;
     private long createdAt;
 
-    // Auto-cleanup after 15 minutes
-    private static final long AUTO_CLEANUP_TIME = 15 * 60 * 20L; // 15 minutes in ticks
-
     /**
      * Create a new Map2 instance.
      *
@@ -65,9 +58,12 @@ public class Map2Instance {
      * @param origin The original paste origin location
      * @param pasteResult The result from pasting the schematic
      * @param isHard Whether this is hard mode (true) or normal mode (false)
+     * @param dirtySections Changed sections of the slot, kept across the instances pasted into it
      */
-    public Map2Instance(ConfigManager config, UUID playerId, Location origin, SchematicHandler.PasteResult pasteResult, boolean isHard) {
+    public Map2Instance(ConfigManager config, UUID playerId, Location origin, SchematicHandler.PasteResult pasteResult, boolean isHard,
+                        DirtySections dirtySections) {
         this.config = config;
+        this.dirtySections = dirtySections;
         this.playerId = playerId;
         this.instanceId = UUID.randomUUID();
         this.world = origin.getWorld();
@@ -276,150 +272,79 @@ public class Map2Instance {
     }
 
     /**
-     * Start auto-cleanup timer (15 minutes).
-     * This prevents players from blocking slots indefinitely.
+     * Remove all entities spawned in this instance, then sweep the chunks the
+     * region overlaps for any left over, in slices over the next ticks.
      *
-     * @param onCleanup Callback to execute when timer expires
+     * @param items Whether dropped items in the region are removed as well
+     * @return The sweep job
      */
-    public void startAutoCleanupTimer(Runnable onCleanup) {
-        if (autoCleanupTimer != null) {
-            autoCleanupTimer.cancel();
-        }
-
-        // Silent expiration warnings removed
-
-        // Final cleanup after 15 minutes
-        autoCleanupTimer = Bukkit.getScheduler().runTaskLater(
-                Bukkit.getPluginManager().getPlugin("EventPlugin"),
-                () -> {
-                    Player player = Bukkit.getPlayer(playerId);
-                    if (player != null && player.isOnline()) {
-                        // Silent cleanup - no messages
-                        Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "spawn " + player.getName());
-                    }
-                    onCleanup.run();
-                },
-                AUTO_CLEANUP_TIME
-        );
-
-        config.debug("[Full Moon] Auto-cleanup timer started for instance " + instanceId + " (15 minutes)");
-    }
-
-    /**
-     * Schedule cleanup task after completion.
-     *
-     * @param delaySeconds Delay in seconds before cleanup
-     */
-    public void scheduleCleanup(long delaySeconds, Runnable onCleanup) {
-        if (cleanupTask != null) {
-            cleanupTask.cancel();
-        }
-
-        // Cancel auto-cleanup timer since we're scheduling manual cleanup
-        if (autoCleanupTimer != null) {
-            autoCleanupTimer.cancel();
-            autoCleanupTimer = null;
+    public BlockJobScheduler.Job removeEntities(boolean items) {
+        for (UUID entityId : spawnedEntities) {
+            Entity entity = Bukkit.getEntity(entityId);
+            if (entity != null && entity.isValid()) {
+                entity.remove();
+            }
         }
+        spawnedEntities.clear();
 
-        cleanupTask = Bukkit.getScheduler().runTaskLater(
-                Bukkit.getPluginManager().getPlugin("EventPlugin"),
-                onCleanup,
-                delaySeconds * 20L
-        );
+        // Also remove any remaining entities in the region
+        return BlockJobScheduler.removeEntities(world, region.getMinimumPoint(), region.getMaximumPoint(), items);
     }
 
     /**
-     * Cancel any scheduled cleanup tasks (manual cleanup or auto-cleanup).
-     * Useful when player dies or leaves before cleanup completes.
+     * Clear all blocks in this instance (set to AIR), in slices over the next ticks.
+     * Calling it again while the clear is still running returns the same job.
      */
-    public void cancelScheduledCleanup() {
-        if (cleanupTask != null) {
-            cleanupTask.cancel();
-            cleanupTask = null;
-        }
-
-        if (autoCleanupTimer != null) {
-            autoCleanupTimer.cancel();
-            autoCleanupTimer = null;
-        }
-
-        // Cancel all countdown message tasks
-        for (BukkitTask task : countdownTasks) {
-            if (task != null) {
-                task.cancel();
-            }
+    public BlockJobScheduler.Job clearBlocks() {
+        if (clearJob == null || clearJob.isCancelled()) {
+            clearJob = BlockJobScheduler.clear(world, region.getMinimumPoint(), region.getMaximumPoint());
         }
-        countdownTasks.clear();
-
-        config.debug("[Full Moon] Cancelled scheduled cleanup for instance " + instanceId);
+        return clearJob;
     }
 
     /**
-     * Add a countdown task to be tracked (so it can be cancelled later).
+     * Chunk sections of the slot changed since its last paste or reset (see {@link DirtySectionListener}).
      */
-    public void addCountdownTask(BukkitTask task) {
-        countdownTasks.add(task);
+    public DirtySections getDirtySections() {
+        return dirtySections;
     }
 
     /**
-     * Remove all entities spawned in this instance.
+     * Whether the blocks of this instance were (or are being) cleared.
      */
-    public void removeEntities() {
-        for (UUID entityId : spawnedEntities) {
-            Entity entity = Bukkit.getEntity(entityId);
-            if (entity != null && entity.isValid()) {
-                entity.remove();
-            }
-        }
-        spawnedEntities.clear();
-
-        // Also remove any remaining entities in the region
-        for (LivingEntity entity : world.getLivingEntities()) {
-            if (entity instanceof Player) continue;
-
-            Location loc = entity.getLocation();
-            if (region.contains(BlockVector3.at(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()))) {
-                entity.remove();
-            }
-        }
+    public boolean isBlocksCleared() {
+        return clearJob != null && !clearJob.isCancelled();
     }
 
     /**
-     * Clear all blocks in this instance (set to AIR).
+     * Reset the instance for reuse: remove entities and dropped items and restore
+     * only the chunk sections changed since the paste.
+     *
+     * @param schematicHandler The schematic handler
+     * @param schematicFile The schematic this instance was pasted from
+     * @return The restore job; the region matches a fresh paste once it is done
+     * @throws Exception if the schematic cannot be read
      */
-    public void clearBlocks() {
-        try (EditSession session = WorldEdit.getInstance()
-                .newEditSessionBuilder()
-                .world(BukkitAdapter.adapt(world))
-                .build()) {
-
-            for (BlockVector3 vec : region) {
-                session.setBlock(vec, BlockTypes.AIR.getDefaultState());
-            }
+    public BlockJobScheduler.Job reset(SchematicHandler schematicHandler, File schematicFile) throws Exception {
+        removeEntities(true);
 
-        } catch (Exception e) {
-            Bukkit.getLogger().warning("[Full Moon] Failed to clear instance blocks: " + e.getMessage());
-        }
+        BlockJobScheduler.Job job = schematicHandler.restoreSections(schematicFile, world, origin, dirtySections.getSections());
+        config.debug("[Full Moon] Instance " + instanceId + " reset, restoring " + dirtySections.size() + " changed sections");
+        dirtySections.clear();
+        return job;
     }
 
     /**
-     * Full cleanup: remove entities, clear blocks, cancel tasks.
+     * Full cleanup: remove entities and clear blocks.
+     *
+     * @return The block clear job; the region is free to reuse once it is done
      */
-    public void cleanup() {
-        if (cleanupTask != null) {
-            cleanupTask.cancel();
-            cleanupTask = null;
-        }
-
-        if (autoCleanupTimer != null) {
-            autoCleanupTimer.cancel();
-            autoCleanupTimer = null;
-        }
-
-        removeEntities();
-        clearBlocks();
+    public BlockJobScheduler.Job cleanup() {
+        removeEntities(false);
+        BlockJobScheduler.Job job = clearBlocks();
 
         config.debug("[Full Moon] Instance " + instanceId + " cleaned up");
+        return job;
     }
 
     /**
@@ -5,14 +5,19 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.util.Vector;
 import org.maks.eventPlugin.config.ConfigManager;
+import org.maks.eventPlugin.eventsystem.InstanceLifecycle;
+import org.maks.eventPlugin.eventsystem.InstancePool;
+import org.maks.eventPlugin.eventsystem.InstanceState;
 
 import java.io.File;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 
 /**
  * Manages Blood Moon Arena (Map 2) solo instances.
@@ -20,19 +25,29 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class Map2InstanceManager {
 
+    private static final String POOL_KEY = "arena";
+
+    // Arenas expire after 15 minutes, so players cannot block slots indefinitely
+    private static final long TIME_LIMIT_TICKS = 15 * 60 * 20L;
+
     private final JavaPlugin plugin;
     private final ConfigManager config;
     private final SchematicHandler schematicHandler;
+    private final BooleanSupplier eventActive;
+
+    // Arena states, player/location/entity lookups and timers
+    private final InstanceLifecycle<Map2Instance, PastedSlot> lifecycle;
 
-    // Active instances: Player UUID -> Instance
-    private final Map<UUID, Map2Instance> activeInstances = new ConcurrentHashMap<>();
+    // Pre-pasted arenas ready to hand out
+    private final InstancePool<InstanceLifecycle.Handle<Map2Instance, PastedSlot>> pool;
 
-    // Occupied coordinate ranges (to prevent overlap)
-    private final Set<CoordinateRange> occupiedRanges = new HashSet<>();
+    // Arena slots in the spawn area
+    private final SchematicSlots slots;
 
     // Instance spacing and limits from config
     private int spacing = 100;
     private int maxInstances = 4;
+    private int poolSize = 1;
     private String schematicName = "blood_moon_arena";
 
     // Spawn area from config
@@ -49,11 +64,37 @@ public class Map2InstanceManager {
     private Material finalBossMarker = Material.DIAMOND_BLOCK;
     private Material playerSpawnMarker = Material.GOLD_BLOCK;
 
-    public Map2InstanceManager(JavaPlugin plugin, ConfigManager config) {
+    public Map2InstanceManager(JavaPlugin plugin, ConfigManager config, BooleanSupplier eventActive) {
         this.plugin = plugin;
         this.config = config;
         this.schematicHandler = new WorldEditSchematicHandler(config);
+        this.eventActive = eventActive;
         loadConfig();
+        this.slots = new SchematicSlots(plugin, schematicHandler, "full_moon", minX, minY, minZ, maxX, maxZ, spacing);
+        precompileSchematic();
+
+        this.lifecycle = new InstanceLifecycle<>(plugin, "Blood Moon Arena", new InstanceLifecycle.Content<Map2Instance, PastedSlot>() {
+            @Override
+            public void clear(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, boolean reuse) {
+                clearSlot(handle, reuse);
+            }
+
+            @Override
+            public void onExpire(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle) {
+                Player player = Bukkit.getPlayer(handle.getPlayerId());
+                if (player != null && player.isOnline()) {
+                    // Silent cleanup - no messages
+                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "spawn " + player.getName());
+                }
+                config.debug("[Full Moon] Instance auto-cleaned after 15 minutes for " + handle.getPlayerId());
+            }
+        });
+        this.pool = new InstancePool<>("Blood Moon Arena", key -> fillPool(), this::dropSlot);
+        pool.setTarget(POOL_KEY, Math.min(poolSize, maxInstances));
+        var poolSection = config.getSection("instance_pool");
+        pool.start(plugin,
+                poolSection != null ? poolSection.getLong("interval_ticks", 100L) : 100L,
+                poolSection != null ? poolSection.getDouble("max_mspt", 40.0) : 40.0);
     }
 
     private void loadConfig() {
@@ -62,6 +103,7 @@ public class Map2InstanceManager {
             schematicName = schematicSection.getString("file_name", "blood_moon_arena");
             spacing = schematicSection.getInt("spacing", 100);
             maxInstances = schematicSection.getInt("max_instances", 4);
+            poolSize = schematicSection.getInt("pool_size", 1);
 
             // Load spawn area
             var spawnAreaSection = schematicSection.getConfigurationSection("spawn_area");
@@ -100,210 +142,460 @@ public class Map2InstanceManager {
                 ", FinalBoss=" + finalBossMarker + ", PlayerSpawn=" + playerSpawnMarker);
     }
 
+    private File schematicFile() {
+        File schematicFile = new File(plugin.getDataFolder(), "schematics/" + schematicName + ".schem");
+        if (!schematicFile.exists()) {
+            schematicFile = new File(plugin.getDataFolder(), "schematics/" + schematicName + ".schematic");
+        }
+        return schematicFile;
+    }
+
+    /**
+     * Compile the arena's marker sidecar in the background, so the first paste
+     * does not have to scan the schematic, then set up the arena slots.
+     */
+    private void precompileSchematic() {
+        File schematicFile = schematicFile();
+        if (!schematicFile.exists()) {
+            return;
+        }
+        List<Material> markers = List.of(mobMarker, miniBossMarker, finalBossMarker, playerSpawnMarker);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                schematicHandler.precompile(schematicFile, markers);
+            } catch (Exception e) {
+                plugin.getLogger().warning("[Full Moon] Failed to precompile schematic: " + e.getMessage());
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                World world = Bukkit.getWorld(worldName);
+                if (world != null) {
+                    slots.prepare(schematicFile, world);
+                }
+            });
+        });
+    }
+
     /**
-     * Create a new Map 2 instance for a player.
+     * Create a new Map 2 instance for a player. Main thread only (the pool,
+     * slots and block jobs are).
+     *
+     * A pooled arena is handed out at once. On a pool miss the arena is pasted
+     * in slices through the block job budget, and the instance is created once
+     * the paste is done.
      *
      * @param player The player
      * @param isHard Whether this is hard mode
-     * @return The created instance, or null if failed
+     * @return Completes on the main thread with the created instance, or null if failed
      */
-    public Map2Instance createInstance(Player player, boolean isHard) {
+    public CompletableFuture<Map2Instance> createInstance(Player player, boolean isHard) {
         // Check if player already has an active instance
-        if (activeInstances.containsKey(player.getUniqueId())) {
+        Map2Instance existing = lifecycle.get(player.getUniqueId());
+        if (existing != null) {
             player.sendMessage("§c§l[Full Moon] §cYou already have an active arena instance!");
-            return activeInstances.get(player.getUniqueId());
+            return CompletableFuture.completedFuture(existing);
         }
 
         // Check max instances limit
-        if (activeInstances.size() >= maxInstances) {
+        int active = lifecycle.activeCount();
+        if (active >= maxInstances) {
             player.sendMessage("§c§l[Full Moon] §cAll arena slots are currently occupied!");
-            player.sendMessage("§7Please try again later. (" + activeInstances.size() + "/" + maxInstances + " active)");
-            return null;
+            player.sendMessage("§7Please try again later. (" + active + "/" + maxInstances + " active)");
+            return CompletableFuture.completedFuture(null);
         }
 
-        // Load schematic file
-        File schematicFile = new File(plugin.getDataFolder(), "schematics/" + schematicName + ".schem");
-        if (!schematicFile.exists()) {
-            schematicFile = new File(plugin.getDataFolder(), "schematics/" + schematicName + ".schematic");
+        // Use a pre-pasted arena if one is ready, otherwise paste one in slices
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = pool.take(POOL_KEY);
+        if (handle != null) {
+            // A pooled paste or reset may still be running in slices; finish it before handing it out
+            if (handle.getSlot().pasteJob() != null) {
+                handle.getSlot().pasteJob().finishNow();
+            }
+            config.debug("[Full Moon] Instance pool hit for " + player.getName());
+            return CompletableFuture.completedFuture(activate(handle, player, isHard));
         }
 
+        File schematicFile = schematicFile();
         if (!schematicFile.exists()) {
             player.sendMessage("§c§l[Full Moon] §cArena schematic not found!");
             plugin.getLogger().warning("[Full Moon] Schematic not found: " + schematicFile.getPath());
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
-        // Get world
         World world = Bukkit.getWorld(worldName);
         if (world == null) {
             player.sendMessage("§c§l[Full Moon] §cArena world not found!");
             plugin.getLogger().warning("[Full Moon] World not found: " + worldName);
-            return null;
-        }
-
-        // Find free location for the instance
-        Location origin = findFreeLocation(world);
-        if (origin == null) {
-            player.sendMessage("§c§l[Full Moon] §cNo space available for arena instance!");
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
-        // Paste schematic and get result with marker locations
-        SchematicHandler.PasteResult pasteResult;
         try {
-            SchematicHandler.MarkerConfiguration markerConfig = new SchematicHandler.MarkerConfiguration(
-                    mobMarker,
-                    miniBossMarker,
-                    finalBossMarker,
-                    playerSpawnMarker
-            );
-
-            pasteResult = schematicHandler.pasteSchematic(schematicFile, world, origin, markerConfig);
+            handle = pasteSlot(schematicFile, world, true);
         } catch (Exception e) {
             player.sendMessage("§c§l[Full Moon] §cFailed to create arena instance!");
             plugin.getLogger().warning("[Full Moon] Failed to paste schematic: " + e.getMessage());
             e.printStackTrace();
-            return null;
+            return CompletableFuture.completedFuture(null);
+        }
+        if (handle == null) {
+            player.sendMessage("§c§l[Full Moon] §cNo space available for arena instance!");
+            return CompletableFuture.completedFuture(null);
         }
 
-        // Create instance with paste result and difficulty
-        Map2Instance instance = new Map2Instance(config, player.getUniqueId(), origin, pasteResult, isHard);
-
-        // Calculate occupied space using actual region size
-        Vector regionSize = pasteResult.regionSize();
-        CoordinateRange range = new CoordinateRange(
-                instance.getOrigin().getBlockX(),
-                instance.getOrigin().getBlockZ(),
-                instance.getOrigin().getBlockX() + (int) Math.ceil(regionSize.getX()) + spacing,
-                instance.getOrigin().getBlockZ() + (int) Math.ceil(regionSize.getZ()) + spacing
-        );
-        occupiedRanges.add(range);
-
-        // Register instance
-        activeInstances.put(player.getUniqueId(), instance);
+        BlockJobScheduler.Job pasteJob = handle.getSlot().pasteJob();
+        if (pasteJob == null) {
+            return CompletableFuture.completedFuture(activate(handle, player, isHard));
+        }
 
-        // Start auto-cleanup timer (15 minutes)
-        instance.startAutoCleanupTimer(() -> {
-            removeInstance(player.getUniqueId());
-            config.debug("[Full Moon] Instance auto-cleaned after 15 minutes for " + player.getName());
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> pasted = handle;
+        CompletableFuture<Map2Instance> result = new CompletableFuture<>();
+        // Registered after readyWhenDone's callback, so the arena is READY by now
+        pasteJob.whenDone(() -> {
+            if (pasteJob.isCancelled()) {
+                result.complete(null);
+            } else if (!player.isOnline() || !eventActive.getAsBoolean()) {
+                // Nobody to hand it to: keep it pooled if there is room
+                if (!eventActive.getAsBoolean() || !pool.offer(POOL_KEY, pasted)) {
+                    lifecycle.end(pasted, false);
+                }
+                result.complete(null);
+            } else {
+                result.complete(activate(pasted, player, isHard));
+            }
         });
+        return result;
+    }
+
+    /**
+     * Hand a ready arena to a player and start its time limit.
+     *
+     * @return The instance, or null if the arena was no longer ready (it is then cleared)
+     */
+    private Map2Instance activate(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, Player player, boolean isHard) {
+        // Create instance with paste result and difficulty
+        PastedSlot slot = handle.getSlot();
+        Map2Instance instance = new Map2Instance(config, player.getUniqueId(), slot.origin(), slot.pasteResult(), isHard,
+                slot.dirtySections());
+
+        // Register instance and start its time limit
+        BlockVector3 min = instance.getRegion().getMinimumPoint();
+        BlockVector3 max = instance.getRegion().getMaximumPoint();
+        if (!lifecycle.activate(handle, player.getUniqueId(), instance, instance.getWorld(),
+                min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ(), TIME_LIMIT_TICKS)) {
+            // Not READY (dropped or still pasting): clear it rather than hand out an untracked arena
+            lifecycle.end(handle, false);
+            return null;
+        }
 
         config.debug("[Full Moon] Created Map2 instance for " + player.getName() + " at " + instance.getOrigin());
         return instance;
     }
 
     /**
-     * Find a free location for a new instance within the configured spawn area.
-     * Uses a simple grid-based allocation system.
+     * Paste the arena into a free slot and reserve its space.
+     *
+     * @param sliced Paste in slices over the next ticks instead of all at once
+     * @return The arena's handle (READY, or PASTING while slices run), or null if there is no free space
      */
-    private Location findFreeLocation(World world) {
-        // Calculate grid dimensions based on max instances
-        int gridSize = (int) Math.ceil(Math.sqrt(maxInstances));
-
-        // Handle negative Z coordinates
-        int availableX = maxX - minX;
-        int availableZ = Math.abs(maxZ - minZ);
-
-        // Calculate spacing between grid slots
-        int slotSpacingX = availableX / gridSize;
-        int slotSpacingZ = availableZ / gridSize;
-
-        // Try each possible grid slot
-        for (int slotX = 0; slotX < gridSize; slotX++) {
-            for (int slotZ = 0; slotZ < gridSize; slotZ++) {
-                int x = minX + (slotX * slotSpacingX);
-                int z;
-
-                // Ensure Z is calculated correctly (area goes from -863 to -2100)
-                if (maxZ < minZ) {
-                    z = minZ - (slotZ * slotSpacingZ);
-                } else {
-                    z = minZ + (slotZ * slotSpacingZ);
-                }
+    private InstanceLifecycle.Handle<Map2Instance, PastedSlot> pasteSlot(File schematicFile, World world, boolean sliced) throws Exception {
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = lifecycle.allocate();
+        SchematicSlots.Claim claim;
+        try {
+            claim = slots.claim(schematicFile, world);
+        } catch (Exception e) {
+            lifecycle.free(handle);
+            throw e;
+        }
+        if (claim == null) {
+            lifecycle.free(handle);
+            return null;
+        }
+        Location origin = claim.origin();
+        lifecycle.pasting(handle);
+
+        SchematicHandler.MarkerConfiguration markerConfig = new SchematicHandler.MarkerConfiguration(
+                mobMarker,
+                miniBossMarker,
+                finalBossMarker,
+                playerSpawnMarker
+        );
+        SchematicHandler.PasteResult pasteResult;
+        BlockJobScheduler.Job pasteJob = null;
+        try {
+            if (sliced) {
+                SchematicHandler.SlicedPaste paste = schematicHandler.pasteSchematicSliced(schematicFile, world, origin, markerConfig);
+                pasteResult = paste.result();
+                pasteJob = paste.job();
+            } else {
+                pasteResult = schematicHandler.pasteSchematic(schematicFile, world, origin, markerConfig);
+            }
+        } catch (Exception e) {
+            claim.release();
+            lifecycle.free(handle);
+            throw e;
+        }
 
-                // Check if this location is already occupied
-                Location testLocation = new Location(world, x, minY, z);
-                boolean occupied = false;
+        handle.setSlot(new PastedSlot(origin, pasteResult, claim, pasteJob, schematicFile.lastModified(), new DirtySections()));
+        occupy(handle, world, origin, pasteResult);
+        readyWhenDone(handle, pasteJob);
+        return handle;
+    }
 
-                for (CoordinateRange range : occupiedRanges) {
-                    if (range.contains(x, z)) {
-                        occupied = true;
-                        break;
-                    }
-                }
+    /**
+     * Register the pasted box with the lifecycle so block changes in it are
+     * tracked while the arena is pooled, in play or being cleared.
+     */
+    private void occupy(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, World world,
+                        Location origin, SchematicHandler.PasteResult pasteResult) {
+        Location min = origin.clone().add(pasteResult.appliedOffset()).add(pasteResult.minimumOffset());
+        Location max = origin.clone().add(pasteResult.appliedOffset()).add(pasteResult.maximumOffset());
+        lifecycle.occupy(handle, world, min.getBlockX(), min.getBlockY(), min.getBlockZ(),
+                max.getBlockX(), max.getBlockY(), max.getBlockZ());
+    }
 
-                if (!occupied) {
-                    return testLocation;
-                }
-            }
+    /**
+     * Mark an arena READY once its paste or reset job is done (now if there is none).
+     */
+    private void readyWhenDone(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, BlockJobScheduler.Job job) {
+        if (job == null) {
+            lifecycle.ready(handle);
+            return;
         }
+        job.whenDone(() -> {
+            if (!job.isCancelled()) {
+                lifecycle.ready(handle);
+            }
+        });
+    }
 
-        return null; // No free location found
+    /**
+     * Build a ready arena for the pool (runs on quiet ticks).
+     * Pooled arenas count towards max_instances.
+     */
+    private InstanceLifecycle.Handle<Map2Instance, PastedSlot> fillPool() {
+        if (!eventActive.getAsBoolean()) return null;
+        if (lifecycle.activeCount() + pool.readyCount() >= maxInstances) return null;
+
+        File schematicFile = schematicFile();
+        World world = Bukkit.getWorld(worldName);
+        if (!schematicFile.exists() || world == null) return null;
+
+        try {
+            InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = pasteSlot(schematicFile, world, true);
+            if (handle != null) {
+                config.debug("[Full Moon] Pre-pasted pooled arena at " + handle.getSlot().origin());
+            }
+            return handle;
+        } catch (Exception e) {
+            plugin.getLogger().warning("[Full Moon] Failed to pre-paste arena: " + e.getMessage());
+            return null;
+        }
     }
 
+    /**
+     * Pool hit/miss counters and ready arenas.
+     */
+    public List<InstancePool.Stats> getPoolStats() {
+        return pool.getStats();
+    }
 
     /**
      * Get the active instance for a player.
      */
     public Map2Instance getInstance(UUID playerId) {
-        return activeInstances.get(playerId);
+        return lifecycle.get(playerId);
     }
 
     /**
      * Remove and cleanup an instance.
+     * While the pool wants more arenas, the instance is reset and recycled instead.
      */
     public void removeInstance(UUID playerId) {
-        Map2Instance instance = activeInstances.remove(playerId);
-        if (instance != null) {
-            instance.cleanup();
-
-            // Free up space
-            occupiedRanges.removeIf(range ->
-                    range.minX == instance.getOrigin().getBlockX() &&
-                            range.minZ == instance.getOrigin().getBlockZ()
-            );
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = lifecycle.getHandle(playerId);
+        if (handle != null) {
+            lifecycle.end(handle);
+        }
+    }
 
-            config.debug("[Full Moon] Removed Map2 instance for player " + playerId);
+    /**
+     * Teleport the owner into their arena once its chunks are loaded (see
+     * {@link InstanceLifecycle#enter}). Main thread only.
+     *
+     * @return Completes on the main thread with whether the player arrived
+     */
+    public java.util.concurrent.CompletableFuture<Boolean> enterInstance(Map2Instance instance, Player player, Location destination) {
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = lifecycle.getHandle(instance);
+        if (handle == null) {
+            return java.util.concurrent.CompletableFuture.completedFuture(false);
         }
+        return lifecycle.enter(handle, player, destination);
     }
 
     /**
-     * Get all active instances.
+     * Stop an instance and remove it after a delay.
      */
-    public Collection<Map2Instance> getAllInstances() {
-        return activeInstances.values();
+    public void drainInstance(Map2Instance instance, long delayTicks) {
+        drainInstance(instance, delayTicks, () -> {
+        });
     }
 
     /**
-     * Cleanup all instances.
+     * Stop an instance and remove it after a delay (e.g. the countdown after the
+     * final boss, or time to respawn after death). A later call replaces the delay.
+     *
+     * @param beforeRemove Runs when the delay is over, right before the instance is removed
      */
-    public void cleanupAll() {
-        for (UUID playerId : new HashSet<>(activeInstances.keySet())) {
-            removeInstance(playerId);
+    public void drainInstance(Map2Instance instance, long delayTicks, Runnable beforeRemove) {
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = lifecycle.getHandle(instance);
+        if (handle != null) {
+            lifecycle.drain(handle, delayTicks, beforeRemove);
         }
-        occupiedRanges.clear();
     }
 
     /**
-     * Represents a rectangular coordinate range in the world.
+     * Clear an arena that left play or the pool (the lifecycle's CLEARING step):
+     * recycle it into the pool when allowed, otherwise clear its blocks and free
+     * the slot once they are gone.
      */
-    private static class CoordinateRange {
-        final int minX, minZ, maxX, maxZ;
-
-        CoordinateRange(int minX, int minZ, int maxX, int maxZ) {
-            this.minX = Math.min(minX, maxX);
-            this.minZ = Math.min(minZ, maxZ);
-            this.maxX = Math.max(minX, maxX);
-            this.maxZ = Math.max(minZ, maxZ);
+    private void clearSlot(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, boolean reuse) {
+        PastedSlot slot = handle.getSlot();
+        // Stop a paste or reset still running in slices
+        if (slot.pasteJob() != null) {
+            slot.pasteJob().cancel();
+        }
+
+        Map2Instance instance = handle.getInstance();
+        if (instance == null) {
+            // A pooled arena that was never handed out
+            SchematicHandler.PasteResult result = slot.pasteResult();
+            Location min = slot.origin().clone().add(result.appliedOffset()).add(result.minimumOffset());
+            Vector size = result.maximumOffset().subtract(result.minimumOffset()).add(new Vector(1, 1, 1));
+            schematicHandler.clearRegion(min.getWorld(), min, size).whenDone(() -> {
+                slot.claim().release();
+                lifecycle.free(handle);
+            });
+            return;
         }
 
-        boolean contains(int x, int z) {
-            return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+        if (reuse && recycleSlot(handle, instance)) {
+            config.debug("[Full Moon] Recycled Map2 instance of player " + instance.getPlayerId() + " into the pool");
+            return;
         }
 
-        boolean intersects(CoordinateRange other) {
-            return !(maxX < other.minX || minX > other.maxX ||
-                    maxZ < other.minZ || minZ > other.maxZ);
+        // Free the slot once the blocks are cleared
+        instance.cleanup().whenDone(() -> {
+            slot.claim().release();
+            lifecycle.free(handle);
+        });
+        config.debug("[Full Moon] Removed Map2 instance for player " + instance.getPlayerId());
+    }
+
+    /**
+     * Drop an arena from the pool. A recycled arena may still be resetting.
+     */
+    private void dropSlot(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle) {
+        if (handle.getState() == InstanceState.CLEARING) {
+            clearSlot(handle, false);
+        } else {
+            lifecycle.end(handle, false);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Reset a finished arena (restoring only the sections changed while it was
+     * live) and put it back into the pool.
+     *
+     * @return false if the arena cannot be recycled and has to be cleared
+     */
+    private boolean recycleSlot(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, Map2Instance instance) {
+        if (!eventActive.getAsBoolean() || instance.isBlocksCleared() || !pool.hasRoom(POOL_KEY)) return false;
+
+        // A re-exported schematic no longer matches the pasted blocks
+        PastedSlot slot = handle.getSlot();
+        File schematicFile = schematicFile();
+        if (schematicFile.lastModified() != slot.schematicStamp()) return false;
+
+        try {
+            BlockJobScheduler.Job resetJob = instance.reset(schematicHandler, schematicFile);
+            handle.setSlot(new PastedSlot(slot.origin(), slot.pasteResult(), slot.claim(),
+                    resetJob, slot.schematicStamp(), slot.dirtySections()));
+            if (!pool.offer(POOL_KEY, handle)) {
+                resetJob.cancel();
+                handle.setSlot(slot);
+                return false;
+            }
+            readyWhenDone(handle, resetJob);
+            return true;
+        } catch (Exception e) {
+            plugin.getLogger().warning("[Full Moon] Failed to reset arena instance: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Get all active instances.
+     */
+    public Collection<Map2Instance> getAllInstances() {
+        return lifecycle.getInstances();
+    }
+
+    /**
+     * Get the instance whose region contains a location, or null.
+     */
+    public Map2Instance getInstanceAt(Location location) {
+        return lifecycle.getAt(location);
+    }
+
+    /**
+     * Dirty sections of the instance containing a block, or null.
+     */
+    public DirtySections getDirtySectionsAt(Block block) {
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle =
+                lifecycle.getHandleAt(block.getWorld(), block.getX(), block.getY(), block.getZ());
+        PastedSlot slot = handle != null ? handle.getSlot() : null;
+        return slot != null ? slot.dirtySections() : null;
+    }
+
+    /**
+     * Track an entity spawned in an instance so it can be resolved by UUID.
+     */
+    public void trackEntity(Map2Instance instance, UUID entityId) {
+        instance.trackEntity(entityId);
+        lifecycle.trackEntity(instance, entityId);
+    }
+
+    /**
+     * Get the instance that owns a tracked entity, or null.
+     */
+    public Map2Instance getInstanceByEntity(UUID entityId) {
+        return lifecycle.getByEntity(entityId);
+    }
+
+    /**
+     * Stop tracking an entity (on death).
+     *
+     * @return The instance that owned it, or null
+     */
+    public Map2Instance untrackEntity(UUID entityId) {
+        return lifecycle.untrackEntity(entityId);
+    }
+
+    /**
+     * Cleanup all instances.
+     */
+    public void cleanupAll() {
+        lifecycle.endAll();
+        pool.clear();
+        // Slots are released as the clear jobs finish
+    }
+
+    /**
+     * A pasted arena: paste origin, paste result, the slot it occupies, the
+     * sliced paste or reset job (null when pasted at once) and the schematic's
+     * modification time at paste, and the sections changed since the last
+     * paste or reset (kept for the slot's whole life, so changes while it is
+     * pooled or clearing are restored by the next reset).
+     */
+    private record PastedSlot(Location origin, SchematicHandler.PasteResult pasteResult, SchematicSlots.Claim claim,
+                              BlockJobScheduler.Job pasteJob, long schematicStamp, DirtySections dirtySections) {
+    }
+}
@@ -0,0 +1,135 @@
+package org.maks.eventPlugin.fullmoon.map2;
+
+import com.sk89q.worldedit.extent.clipboard.Clipboard;
+import org.bukkit.Bukkit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parsed schematics, their sidecars and marker scans, shared by every schematic
+ * handler.
+ *
+ * Entries are keyed by absolute path and only used while the file's modification
+ * time and size still match. Marker scans are cached per marker configuration.
+ * A watch service on the schematic directories drops entries as soon as a file
+ * changes, so a re-exported schematic is picked up on the next paste.
+ */
+public final class SchematicCache {
+
+    static final class Entry {
+        final long lastModified;
+        final long length;
+        final Map<SchematicHandler.MarkerConfiguration, WorldEditSchematicHandler.MarkerScan> scans = new ConcurrentHashMap<>();
+        // Filled lazily by the schematic handler
+        volatile Clipboard clipboard;
+        volatile SchematicSidecar sidecar;
+        volatile boolean sidecarRead;
+
+        Entry(long lastModified, long length) {
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+
+    private static final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+    private static final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+
+    private static WatchService watchService;
+    private static Thread watchThread;
+
+    private SchematicCache() {
+    }
+
+    /**
+     * Cache entry for a schematic file, replaced by a fresh one if the file
+     * changed since it was cached.
+     */
+    static Entry get(File file) {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        long lastModified = file.lastModified();
+        long length = file.length();
+        Entry entry = entries.compute(path, (key, current) ->
+                current != null && current.lastModified == lastModified && current.length == length
+                        ? current
+                        : new Entry(lastModified, length));
+        watch(path.getParent());
+        return entry;
+    }
+
+    /**
+     * Drop every cached schematic.
+     */
+    public static void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Stop the file watcher and drop the cache (used on shutdown).
+     */
+    public static synchronized void shutdown() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+            watchService = null;
+            watchThread = null;
+        }
+        watchedDirectories.clear();
+        entries.clear();
+    }
+
+    private static synchronized void watch(Path directory) {
+        if (directory == null || watchedDirectories.contains(directory)) return;
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+                WatchService service = watchService;
+                watchThread = new Thread(() -> run(service), "EventPlugin-SchematicWatcher");
+                watchThread.setDaemon(true);
+                watchThread.start();
+            }
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            watchedDirectories.add(directory);
+        } catch (IOException e) {
+            // Entries are still checked against the file's mtime on every lookup
+            Bukkit.getLogger().warning("[EventPlugin] Could not watch schematic directory " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private static void run(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        entries.clear();
+                        continue;
+                    }
+                    Path changed = directory.resolve((Path) event.context());
+                    entries.remove(changed);
+                }
+                if (!key.reset()) {
+                    watchedDirectories.remove(directory);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+            // Shutting down
+        }
+    }
+}
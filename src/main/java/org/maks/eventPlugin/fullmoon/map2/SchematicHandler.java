@@ -6,8 +6,10 @@ import org.bukkit.World;
 import org.bukkit.util.Vector;
 
 import java.io.File;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -32,27 +34,91 @@ public interface SchematicHandler {
                                MarkerConfiguration markerConfiguration) throws Exception;
 
     /**
-     * Clear a region in the world.
+     * Paste a schematic in slices over the next ticks (see {@link BlockJobScheduler}).
+     * Bounds and marker offsets are returned right away; the blocks are only
+     * complete once the job is done.
+     *
+     * @param schematicFile The schematic file
+     * @param world The target world
+     * @param origin The origin location
+     * @param markerConfiguration Configuration for marker blocks
+     * @return Paste information and the running paste job
+     * @throws Exception if the schematic cannot be read
+     */
+    SlicedPaste pasteSchematicSliced(File schematicFile,
+                                     World world,
+                                     Location origin,
+                                     MarkerConfiguration markerConfiguration) throws Exception;
+
+    /**
+     * Get the bounds of a schematic, relative to its origin, without pasting it.
+     *
+     * @param schematicFile The schematic file
+     * @return The schematic bounds
+     * @throws Exception if the schematic cannot be read
+     */
+    SchematicBounds getBounds(File schematicFile) throws Exception;
+
+    /**
+     * Restore chunk sections of a pasted schematic from the schematic file, in
+     * slices over the next ticks. Used to reset an instance without a full re-paste.
+     *
+     * @param schematicFile The schematic file the instance was pasted from
+     * @param world The world
+     * @param pastedOrigin Where the schematic origin was pasted (after the applied offset)
+     * @param sections The modified sections (see {@link DirtySections})
+     * @return The running restore job
+     * @throws Exception if the schematic cannot be read
+     */
+    BlockJobScheduler.Job restoreSections(File schematicFile,
+                                          World world,
+                                          Location pastedOrigin,
+                                          Collection<Long> sections) throws Exception;
+
+    /**
+     * Precompile marker offsets for a schematic into a sidecar file, so later
+     * pastes read them instead of scanning the schematic.
+     *
+     * @param schematicFile The schematic file
+     * @param markers Every marker block callers will look for in this schematic
+     * @throws Exception if the schematic cannot be read or the sidecar written
+     */
+    void precompile(File schematicFile, Collection<Material> markers) throws Exception;
+
+    /**
+     * Clear a region in the world, in slices over the next ticks.
      *
      * @param world The world
      * @param origin The origin location
      * @param size The size of the region
+     * @return The running clear job
      */
-    void clearRegion(World world, Location origin, Vector size);
+    BlockJobScheduler.Job clearRegion(World world, Location origin, Vector size);
 
     /**
      * Configuration for marker blocks to scan.
+     * Named markers are any further marker types (e.g. "cauldron"); their
+     * offsets are returned by {@link PasteResult#markerOffsets(String)}.
      */
     record MarkerConfiguration(Material mobMarker,
                                Material miniBossMarker,
                                Material finalBossMarker,
-                               Material playerSpawnMarker) {
+                               Material playerSpawnMarker,
+                               Map<String, Material> namedMarkers) {
 
         public MarkerConfiguration {
             Objects.requireNonNull(mobMarker, "mobMarker");
             Objects.requireNonNull(miniBossMarker, "miniBossMarker");
             Objects.requireNonNull(finalBossMarker, "finalBossMarker");
             Objects.requireNonNull(playerSpawnMarker, "playerSpawnMarker");
+            namedMarkers = namedMarkers == null ? Map.of() : Map.copyOf(namedMarkers);
+        }
+
+        public MarkerConfiguration(Material mobMarker,
+                                   Material miniBossMarker,
+                                   Material finalBossMarker,
+                                   Material playerSpawnMarker) {
+            this(mobMarker, miniBossMarker, finalBossMarker, playerSpawnMarker, Map.of());
         }
     }
 
@@ -63,6 +129,18 @@ public interface SchematicHandler {
         // No validation needed; values originate from schematic coordinates.
     }
 
+    /**
+     * Schematic bounds relative to its origin, and its size.
+     */
+    record SchematicBounds(BlockOffset minimumOffset, BlockOffset maximumOffset, BlockOffset dimensions) {
+    }
+
+    /**
+     * Result of a sliced paste.
+     */
+    record SlicedPaste(PasteResult result, BlockJobScheduler.Job job) {
+    }
+
     /**
      * Result of pasting a schematic.
      */
@@ -73,7 +151,8 @@ public interface SchematicHandler {
                        List<BlockOffset> mobMarkerOffsets,
                        List<BlockOffset> miniBossMarkerOffsets,
                        List<BlockOffset> finalBossMarkerOffsets,
-                       List<BlockOffset> playerSpawnMarkerOffsets) {
+                       List<BlockOffset> playerSpawnMarkerOffsets,
+                       Map<String, List<BlockOffset>> namedMarkerOffsets) {
 
         public PasteResult {
             if (minimumOffset != null) {
@@ -100,6 +179,16 @@ public interface SchematicHandler {
             playerSpawnMarkerOffsets = playerSpawnMarkerOffsets == null
                     ? List.of()
                     : List.copyOf(playerSpawnMarkerOffsets);
+            namedMarkerOffsets = namedMarkerOffsets == null
+                    ? Map.of()
+                    : Map.copyOf(namedMarkerOffsets);
+        }
+
+        /**
+         * Offsets of a named marker, or an empty list if it was not configured or not found.
+         */
+        public List<BlockOffset> markerOffsets(String name) {
+            return namedMarkerOffsets.getOrDefault(name, List.of());
         }
 
         @Override
@@ -0,0 +1,196 @@
+package org.maks.eventPlugin.fullmoon.map2;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Precompiled marker data stored next to a schematic ("arena.schem.markers").
+ *
+ * Holds the clipboard bounds and the offsets of every compiled marker block, so
+ * a paste can skip scanning the clipboard. The file is checked against the
+ * schematic's size and modification time, falling back to its CRC32 when the
+ * time differs (e.g. the file was copied).
+ *
+ * Layout (big endian):
+ * <pre>
+ * int    magic "EVSM"
+ * short  version
+ * long   schematic length
+ * long   schematic mtime
+ * long   schematic CRC32
+ * int[3] minimum offset, int[3] maximum offset, int[3] dimensions
+ * int    marker count
+ *   per marker: short id length, id (UTF-8), int offset count, int[3] per offset
+ * </pre>
+ */
+final class SchematicSidecar {
+
+    static final String SUFFIX = ".markers";
+
+    private static final int MAGIC = 0x4556534D; // "EVSM"
+    private static final short VERSION = 1;
+
+    private final SchematicHandler.BlockOffset minimumOffset;
+    private final SchematicHandler.BlockOffset maximumOffset;
+    private final SchematicHandler.BlockOffset dimensions;
+    private final Map<String, List<SchematicHandler.BlockOffset>> markers;
+
+    SchematicSidecar(SchematicHandler.BlockOffset minimumOffset,
+                     SchematicHandler.BlockOffset maximumOffset,
+                     SchematicHandler.BlockOffset dimensions,
+                     Map<String, List<SchematicHandler.BlockOffset>> markers) {
+        this.minimumOffset = minimumOffset;
+        this.maximumOffset = maximumOffset;
+        this.dimensions = dimensions;
+        this.markers = markers;
+    }
+
+    SchematicHandler.BlockOffset minimumOffset() {
+        return minimumOffset;
+    }
+
+    SchematicHandler.BlockOffset maximumOffset() {
+        return maximumOffset;
+    }
+
+    SchematicHandler.BlockOffset dimensions() {
+        return dimensions;
+    }
+
+    Map<String, List<SchematicHandler.BlockOffset>> markers() {
+        return Collections.unmodifiableMap(markers);
+    }
+
+    static File fileFor(File schematicFile) {
+        return new File(schematicFile.getParentFile(), schematicFile.getName() + SUFFIX);
+    }
+
+    /**
+     * Read the sidecar of a schematic.
+     *
+     * @return The sidecar, or null if it is missing, corrupt or out of date
+     */
+    static SchematicSidecar read(File schematicFile) throws IOException {
+        File file = fileFor(schematicFile);
+        if (!file.isFile()) return null;
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) return null;
+            long length = buffer.getLong();
+            long lastModified = buffer.getLong();
+            long checksum = buffer.getLong();
+
+            if (length != schematicFile.length()) return null;
+            if (lastModified != schematicFile.lastModified() && checksum != checksum(schematicFile)) return null;
+
+            SchematicHandler.BlockOffset min = readOffset(buffer);
+            SchematicHandler.BlockOffset max = readOffset(buffer);
+            SchematicHandler.BlockOffset dimensions = readOffset(buffer);
+
+            int markerCount = buffer.getInt();
+            Map<String, List<SchematicHandler.BlockOffset>> markers = new LinkedHashMap<>();
+            for (int i = 0; i < markerCount; i++) {
+                byte[] id = new byte[buffer.getShort()];
+                buffer.get(id);
+                int count = buffer.getInt();
+                List<SchematicHandler.BlockOffset> offsets = new ArrayList<>(count);
+                for (int j = 0; j < count; j++) {
+                    offsets.add(readOffset(buffer));
+                }
+                markers.put(new String(id, StandardCharsets.UTF_8), Collections.unmodifiableList(offsets));
+            }
+            return new SchematicSidecar(min, max, dimensions, markers);
+        } catch (RuntimeException e) {
+            // Truncated or garbled file: recompile
+            return null;
+        }
+    }
+
+    /**
+     * Write a sidecar for a schematic, replacing any existing one.
+     */
+    static SchematicSidecar write(File schematicFile,
+                                  SchematicHandler.BlockOffset minimumOffset,
+                                  SchematicHandler.BlockOffset maximumOffset,
+                                  SchematicHandler.BlockOffset dimensions,
+                                  Map<String, List<SchematicHandler.BlockOffset>> markers) throws IOException {
+        long length = schematicFile.length();
+        long lastModified = schematicFile.lastModified();
+        long checksum = checksum(schematicFile);
+
+        int size = 4 + 2 + 8 * 3 + 12 * 3 + 4;
+        for (Map.Entry<String, List<SchematicHandler.BlockOffset>> entry : markers.entrySet()) {
+            size += 2 + entry.getKey().getBytes(StandardCharsets.UTF_8).length + 4 + 12 * entry.getValue().size();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putShort(VERSION);
+        buffer.putLong(length).putLong(lastModified).putLong(checksum);
+        writeOffset(buffer, minimumOffset);
+        writeOffset(buffer, maximumOffset);
+        writeOffset(buffer, dimensions);
+        buffer.putInt(markers.size());
+        for (Map.Entry<String, List<SchematicHandler.BlockOffset>> entry : markers.entrySet()) {
+            byte[] id = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) id.length).put(id);
+            buffer.putInt(entry.getValue().size());
+            for (SchematicHandler.BlockOffset offset : entry.getValue()) {
+                writeOffset(buffer, offset);
+            }
+        }
+        buffer.flip();
+
+        // Write to a temp file and swap it in, so readers never see half a file
+        File target = fileFor(schematicFile);
+        File temp = new File(target.getParentFile(), target.getName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return new SchematicSidecar(minimumOffset, maximumOffset, dimensions, new LinkedHashMap<>(markers));
+    }
+
+    private static long checksum(File file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] chunk = new byte[64 * 1024];
+        try (InputStream in = new FileInputStream(file)) {
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                crc.update(chunk, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static SchematicHandler.BlockOffset readOffset(ByteBuffer buffer) {
+        return new SchematicHandler.BlockOffset(buffer.getInt(), buffer.getInt(), buffer.getInt());
+    }
+
+    private static void writeOffset(ByteBuffer buffer, SchematicHandler.BlockOffset offset) {
+        buffer.putInt(offset.x()).putInt(offset.y()).putInt(offset.z());
+    }
+}
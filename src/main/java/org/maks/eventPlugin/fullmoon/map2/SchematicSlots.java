@@ -0,0 +1,156 @@
+package org.maks.eventPlugin.fullmoon.map2;
+
+import com.sk89q.worldedit.math.BlockVector3;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.maks.eventPlugin.eventsystem.SlotAllocator;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Slot allocation for one schematic spawn area.
+ *
+ * Builds a {@link SlotAllocator} whose slot size is the schematic's footprint,
+ * and turns a slot into the paste origin that puts the schematic's minimum
+ * corner on the slot's corner. The allocator is rebuilt when the schematic
+ * size changes while no slot is in use. Leftovers from the last run are
+ * cleared before their slots are handed out again. Claims are synchronized;
+ * the leftover clears are always queued on the main thread.
+ */
+public class SchematicSlots {
+
+    /**
+     * A claimed slot and the paste origin for it.
+     */
+    public record Claim(SlotAllocator allocator, SlotAllocator.Slot slot, Location origin) {
+
+        /**
+         * Give the slot back (once its blocks are cleared).
+         */
+        public void release() {
+            allocator.free(slot.index());
+        }
+    }
+
+    private final JavaPlugin plugin;
+    private final SchematicHandler schematicHandler;
+    private final String name;
+    private final int minX, minY, minZ, maxX, maxZ;
+    private final int spacing;
+
+    private SlotAllocator allocator;
+
+    /**
+     * @param name Area name, used for the slot state file
+     * @param spacing Gap between slots
+     */
+    public SchematicSlots(JavaPlugin plugin, SchematicHandler schematicHandler, String name,
+                          int minX, int minY, int minZ, int maxX, int maxZ, int spacing) {
+        this.plugin = plugin;
+        this.schematicHandler = schematicHandler;
+        this.name = name;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxZ = maxZ;
+        this.spacing = spacing;
+    }
+
+    /**
+     * Claim a free slot for a schematic.
+     *
+     * @return The claim, or null if the area is full
+     * @throws Exception if the schematic cannot be read
+     */
+    public synchronized Claim claim(File schematicFile, World world) throws Exception {
+        SchematicHandler.SchematicBounds bounds = schematicHandler.getBounds(schematicFile);
+        SlotAllocator slots = allocator(bounds, world);
+        SlotAllocator.Slot slot = slots.allocate();
+        if (slot == null) return null;
+
+        Location origin = new Location(world,
+                slot.minX() - bounds.minimumOffset().x(),
+                minY,
+                slot.minZ() - bounds.minimumOffset().z());
+        return new Claim(slots, slot, origin);
+    }
+
+    /**
+     * Build the allocator up front and clear what the last run left behind.
+     */
+    public synchronized void prepare(File schematicFile, World world) {
+        try {
+            allocator(schematicHandler.getBounds(schematicFile), world);
+        } catch (Exception e) {
+            plugin.getLogger().warning("[EventPlugin] Could not prepare slots for " + name + ": " + e.getMessage());
+        }
+    }
+
+    public synchronized int capacity() {
+        return allocator != null ? allocator.capacity() : 0;
+    }
+
+    private SlotAllocator allocator(SchematicHandler.SchematicBounds bounds, World world) {
+        SlotAllocator.Layout layout = layout(bounds, world);
+        if (allocator != null && !allocator.getLayout().equals(layout)) {
+            if (!allocator.isEmpty()) {
+                // Keep the old grid until its instances are gone
+                return allocator;
+            }
+            allocator = null;
+        }
+        if (allocator == null) {
+            allocator = new SlotAllocator(plugin, name, layout);
+            clearLeftovers(allocator, world);
+        }
+        return allocator;
+    }
+
+    /**
+     * Slot footprint from the schematic size. The Y range mirrors the paste:
+     * the schematic is lifted so its bottom is not below the origin, then kept
+     * inside the world.
+     */
+    private SlotAllocator.Layout layout(SchematicHandler.SchematicBounds bounds, World world) {
+        int bottom = minY + Math.max(0, bounds.minimumOffset().y());
+        int top = bottom + bounds.dimensions().y() - 1;
+        if (top > world.getMaxHeight() - 1) {
+            bottom -= top - (world.getMaxHeight() - 1);
+            top = world.getMaxHeight() - 1;
+        }
+        bottom = Math.max(bottom, world.getMinHeight());
+
+        return new SlotAllocator.Layout(minX, minZ, maxX, maxZ,
+                bounds.dimensions().x(), bounds.dimensions().z(), spacing, bottom, top);
+    }
+
+    private void clearLeftovers(SlotAllocator slots, World world) {
+        List<SlotAllocator.Leftover> leftovers = slots.takeLeftovers();
+        if (leftovers.isEmpty()) return;
+        if (!Bukkit.isPrimaryThread()) {
+            // Block jobs are main-thread only; the slots stay blocked until the clear is done
+            Bukkit.getScheduler().runTask(plugin, () -> clearLeftovers(slots, world, leftovers));
+            return;
+        }
+        clearLeftovers(slots, world, leftovers);
+    }
+
+    private void clearLeftovers(SlotAllocator slots, World world, List<SlotAllocator.Leftover> leftovers) {
+        for (SlotAllocator.Leftover leftover : leftovers) {
+            Bukkit.getLogger().info("[EventPlugin] Clearing leftover instance in " + name + " at " +
+                    leftover.minX() + ", " + leftover.minZ());
+            BlockJobScheduler.clear(world,
+                    BlockVector3.at(leftover.minX(), leftover.minY(), leftover.minZ()),
+                    BlockVector3.at(leftover.maxX(), leftover.maxY(), leftover.maxZ()))
+                    .whenDone(() -> {
+                        for (int index : leftover.blockedSlots()) {
+                            slots.free(index);
+                        }
+                    });
+        }
+    }
+}
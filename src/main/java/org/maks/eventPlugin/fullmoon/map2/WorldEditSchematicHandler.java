@@ -11,11 +11,8 @@ import com.sk89q.worldedit.extent.clipboard.io.ClipboardReader;
 import com.sk89q.worldedit.function.operation.Operation;
 import com.sk89q.worldedit.function.operation.Operations;
 import com.sk89q.worldedit.math.BlockVector3;
-import com.sk89q.worldedit.regions.CuboidRegion;
-import com.sk89q.worldedit.regions.Region;
 import com.sk89q.worldedit.session.ClipboardHolder;
 import com.sk89q.worldedit.world.block.BlockStateHolder;
-import com.sk89q.worldedit.world.block.BlockTypes;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -28,8 +25,13 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * WorldEdit-based schematic handler for eventPlugin.
@@ -47,34 +49,15 @@ public class WorldEditSchematicHandler implements SchematicHandler {
                                       World world,
                                       Location origin,
                                       MarkerConfiguration markerConfiguration) throws IOException {
-        ClipboardFormat format = ClipboardFormats.findByFile(schematicFile);
-        if (format == null) {
-            throw new IOException("Unsupported schematic format for file " + schematicFile.getAbsolutePath());
-        }
-
-        Clipboard clipboard;
-        try (ClipboardReader reader = format.getReader(new FileInputStream(schematicFile))) {
-            clipboard = reader.read();
-        }
-
-        BlockVector3 clipboardOrigin = clipboard.getOrigin();
-        BlockVector3 min = clipboard.getMinimumPoint();
-        BlockVector3 max = clipboard.getMaximumPoint();
-
-        Vector minimumOffset = toBukkitVector(min.subtract(clipboardOrigin));
-        Vector maximumOffset = toBukkitVector(max.subtract(clipboardOrigin));
-        Vector appliedOffset = computeAppliedOffset(world, origin, minimumOffset, maximumOffset);
-
-        BlockVector3 to = BlockVector3.at(
-                origin.getBlockX() + (int) Math.floor(appliedOffset.getX()),
-                origin.getBlockY() + (int) Math.floor(appliedOffset.getY()),
-                origin.getBlockZ() + (int) Math.floor(appliedOffset.getZ()));
+        SchematicCache.Entry cached = SchematicCache.get(schematicFile);
+        Clipboard clipboard = loadClipboard(schematicFile, cached);
+        PasteResult result = buildResult(schematicFile, cached, clipboard, world, origin, markerConfiguration);
 
         try (EditSession editSession = WorldEdit.getInstance().newEditSession(BukkitAdapter.adapt(world))) {
             ClipboardHolder holder = new ClipboardHolder(clipboard);
             Operation operation = holder
                     .createPaste(editSession)
-                    .to(to)
+                    .to(pasteTarget(origin, result))
                     .ignoreAirBlocks(false)
                     .build();
             Operations.complete(operation);
@@ -83,10 +66,69 @@ public class WorldEditSchematicHandler implements SchematicHandler {
             throw new IOException("Failed to paste schematic: " + ex.getMessage(), ex);
         }
 
+        return result;
+    }
+
+    @Override
+    public SlicedPaste pasteSchematicSliced(File schematicFile,
+                                            World world,
+                                            Location origin,
+                                            MarkerConfiguration markerConfiguration) throws IOException {
+        SchematicCache.Entry cached = SchematicCache.get(schematicFile);
+        Clipboard clipboard = loadClipboard(schematicFile, cached);
+        PasteResult result = buildResult(schematicFile, cached, clipboard, world, origin, markerConfiguration);
+
+        BlockJobScheduler.Job job = BlockJobScheduler.paste(world, clipboard, pasteTarget(origin, result));
+        return new SlicedPaste(result, job);
+    }
+
+    @Override
+    public SchematicBounds getBounds(File schematicFile) throws IOException {
+        SchematicCache.Entry cached = SchematicCache.get(schematicFile);
+        SchematicSidecar sidecar = loadSidecar(schematicFile, cached);
+        if (sidecar != null) {
+            return new SchematicBounds(sidecar.minimumOffset(), sidecar.maximumOffset(), sidecar.dimensions());
+        }
+
+        Clipboard clipboard = loadClipboard(schematicFile, cached);
+        BlockVector3 origin = clipboard.getOrigin();
+        return new SchematicBounds(
+                toOffset(clipboard.getMinimumPoint().subtract(origin)),
+                toOffset(clipboard.getMaximumPoint().subtract(origin)),
+                toOffset(clipboard.getDimensions()));
+    }
+
+    @Override
+    public BlockJobScheduler.Job restoreSections(File schematicFile,
+                                                 World world,
+                                                 Location pastedOrigin,
+                                                 Collection<Long> sections) throws IOException {
+        Clipboard clipboard = loadClipboard(schematicFile, SchematicCache.get(schematicFile));
+        BlockVector3 to = BlockVector3.at(pastedOrigin.getBlockX(), pastedOrigin.getBlockY(), pastedOrigin.getBlockZ());
+        return BlockJobScheduler.restore(world, clipboard, to, sections);
+    }
+
+    /**
+     * Bounds, applied offset and marker offsets of a paste at an origin.
+     */
+    private PasteResult buildResult(File schematicFile,
+                                    SchematicCache.Entry cached,
+                                    Clipboard clipboard,
+                                    World world,
+                                    Location origin,
+                                    MarkerConfiguration markerConfiguration) {
+        BlockVector3 clipboardOrigin = clipboard.getOrigin();
+        BlockVector3 min = clipboard.getMinimumPoint();
+        BlockVector3 max = clipboard.getMaximumPoint();
+
+        Vector minimumOffset = toBukkitVector(min.subtract(clipboardOrigin));
+        Vector maximumOffset = toBukkitVector(max.subtract(clipboardOrigin));
+        Vector appliedOffset = computeAppliedOffset(world, origin, minimumOffset, maximumOffset);
+
         BlockVector3 dimensions = clipboard.getDimensions();
         Vector regionSize = new Vector(dimensions.getBlockX(), dimensions.getBlockY(), dimensions.getBlockZ());
 
-        MarkerScan scan = scanMarkers(clipboard, markerConfiguration);
+        MarkerScan scan = cached.scans.computeIfAbsent(markerConfiguration, mc -> findMarkers(schematicFile, cached, clipboard, mc));
 
         return new PasteResult(minimumOffset,
                 maximumOffset,
@@ -95,24 +137,108 @@ public class WorldEditSchematicHandler implements SchematicHandler {
                 scan.mobMarkerOffsets(),
                 scan.miniBossMarkerOffsets(),
                 scan.finalBossMarkerOffsets(),
-                scan.playerSpawnOffsets());
+                scan.playerSpawnOffsets(),
+                scan.namedMarkerOffsets());
+    }
+
+    private BlockVector3 pasteTarget(Location origin, PasteResult result) {
+        Vector appliedOffset = result.appliedOffset();
+        return BlockVector3.at(
+                origin.getBlockX() + (int) Math.floor(appliedOffset.getX()),
+                origin.getBlockY() + (int) Math.floor(appliedOffset.getY()),
+                origin.getBlockZ() + (int) Math.floor(appliedOffset.getZ()));
+    }
+
+    @Override
+    public void precompile(File schematicFile, Collection<Material> markers) throws IOException {
+        Set<String> markerIds = new LinkedHashSet<>();
+        for (Material marker : markers) {
+            if (isMarker(marker)) {
+                markerIds.add(materialId(marker));
+            }
+        }
+
+        // One compile at a time; two managers may share a schematic
+        synchronized (SchematicSidecar.class) {
+            SchematicCache.Entry cached = SchematicCache.get(schematicFile);
+            SchematicSidecar sidecar = loadSidecar(schematicFile, cached);
+            if (sidecar != null) {
+                if (sidecar.markers().keySet().containsAll(markerIds)) {
+                    return;
+                }
+                // Keep the markers compiled for other callers
+                markerIds.addAll(sidecar.markers().keySet());
+            }
+
+            Clipboard clipboard = loadClipboard(schematicFile, cached);
+            BlockVector3 origin = clipboard.getOrigin();
+            cached.sidecar = SchematicSidecar.write(schematicFile,
+                    toOffset(clipboard.getMinimumPoint().subtract(origin)),
+                    toOffset(clipboard.getMaximumPoint().subtract(origin)),
+                    toOffset(clipboard.getDimensions()),
+                    scanMarkerIds(clipboard, markerIds));
+            cached.sidecarRead = true;
+            config.debug("[Schematic] Compiled " + markerIds.size() + " marker types for " + schematicFile.getName());
+        }
+    }
+
+    /**
+     * Parsed clipboard for a schematic file, read from disk only when it is not
+     * cached or the file changed since it was read.
+     */
+    private Clipboard loadClipboard(File schematicFile, SchematicCache.Entry cached) throws IOException {
+        Clipboard clipboard = cached.clipboard;
+        if (clipboard != null) {
+            return clipboard;
+        }
+        synchronized (cached) {
+            if (cached.clipboard != null) {
+                return cached.clipboard;
+            }
+
+            ClipboardFormat format = ClipboardFormats.findByFile(schematicFile);
+            if (format == null) {
+                throw new IOException("Unsupported schematic format for file " + schematicFile.getAbsolutePath());
+            }
+
+            try (ClipboardReader reader = format.getReader(new FileInputStream(schematicFile))) {
+                clipboard = reader.read();
+            }
+            config.debug("[Schematic] Loaded " + schematicFile.getName() + " into cache");
+            cached.clipboard = clipboard;
+            return clipboard;
+        }
+    }
+
+    /**
+     * Sidecar of a schematic, read once per cache entry.
+     */
+    private SchematicSidecar loadSidecar(File schematicFile, SchematicCache.Entry cached) {
+        if (cached.sidecarRead) {
+            return cached.sidecar;
+        }
+        synchronized (cached) {
+            if (!cached.sidecarRead) {
+                try {
+                    cached.sidecar = SchematicSidecar.read(schematicFile);
+                } catch (IOException e) {
+                    config.debug("[Schematic] Could not read sidecar of " + schematicFile.getName() + ": " + e.getMessage());
+                }
+                cached.sidecarRead = true;
+            }
+            return cached.sidecar;
+        }
     }
 
     @Override
-    public void clearRegion(World world, Location origin, Vector size) {
+    public BlockJobScheduler.Job clearRegion(World world, Location origin, Vector size) {
         BlockVector3 min = BlockVector3.at(origin.getBlockX(), origin.getBlockY(), origin.getBlockZ());
         int width = Math.max(1, (int) Math.ceil(size.getX()));
         int height = Math.max(1, (int) Math.ceil(size.getY()));
         int depth = Math.max(1, (int) Math.ceil(size.getZ()));
         BlockVector3 max = min.add(width - 1, height - 1, depth - 1);
 
-        try (EditSession editSession = WorldEdit.getInstance().newEditSession(BukkitAdapter.adapt(world))) {
-            CuboidRegion region = new CuboidRegion(min, max);
-            editSession.setBlocks((Region) region, BlockTypes.AIR.getDefaultState());
-            flushEditSession(editSession);
-        } catch (WorldEditException ex) {
-            throw new IllegalStateException("Failed to clear region: " + ex.getMessage(), ex);
-        }
+        return BlockJobScheduler.clear(world, min, max);
     }
 
     /**
@@ -168,7 +294,7 @@ public class WorldEditSchematicHandler implements SchematicHandler {
     /**
      * Flush the edit session to ensure all changes are applied immediately.
      */
-    private void flushEditSession(EditSession editSession) {
+    static void flushEditSession(EditSession editSession) {
         if (editSession == null) {
             return;
         }
@@ -186,42 +312,93 @@ public class WorldEditSchematicHandler implements SchematicHandler {
     }
 
     /**
-     * Scan the clipboard for marker blocks.
+     * Marker offsets for a marker configuration, taken from the schematic's
+     * sidecar when it has every marker, otherwise scanned from the clipboard.
      */
-    private MarkerScan scanMarkers(Clipboard clipboard, MarkerConfiguration markerConfiguration) {
-        List<BlockOffset> mobOffsets = new ArrayList<>();
-        List<BlockOffset> miniBossOffsets = new ArrayList<>();
-        List<BlockOffset> finalBossOffsets = new ArrayList<>();
-        List<BlockOffset> playerSpawnOffsets = new ArrayList<>();
+    private MarkerScan findMarkers(File schematicFile,
+                                   SchematicCache.Entry cached,
+                                   Clipboard clipboard,
+                                   MarkerConfiguration markerConfiguration) {
+        Set<String> markerIds = new LinkedHashSet<>();
+        for (Material marker : List.of(markerConfiguration.mobMarker(),
+                markerConfiguration.miniBossMarker(),
+                markerConfiguration.finalBossMarker(),
+                markerConfiguration.playerSpawnMarker())) {
+            if (isMarker(marker)) {
+                markerIds.add(materialId(marker));
+            }
+        }
+        for (Material marker : markerConfiguration.namedMarkers().values()) {
+            if (isMarker(marker)) {
+                markerIds.add(materialId(marker));
+            }
+        }
+
+        SchematicSidecar sidecar = loadSidecar(schematicFile, cached);
+        boolean precompiled = sidecar != null && sidecar.markers().keySet().containsAll(markerIds);
+        Map<String, List<BlockOffset>> offsets = precompiled
+                ? sidecar.markers()
+                : scanMarkerIds(clipboard, markerIds);
+
+        Map<String, List<BlockOffset>> namedOffsets = new LinkedHashMap<>();
+        for (Map.Entry<String, Material> named : markerConfiguration.namedMarkers().entrySet()) {
+            namedOffsets.put(named.getKey(), markerOffsets(offsets, named.getValue()));
+        }
+
+        MarkerScan scan = new MarkerScan(
+                markerOffsets(offsets, markerConfiguration.mobMarker()),
+                markerOffsets(offsets, markerConfiguration.miniBossMarker()),
+                markerOffsets(offsets, markerConfiguration.finalBossMarker()),
+                markerOffsets(offsets, markerConfiguration.playerSpawnMarker()),
+                namedOffsets);
+
+        config.debug("[Full Moon] " + (precompiled ? "Read markers from sidecar: " : "Scanned markers: ") +
+                scan.mobMarkerOffsets().size() + " mobs, " +
+                scan.miniBossMarkerOffsets().size() + " mini-bosses, " +
+                scan.finalBossMarkerOffsets().size() + " final boss, " +
+                scan.playerSpawnOffsets().size() + " player spawns" +
+                (namedOffsets.isEmpty() ? "" : ", named " + describe(namedOffsets)));
+
+        return scan;
+    }
 
-        String mobMarkerId = materialId(markerConfiguration.mobMarker());
-        String miniBossMarkerId = materialId(markerConfiguration.miniBossMarker());
-        String finalBossMarkerId = materialId(markerConfiguration.finalBossMarker());
-        String playerSpawnId = materialId(markerConfiguration.playerSpawnMarker());
+    /**
+     * Walk the clipboard once and collect the offsets of every block whose type
+     * is one of the given marker IDs.
+     */
+    private Map<String, List<BlockOffset>> scanMarkerIds(Clipboard clipboard, Set<String> markerIds) {
+        Map<String, List<BlockOffset>> offsets = new LinkedHashMap<>();
+        for (String markerId : markerIds) {
+            offsets.put(markerId, new ArrayList<>());
+        }
+        if (markerIds.isEmpty()) {
+            return offsets;
+        }
 
         BlockVector3 origin = clipboard.getOrigin();
         for (BlockVector3 position : clipboard.getRegion()) {
             BlockStateHolder<?> state = clipboard.getFullBlock(position);
-            String stateId = state.getBlockType().getId();
-
-            if (matches(stateId, mobMarkerId)) {
-                mobOffsets.add(toOffset(position.subtract(origin)));
-            } else if (matches(stateId, miniBossMarkerId)) {
-                miniBossOffsets.add(toOffset(position.subtract(origin)));
-            } else if (matches(stateId, finalBossMarkerId)) {
-                finalBossOffsets.add(toOffset(position.subtract(origin)));
-            } else if (matches(stateId, playerSpawnId)) {
-                playerSpawnOffsets.add(toOffset(position.subtract(origin)));
+            List<BlockOffset> found = offsets.get(normalizeId(state.getBlockType().getId()));
+            if (found != null) {
+                found.add(toOffset(position.subtract(origin)));
             }
         }
+        return offsets;
+    }
 
-        config.debug("[Full Moon] Scanned markers: " +
-                mobOffsets.size() + " mobs, " +
-                miniBossOffsets.size() + " mini-bosses, " +
-                finalBossOffsets.size() + " final boss, " +
-                playerSpawnOffsets.size() + " player spawns");
+    private List<BlockOffset> markerOffsets(Map<String, List<BlockOffset>> offsets, Material marker) {
+        if (!isMarker(marker)) {
+            return List.of();
+        }
+        List<BlockOffset> found = offsets.get(materialId(marker));
+        return found != null ? found : List.of();
+    }
 
-        return new MarkerScan(mobOffsets, miniBossOffsets, finalBossOffsets, playerSpawnOffsets);
+    /**
+     * AIR stands for "no marker" (it would match most of the schematic).
+     */
+    private boolean isMarker(Material material) {
+        return material != null && !material.isAir();
     }
 
     private String materialId(Material material) {
@@ -229,25 +406,28 @@ public class WorldEditSchematicHandler implements SchematicHandler {
         return key.getNamespace().toLowerCase(Locale.ROOT) + ":" + key.getKey().toLowerCase(Locale.ROOT);
     }
 
-    private boolean matches(String stateId, String targetId) {
-        if (stateId.equalsIgnoreCase(targetId)) {
-            return true;
-        }
-        int separatorIndex = targetId.indexOf(':');
-        if (separatorIndex >= 0) {
-            String withoutNamespace = targetId.substring(separatorIndex + 1);
-            return stateId.equalsIgnoreCase(withoutNamespace);
+    private String normalizeId(String stateId) {
+        String id = stateId.toLowerCase(Locale.ROOT);
+        return id.indexOf(':') >= 0 ? id : "minecraft:" + id;
+    }
+
+    private String describe(Map<String, List<BlockOffset>> namedOffsets) {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, List<BlockOffset>> entry : namedOffsets.entrySet()) {
+            if (text.length() > 0) text.append(", ");
+            text.append(entry.getKey()).append('=').append(entry.getValue().size());
         }
-        return false;
+        return text.toString();
     }
 
     private BlockOffset toOffset(BlockVector3 vector) {
         return new BlockOffset(vector.getBlockX(), vector.getBlockY(), vector.getBlockZ());
     }
 
-    private record MarkerScan(List<BlockOffset> mobMarkerOffsets,
-                              List<BlockOffset> miniBossMarkerOffsets,
-                              List<BlockOffset> finalBossMarkerOffsets,
-                              List<BlockOffset> playerSpawnOffsets) {
+    record MarkerScan(List<BlockOffset> mobMarkerOffsets,
+                      List<BlockOffset> miniBossMarkerOffsets,
+                      List<BlockOffset> finalBossMarkerOffsets,
+                      List<BlockOffset> playerSpawnOffsets,
+                      Map<String, List<BlockOffset>> namedMarkerOffsets) {
     }
 }
@@ -19,6 +19,7 @@ import org.bukkit.inventory.InventoryView;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.maks.eventPlugin.eventsystem.AuditLog;
 import org.maks.eventPlugin.eventsystem.EventManager;
 import org.maks.eventPlugin.eventsystem.Reward;
 
@@ -466,6 +467,7 @@ public class AdminRewardEditorGUI implements Listener {
                     rewards.add(new Reward(session.progress.get(i), session.rewards.get(i)));
                 }
                 session.eventManager.setRewards(rewards);
+                AuditLog.admin(player.getName(), session.eventManager.getEventId(), "saved " + rewards.size() + " rewards");
                 player.sendMessage("Rewards saved.");
                 player.closeInventory();
                 sessions.remove(player.getUniqueId());
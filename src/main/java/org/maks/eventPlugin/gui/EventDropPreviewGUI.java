@@ -62,8 +62,7 @@ public class EventDropPreviewGUI implements InventoryHolder {
         inventory.setItem(4, info);
 
         // Display rewards sorted by required progress
-        List<Reward> rewards = new ArrayList<>(eventManager.getRewards());
-        rewards.sort(Comparator.comparingInt(Reward::requiredProgress));
+        List<Reward> rewards = eventManager.getSortedRewards();
 
         // Available slots for rewards (avoid top row and edges)
         int[] rewardSlots = {
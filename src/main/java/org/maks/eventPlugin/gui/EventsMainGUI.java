@@ -13,7 +13,9 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.permissions.PermissionAttachment;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.maks.eventPlugin.api.EventPluginAPI;
 import org.maks.eventPlugin.db.DatabaseManager;
+import org.maks.eventPlugin.eventsystem.CommunityGoals;
 import org.maks.eventPlugin.eventsystem.EventManager;
 import org.maks.eventPlugin.fullmoon.FullMoonManager;
 import org.maks.eventPlugin.fullmoon.gui.MapSelectionGUI;
@@ -40,6 +42,7 @@ public class EventsMainGUI implements Listener {
     private final Map1SelectionGUI newMoonMapSelectionGUI;
     private final NewMoonQuestGUI newMoonQuestGUI;
     private final EventRewardPreviewDAO rewardPreviewDAO;
+    private final CommunityGoals communityGoals;
 
     // Winter Event components
     private final org.maks.eventPlugin.winterevent.WinterEventManager winterEventManager;
@@ -63,7 +66,8 @@ public class EventsMainGUI implements Listener {
             org.maks.eventPlugin.winterevent.WinterEventManager winterEventManager,
             org.maks.eventPlugin.winterevent.summit.gui.DifficultySelectionGUI winterDifficultyGUI,
             org.maks.eventPlugin.winterevent.wintercave.gui.WinterCaveGUI winterCaveGUI,
-            DatabaseManager databaseManager
+            DatabaseManager databaseManager,
+            CommunityGoals communityGoals
     ) {
         this.plugin = plugin;
         this.eventManagers = eventManagers;
@@ -78,6 +82,7 @@ public class EventsMainGUI implements Listener {
         this.winterDifficultyGUI = winterDifficultyGUI;
         this.winterCaveGUI = winterCaveGUI;
         this.rewardPreviewDAO = new EventRewardPreviewDAO(plugin, databaseManager);
+        this.communityGoals = communityGoals;
     }
 
     /**
@@ -154,11 +159,50 @@ public class EventsMainGUI implements Listener {
             inv.setItem(22, noEvents);
         }
 
+        // Server-wide community goals (display only)
+        if (communityGoals != null && !communityGoals.getGoals().isEmpty()) {
+            inv.setItem(49, createCommunityGoalsItem());
+        }
+
         openGUIs.put(player.getUniqueId(), inv);
         slotToEventId.put(player.getUniqueId(), eventSlots);
         player.openInventory(inv);
     }
 
+    /**
+     * Create item showing server-wide community goal progress.
+     */
+    private ItemStack createCommunityGoalsItem() {
+        ItemStack item = new ItemStack(Material.BEACON);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName("§b§lCommunity Goals");
+
+        List<String> lore = new ArrayList<>();
+        lore.add("");
+        lore.add("§7The whole server works on these together!");
+        for (CommunityGoals.Goal goal : communityGoals.getGoals()) {
+            long count = goal.getCount();
+            lore.add("");
+            lore.add("§e" + goal.getName());
+            if (goal.getTarget() > 0) {
+                int percentage = (int) Math.min(100, (count * 100) / goal.getTarget());
+                lore.add("§7Progress: §e" + String.format("%,d", count) + "§7/§e" + String.format("%,d", goal.getTarget()) + " §7(" + percentage + "%)");
+            } else {
+                lore.add("§7Progress: §e" + String.format("%,d", count));
+            }
+            CommunityGoals.Milestone next = goal.getNextMilestone();
+            if (next != null) {
+                lore.add("§7Next milestone: §e" + String.format("%,d", next.at()));
+            } else if (!goal.getMilestones().isEmpty()) {
+                lore.add("§a✔ All milestones reached!");
+            }
+        }
+
+        meta.setLore(lore);
+        item.setItemMeta(meta);
+        return item;
+    }
+
     /**
      * Create item for Full Moon event.
      */
@@ -182,6 +226,7 @@ public class EventsMainGUI implements Listener {
         int max = manager.getMaxProgress();
         int percentage = (int) ((progress / (double) max) * 100);
         lore.add("§7Your Progress: §e" + progress + "§7/§e" + max + " §7(" + percentage + "%)");
+        addKillsLine(lore, player, manager);
         lore.add("");
 
         // Check if player has unlocked Map 2
@@ -226,6 +271,7 @@ public class EventsMainGUI implements Listener {
         int max = manager.getMaxProgress();
         int percentage = (int) ((progress / (double) max) * 100);
         lore.add("§7Your Progress: §e" + progress + "§7/§e" + max + " §7(" + percentage + "%)");
+        addKillsLine(lore, player, manager);
         lore.add("");
 
         // Check if player has unlocked portals (only if newMoonManager is available)
@@ -281,6 +327,7 @@ public class EventsMainGUI implements Listener {
         int max = manager.getMaxProgress();
         int percentage = (int) ((progress / (double) max) * 100);
         lore.add("§7Your Progress: §e" + progress + "§7/§e" + max + " §7(" + percentage + "%)");
+        addKillsLine(lore, player, manager);
         lore.add("");
 
         // Check Winter Cave access
@@ -300,6 +347,15 @@ public class EventsMainGUI implements Listener {
         return item;
     }
 
+    /**
+     * Add the player's kill count for this edition (and lifetime) to an event item.
+     */
+    private void addKillsLine(List<String> lore, Player player, EventManager manager) {
+        int edition = EventPluginAPI.getTotalKills(player.getUniqueId(), manager.getEventId(), false);
+        int lifetime = EventPluginAPI.getTotalKills(player.getUniqueId(), manager.getEventId(), true);
+        lore.add("§7Kills: §e" + edition + " §7(lifetime §e" + lifetime + "§7)");
+    }
+
     /**
      * Create item for regular event (like Monster Hunt).
      */
@@ -165,9 +165,8 @@ public class PlayerProgressGUI implements Listener {
             }
         }
 
-        // Sort rewards by required progress to maintain order
-        List<Reward> sortedRewards = new ArrayList<>(eventManager.getRewards());
-        sortedRewards.sort(Comparator.comparingInt(Reward::requiredProgress));
+        // Rewards ordered by required progress (compiled once by the EventManager)
+        List<Reward> sortedRewards = eventManager.getSortedRewards();
 
         // Map each reward to its desired REWARD_SLOTS index
         Map<Reward, Integer> rewardToSlotIndex = new HashMap<>();
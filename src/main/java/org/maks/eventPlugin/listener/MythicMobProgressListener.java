@@ -7,8 +7,10 @@ import org.bukkit.entity.Projectile;
 import org.bukkit.entity.Tameable;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.maks.eventPlugin.eventsystem.BuffManager;
+import org.maks.eventPlugin.eventsystem.AnomalyMonitor;
+import org.maks.eventPlugin.eventsystem.CommunityGoals;
 import org.maks.eventPlugin.eventsystem.EventManager;
+import org.maks.eventPlugin.eventsystem.ProgressModifiers;
 
 import java.util.Map;
 
@@ -19,11 +21,13 @@ import java.util.Map;
  */
 public class MythicMobProgressListener implements Listener {
     private final Map<String, EventManager> events;
-    private final BuffManager buffManager;
+    private final ProgressModifiers progressModifiers;
+    private final CommunityGoals communityGoals;
 
-    public MythicMobProgressListener(Map<String, EventManager> events, BuffManager buffManager) {
+    public MythicMobProgressListener(Map<String, EventManager> events, ProgressModifiers progressModifiers, CommunityGoals communityGoals) {
         this.events = events;
-        this.buffManager = buffManager;
+        this.progressModifiers = progressModifiers;
+        this.communityGoals = communityGoals;
     }
 
     @EventHandler
@@ -43,7 +47,11 @@ public class MythicMobProgressListener implements Listener {
             return;
         }
 
-        double multiplier = buffManager.hasBuff(player) ? 1.5 : 1.0;
+        String mobType = event.getMobType().getInternalName();
+        AnomalyMonitor.recordKill(player);
+        communityGoals.recordKill(mobType);
+
+        double multiplier = progressModifiers.getMultiplier(player);
         for (EventManager manager : events.values()) {
             // +++ POCZĄTEK MODYFIKACJI +++
             // Ignore the full_moon event; it is handled by FullMoonMobListener
@@ -59,7 +67,7 @@ public class MythicMobProgressListener implements Listener {
             manager.checkExpiry();
             if (manager.isActive()) {
                 int amount = manager.getRandomProgress();
-                manager.addProgress(player, amount, multiplier);
+                manager.addProgress(player, amount, multiplier, mobType);
             }
         }
     }
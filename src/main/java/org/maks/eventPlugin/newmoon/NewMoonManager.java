@@ -9,7 +9,12 @@ import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 import org.maks.eventPlugin.config.ConfigManager;
 import org.maks.eventPlugin.db.DatabaseManager;
+import org.maks.eventPlugin.eventsystem.EventChoices;
 import org.maks.eventPlugin.eventsystem.EventManager;
+import org.maks.eventPlugin.eventsystem.KillStats;
+import org.maks.eventPlugin.eventsystem.Notifications;
+import org.maks.eventPlugin.eventsystem.PlayerEventState;
+import org.maks.eventPlugin.eventsystem.PlayerStateManager;
 import org.maks.eventPlugin.fullmoon.integration.PouchHelper;
 import org.maks.eventPlugin.newmoon.map2.Map2InstanceManager;
 import org.maks.eventPlugin.newmoon.map2.Map2MobSpawner;
@@ -41,35 +46,27 @@ public class NewMoonManager {
     private final Map2MobSpawner map2MobSpawner;
     private final LordRespawnHologramManager hologramManager;
 
-    // Track which difficulty each player is currently in (normal or hard)
-    private final Map<UUID, String> playerDifficulty = new HashMap<>();
-
-    // Track which realm each player is currently in (white or black)
-    private final Map<UUID, String> playerRealm = new HashMap<>();
-
-    // Track mob kills for quest progress
-    private final Map<UUID, Map<String, Integer>> playerMobKills = new HashMap<>();
-
-    // Track cauldron buff active players (UUID -> expiration timestamp)
-    private final Map<UUID, Long> activeCauldronBuffs = new HashMap<>();
-
-    // Track boss bars for cauldron buff timer (UUID -> BossBar)
-    private final Map<UUID, BossBar> cauldronBuffBossBars = new HashMap<>();
-
-    // Track boss bar update tasks (UUID -> BukkitTask)
-    private final Map<UUID, BukkitTask> bossBarTasks = new HashMap<>();
+    // Difficulty, realm, kill counts and the cauldron buff live in the player's session state
+    private final PlayerStateManager playerStates;
+    private final KillStats killStats;
 
     // Track lord respawn count for each instance (instance key -> respawn count 0-3)
     private final Map<String, Integer> lordRespawnCounts = new HashMap<>();
 
-    public NewMoonManager(JavaPlugin plugin, DatabaseManager database, ConfigManager config, EventManager eventManager) {
+    // Live Lord entities (entity UUID -> display name), filled on spawn
+    private final Map<UUID, String> lordEntities = new HashMap<>();
+
+    public NewMoonManager(JavaPlugin plugin, DatabaseManager database, ConfigManager config, EventManager eventManager,
+                          PlayerStateManager playerStates, KillStats killStats) {
         this.plugin = plugin;
+        this.playerStates = playerStates;
+        this.killStats = killStats;
         this.database = database;
         this.config = config;
         this.eventManager = eventManager;
         this.questManager = new NewMoonQuestManager(database, config);
         this.hologramManager = new LordRespawnHologramManager();
-        this.map2InstanceManager = new Map2InstanceManager(plugin, config, hologramManager);
+        this.map2InstanceManager = new Map2InstanceManager(plugin, config, hologramManager, this::isEventActive);
         this.map2MobSpawner = new Map2MobSpawner(config);
     }
 
@@ -85,6 +82,10 @@ public class NewMoonManager {
         return config;
     }
 
+    public PlayerStateManager getPlayerStates() {
+        return playerStates;
+    }
+
     public Map2InstanceManager getMap2InstanceManager() {
         return map2InstanceManager;
     }
@@ -108,17 +109,14 @@ public class NewMoonManager {
      * Stop the New Moon event and cleanup.
      */
     public void stopEvent() {
-        // Clear player tracking
-        playerDifficulty.clear();
-        playerRealm.clear();
-        playerMobKills.clear();
-        activeCauldronBuffs.clear();
-        lordRespawnCounts.clear();
-
-        // Remove all boss bars
-        for (UUID playerId : cauldronBuffBossBars.keySet()) {
-            removeCauldronBuffBossBar(playerId);
+        // Clear player tracking (also removes cauldron boss bars)
+        for (PlayerEventState state : playerStates.all()) {
+            state.resetNewMoon();
         }
+        playerStates.resetChoices(EventChoices::resetNewMoon);
+        killStats.resetEdition(eventManager.getEventId());
+        lordRespawnCounts.clear();
+        lordEntities.clear();
 
         // Cleanup all Map2 instances
         map2InstanceManager.cleanupAll();
@@ -140,7 +138,10 @@ public class NewMoonManager {
      */
     public void setPlayerDifficulty(UUID playerId, String difficulty) {
         if (difficulty.equalsIgnoreCase("normal") || difficulty.equalsIgnoreCase("hard")) {
-            playerDifficulty.put(playerId, difficulty.toLowerCase());
+            PlayerEventState state = playerStates.get(playerId);
+            if (state != null) {
+                state.setNewMoonDifficulty(difficulty.toLowerCase());
+            }
         }
     }
 
@@ -148,7 +149,8 @@ public class NewMoonManager {
      * Get the current difficulty for a player.
      */
     public String getPlayerDifficulty(UUID playerId) {
-        return playerDifficulty.getOrDefault(playerId, "normal");
+        EventChoices choices = playerStates.findChoices(playerId);
+        return choices != null ? choices.getNewMoonDifficulty() : "normal";
     }
 
     /**
@@ -165,7 +167,10 @@ public class NewMoonManager {
      */
     public void setPlayerRealm(UUID playerId, String realm) {
         if (realm.equalsIgnoreCase("white") || realm.equalsIgnoreCase("black")) {
-            playerRealm.put(playerId, realm.toLowerCase());
+            PlayerEventState state = playerStates.get(playerId);
+            if (state != null) {
+                state.setNewMoonRealm(realm.toLowerCase());
+            }
         }
     }
 
@@ -173,7 +178,8 @@ public class NewMoonManager {
      * Get the current realm for a player.
      */
     public String getPlayerRealm(UUID playerId) {
-        return playerRealm.getOrDefault(playerId, "white");
+        EventChoices choices = playerStates.findChoices(playerId);
+        return choices != null ? choices.getNewMoonRealm() : "white";
     }
 
     // ==================== REQUIREMENTS ====================
@@ -295,9 +301,10 @@ public class NewMoonManager {
      * @param mobType The MythicMobs internal name
      * @param isHard Whether this was a hard mode kill
      * @param progressAmount Base progress amount for event
-     * @param buffMultiplier The buff multiplier (e.g., 1.0 for none, 1.5 for Attrie)
+     * @param multiplier Combined progress multiplier from {@link org.maks.eventPlugin.eventsystem.ProgressModifiers}
+     *                   (Attrie, weekend, party and hard mode)
      */
-    public void handleMobKill(Player player, String mobType, boolean isHard, int progressAmount, double buffMultiplier) {
+    public void handleMobKill(Player player, String mobType, boolean isHard, int progressAmount, double multiplier) {
         UUID playerId = player.getUniqueId();
 
         // Strip _normal or _hard suffix for quest matching
@@ -311,18 +318,15 @@ public class NewMoonManager {
         // Update quest progress
         boolean questCompleted = questManager.addQuestProgress(playerId, baseMobType, 1, isHard);
         if (questCompleted) {
-            player.sendMessage("§a§l[New Moon] §aQuest completed!");
-            player.sendTitle("§aQuest Complete!", "", 10, 40, 10);
+            Notifications.important(player, "§a§l[New Moon] §aQuest completed!");
+            Notifications.title(player, "§aQuest Complete!", "", 10, 40, 10, Notifications.Priority.IMPORTANT);
         }
 
-        // Update event progress (with 2x multiplier for hard mode AND buff multiplier)
-        double hardMultiplier = isHard ? 2.0 : 1.0;
-        double totalMultiplier = hardMultiplier * buffMultiplier;
-        eventManager.addProgress(player, progressAmount, totalMultiplier);
+        // Update event progress (multiplier already includes hard mode and buffs)
+        eventManager.addProgress(player, progressAmount, multiplier, mobType);
 
         // Track kill count
-        Map<String, Integer> kills = playerMobKills.computeIfAbsent(playerId, k -> new HashMap<>());
-        kills.put(baseMobType, kills.getOrDefault(baseMobType, 0) + 1);
+        killStats.recordKill(playerId, eventManager.getEventId(), baseMobType);
     }
 
     /**
@@ -340,8 +344,8 @@ public class NewMoonManager {
 
         boolean questCompleted = questManager.addQuestProgress(playerId, progressType, amount, isHard);
         if (questCompleted) {
-            player.sendMessage("§a§l[New Moon] §aQuest completed!");
-            player.sendTitle("§aQuest Complete!", "", 10, 40, 10);
+            Notifications.important(player, "§a§l[New Moon] §aQuest completed!");
+            Notifications.title(player, "§aQuest Complete!", "", 10, 40, 10, Notifications.Priority.IMPORTANT);
         }
     }
     /**
@@ -373,23 +377,23 @@ public class NewMoonManager {
             int newProgress = Math.min(currentProgress + amount, quest.requiredKills());
 
             // Send feedback message with quest name and progress
-            player.sendMessage("§a§l[New Moon] §a" + quest.description() + ": §f" + newProgress + "/" + quest.requiredKills());
+            Notifications.chat(player, "newmoon_quest_" + quest.id(),
+                    "§a§l[New Moon] §a" + quest.description() + ": §f" + newProgress + "/" + quest.requiredKills(),
+                    Notifications.Priority.NORMAL);
         }
 
         // Now actually add the progress
         boolean questCompleted = questManager.addQuestProgress(playerId, progressType, amount, isHard);
         if (questCompleted) {
-            player.sendMessage("§a§l[New Moon] §aQuest completed!");
-            player.sendTitle("§aQuest Complete!", "", 10, 40, 10);
+            Notifications.important(player, "§a§l[New Moon] §aQuest completed!");
+            Notifications.title(player, "§aQuest Complete!", "", 10, 40, 10, Notifications.Priority.IMPORTANT);
         }
     }
     /**
-     * Get total kills of a mob type for a player.
+     * Get kills of a mob type for a player in the current edition.
      */
     public int getPlayerKills(UUID playerId, String mobType) {
-        Map<String, Integer> kills = playerMobKills.get(playerId);
-        if (kills == null) return 0;
-        return kills.getOrDefault(mobType, 0);
+        return killStats.getKills(playerId, eventManager.getEventId(), mobType, false);
     }
 
     // ==================== CAULDRON BUFF SYSTEM ====================
@@ -423,7 +427,7 @@ public class NewMoonManager {
 
         // Activate buff for 1 minute (60 seconds = 60000 ms)
         long expirationTime = System.currentTimeMillis() + 60000;
-        activeCauldronBuffs.put(player.getUniqueId(), expirationTime);
+        playerStates.get(player).setCauldronBuffExpiry(expirationTime);
 
         player.sendMessage("§a§l[New Moon] §aYou can now damage the Lord for 1 minute!");
         player.sendTitle("§6§lLord's Weakness Active!", "§e1 minute remaining", 10, 40, 10);
@@ -439,9 +443,10 @@ public class NewMoonManager {
      */
     private void createCauldronBuffBossBar(Player player) {
         UUID playerId = player.getUniqueId();
+        PlayerEventState state = playerStates.get(player);
 
         // Remove existing boss bar if any
-        removeCauldronBuffBossBar(playerId);
+        state.clearCauldronBossBar();
 
         // Create new boss bar
         BossBar bossBar = Bukkit.createBossBar(
@@ -451,7 +456,6 @@ public class NewMoonManager {
         );
         bossBar.addPlayer(player);
         bossBar.setProgress(1.0);
-        cauldronBuffBossBars.put(playerId, bossBar);
 
         // Create repeating task to update boss bar every second
         BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
@@ -459,7 +463,7 @@ public class NewMoonManager {
 
             if (remaining <= 0) {
                 // Buff expired - remove boss bar
-                removeCauldronBuffBossBar(playerId);
+                state.clearCauldronBossBar();
                 Player p = Bukkit.getPlayer(playerId);
                 if (p != null && p.isOnline()) {
                     p.sendMessage("§c§l[New Moon] §cLord's Weakness has expired!");
@@ -481,24 +485,7 @@ public class NewMoonManager {
             }
         }, 0L, 20L); // Run every second (20 ticks)
 
-        bossBarTasks.put(playerId, task);
-    }
-
-    /**
-     * Remove cauldron buff boss bar for a player.
-     */
-    private void removeCauldronBuffBossBar(UUID playerId) {
-        // Cancel task
-        BukkitTask task = bossBarTasks.remove(playerId);
-        if (task != null) {
-            task.cancel();
-        }
-
-        // Remove boss bar
-        BossBar bossBar = cauldronBuffBossBars.remove(playerId);
-        if (bossBar != null) {
-            bossBar.removeAll();
-        }
+        state.setCauldronBossBar(bossBar, task);
     }
 
     /**
@@ -506,8 +493,11 @@ public class NewMoonManager {
      * Public method for use by listeners.
      */
     public void clearPlayerBuffData(UUID playerId) {
-        removeCauldronBuffBossBar(playerId);
-        activeCauldronBuffs.remove(playerId);
+        PlayerEventState state = playerStates.find(playerId);
+        if (state != null) {
+            state.clearCauldronBossBar();
+            state.setCauldronBuffExpiry(0L);
+        }
     }
 
     /**
@@ -518,25 +508,25 @@ public class NewMoonManager {
      * @return True if player has active buff
      */
     public boolean hasCauldronBuff(UUID playerId) {
-        Long expirationTime = activeCauldronBuffs.get(playerId);
-        if (expirationTime == null) {
-            return false;
-        }
-
-        // Check if expired
-        if (System.currentTimeMillis() > expirationTime) {
-            activeCauldronBuffs.remove(playerId);
-            return false;
-        }
+        PlayerEventState state = playerStates.find(playerId);
+        return state != null && hasCauldronBuff(state);
+    }
 
-        return true;
+    /**
+     * Check if a player has active cauldron buff, using an already resolved session state.
+     */
+    public boolean hasCauldronBuff(PlayerEventState state) {
+        return System.currentTimeMillis() <= state.getCauldronBuffExpiry();
     }
 
     /**
      * Remove cauldron buff from a player.
      */
     public void removeCauldronBuff(UUID playerId) {
-        activeCauldronBuffs.remove(playerId);
+        PlayerEventState state = playerStates.find(playerId);
+        if (state != null) {
+            state.setCauldronBuffExpiry(0L);
+        }
     }
 
     /**
@@ -544,20 +534,54 @@ public class NewMoonManager {
      * Returns 0 if no active buff.
      */
     public int getCauldronBuffRemainingSeconds(UUID playerId) {
-        Long expirationTime = activeCauldronBuffs.get(playerId);
-        if (expirationTime == null) {
+        PlayerEventState state = playerStates.find(playerId);
+        if (state == null) {
             return 0;
         }
 
-        long remaining = expirationTime - System.currentTimeMillis();
+        long remaining = state.getCauldronBuffExpiry() - System.currentTimeMillis();
         if (remaining <= 0) {
-            activeCauldronBuffs.remove(playerId);
             return 0;
         }
 
         return (int) (remaining / 1000);
     }
 
+    // ==================== LORD TRACKING ====================
+
+    /**
+     * Get the display name of a Lord from its MythicMob internal name, or null if it is not a Lord.
+     */
+    public String getLordName(String mobType) {
+        return switch (mobType.toLowerCase()) {
+            case "lord_silvanus_normal", "lord_silvanus_hard" -> "Lord Silvanus";
+            case "lord_malachai_normal", "lord_malachai_hard" -> "Lord Malachai";
+            default -> null;
+        };
+    }
+
+    /**
+     * Register a spawned (or chunk-loaded) Lord so damage checks can identify it
+     * without a MythicMobs lookup. Entries are dropped on death or despawn (and
+     * when the event stops), not when the Lord's chunk unloads.
+     */
+    public void registerLord(UUID entityId, String lordName) {
+        lordEntities.put(entityId, lordName);
+    }
+
+    public void unregisterLord(UUID entityId) {
+        lordEntities.remove(entityId);
+    }
+
+    /**
+     * Get the display name of a live Lord entity, or null if the entity is not a Lord.
+     * Lords loaded with their chunk (or kept across a reload) are registered through
+     * {@link org.maks.eventPlugin.eventsystem.MythicMobLoads}, so a miss means "not a Lord".
+     */
+    public String getLiveLordName(UUID entityId) {
+        return lordEntities.get(entityId);
+    }
+
     // ==================== LORD RESPAWN SYSTEM ====================
 
     /**
@@ -650,10 +674,12 @@ public class NewMoonManager {
      */
     public void resetPlayerData(UUID playerId) {
         // Clear in-memory data
-        playerDifficulty.remove(playerId);
-        playerRealm.remove(playerId);
-        playerMobKills.remove(playerId);
-        activeCauldronBuffs.remove(playerId);
+        PlayerEventState state = playerStates.find(playerId);
+        if (state != null) {
+            state.resetNewMoon();
+        }
+        playerStates.resetChoices(playerId, EventChoices::resetNewMoon);
+        killStats.resetEdition(playerId, eventManager.getEventId());
 
         // Clear quest progress from database
         questManager.resetPlayerQuests(playerId);
@@ -668,10 +694,11 @@ public class NewMoonManager {
      */
     public void resetAllData() {
         // Clear all in-memory data
-        playerDifficulty.clear();
-        playerRealm.clear();
-        playerMobKills.clear();
-        activeCauldronBuffs.clear();
+        for (PlayerEventState state : playerStates.all()) {
+            state.resetNewMoon();
+        }
+        playerStates.resetChoices(EventChoices::resetNewMoon);
+        killStats.resetEdition(eventManager.getEventId());
         lordRespawnCounts.clear();
 
         // Reset all quest data in database
@@ -3,6 +3,7 @@ package org.maks.eventPlugin.newmoon;
 import org.bukkit.inventory.ItemStack;
 import org.maks.eventPlugin.config.ConfigManager;
 import org.maks.eventPlugin.db.DatabaseManager;
+import org.maks.eventPlugin.eventsystem.AuditLog;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -219,6 +220,7 @@ public class NewMoonQuestManager {
         Set<Integer> accepted = acceptedQuests.computeIfAbsent(playerId, k -> new HashSet<>());
         accepted.add(questId);
         saveAcceptance(playerId, questId);
+        AuditLog.quest(playerId, eventId, questId, "accepted");
         return true;
     }
 
@@ -249,6 +251,7 @@ public class NewMoonQuestManager {
         Set<Integer> claimed = claimedRewards.computeIfAbsent(playerId, k -> new HashSet<>());
         claimed.add(questId);
         saveClaim(playerId, questId);
+        AuditLog.quest(playerId, eventId, questId, "claimed");
         return true;
     }
 
@@ -325,6 +328,7 @@ public class NewMoonQuestManager {
         Set<Integer> completed = completedQuests.computeIfAbsent(playerId, k -> new HashSet<>());
         completed.add(questId);
         saveCompletion(playerId, questId);
+        AuditLog.quest(playerId, eventId, questId, "completed");
     }
 
     /**
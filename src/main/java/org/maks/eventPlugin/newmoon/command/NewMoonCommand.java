@@ -4,6 +4,7 @@ import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.maks.eventPlugin.eventsystem.AuditLog;
 import org.maks.eventPlugin.newmoon.NewMoonManager;
 import org.maks.eventPlugin.newmoon.gui.Map1SelectionGUI;
 import org.maks.eventPlugin.newmoon.gui.AdminQuestRewardEditorGUI;
@@ -106,6 +107,7 @@ public class NewMoonCommand implements CommandExecutor {
             }
             case "reset" -> {
                 newMoonManager.resetAllData();
+                AuditLog.admin(player.getName(), "new_moon", "reset all data");
                 player.sendMessage("§a§l[New Moon Admin] §aAll New Moon data has been reset!");
             }
             case "resetplayer" -> {
@@ -121,6 +123,7 @@ public class NewMoonCommand implements CommandExecutor {
                 }
 
                 newMoonManager.resetPlayerData(target.getUniqueId());
+                AuditLog.admin(player.getName(), "new_moon", "reset data of " + target.getName() + " (" + target.getUniqueId() + ")");
                 player.sendMessage("§a§l[New Moon Admin] §aReset data for player: " + target.getName());
             }
             default -> {
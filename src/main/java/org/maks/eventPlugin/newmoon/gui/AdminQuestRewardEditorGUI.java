@@ -15,6 +15,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.maks.eventPlugin.newmoon.NewMoonQuest;
 import org.maks.eventPlugin.newmoon.NewMoonQuestManager;
+import org.maks.eventPlugin.eventsystem.AuditLog;
 
 import java.util.*;
 
@@ -277,6 +278,7 @@ public class AdminQuestRewardEditorGUI implements Listener {
             }
         }
 
+        AuditLog.admin(player.getName(), "new_moon", "saved " + savedCount + " rewards for quest " + session.selectedQuestId);
         player.sendMessage(ChatColor.GREEN + "Saved " + savedCount + " rewards for Quest " + session.selectedQuestId);
         plugin.getLogger().info("[New Moon AdminQuestRewardGUI] Saved " + savedCount + " rewards for quest " + session.selectedQuestId);
     }
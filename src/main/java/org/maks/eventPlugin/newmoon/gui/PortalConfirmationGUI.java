@@ -13,6 +13,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.maks.eventPlugin.fullmoon.integration.PouchHelper;
 import org.maks.eventPlugin.newmoon.NewMoonManager;
+import org.maks.eventPlugin.newmoon.map2.Map2Instance;
 
 import java.util.*;
 
@@ -231,56 +232,13 @@ public class PortalConfirmationGUI implements Listener {
 
             player.closeInventory();
 
-            // Create Map2 instance asynchronously to avoid blocking
+            // Create the Map2 instance on the main thread: a pooled realm is handed out at
+            // once, otherwise the realm is pasted in slices and entered when it is done
             boolean isHard = entry.difficulty.equals("hard");
             String realmType = entry.realm; // "white" or "black"
 
-            Bukkit.getScheduler().runTaskAsynchronously(
-                    Bukkit.getPluginManager().getPlugin("EventPlugin"),
-                    () -> {
-                        var instance = newMoonManager.getMap2InstanceManager().createInstance(player, isHard, realmType);
-
-                        if (instance == null) {
-                            player.sendMessage("§c§l[New Moon] §cFailed to create realm instance! (Perhaps no free slots)");
-                            // Refund items
-                            PouchHelper.addItem(player, "new_moon_parchment", 1);
-                            if (isHard) {
-                                PouchHelper.addItem(player, "ips", 30);
-                            }
-                            return;
-                        }
-
-                        // Teleport player to instance on main thread
-                        Bukkit.getScheduler().runTask(
-                                Bukkit.getPluginManager().getPlugin("EventPlugin"),
-                                () -> {
-                                    Location spawnLoc = instance.getPlayerSpawnLocation();
-
-                                    if (spawnLoc == null) {
-                                        player.sendMessage("§c§l[New Moon] §cCRITICAL ERROR: No player spawn block found in schematic!");
-                                        // Cleanup instance and refund
-                                        newMoonManager.getMap2InstanceManager().removeInstance(player.getUniqueId());
-                                        PouchHelper.addItem(player, "new_moon_parchment", 1);
-                                        if (isHard) {
-                                            PouchHelper.addItem(player, "ips", 30);
-                                        }
-                                        return;
-                                    }
-
-                                    player.teleport(spawnLoc);
-                                    player.sendMessage("§a§l[New Moon] §aWelcome to the " +
-                                            (realmType.equals("white") ? "§f§lWhite" : "§5§lBlack") + " Realm§a!");
-                                    player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
-
-                                    // Spawn mobs and mini-bosses from markers
-                                    newMoonManager.getMap2MobSpawner().initializeMobSpawning(instance, player);
-
-                                    // Create holograms for lord respawn blocks
-                                    newMoonManager.getHologramManager().createHolograms(instance);
-                                }
-                        );
-                    }
-            );
+            newMoonManager.getMap2InstanceManager().createInstance(player, isHard, realmType)
+                    .thenAccept(instance -> enterRealm(player, instance, isHard, realmType));
 
         } else if (slot == 15) {
             org.bukkit.Bukkit.getLogger().info("[Portal GUI DEBUG] " + player.getName() + " clicked CANCEL button");
@@ -296,6 +254,62 @@ public class PortalConfirmationGUI implements Listener {
         }
     }
 
+    /**
+     * Send the player into their new realm, refunding the entry cost if it could not be created.
+     */
+    private void enterRealm(Player player, Map2Instance instance, boolean isHard, String realmType) {
+        if (instance == null) {
+            if (!player.isOnline()) {
+                return; // Logged out while the realm was pasting; nothing was entered
+            }
+            player.sendMessage("§c§l[New Moon] §cFailed to create realm instance! (Perhaps no free slots)");
+            // Refund items
+            PouchHelper.addItem(player, "new_moon_parchment", 1);
+            if (isHard) {
+                PouchHelper.addItem(player, "ips", 30);
+            }
+            return;
+        }
+
+        Location spawnLoc = instance.getPlayerSpawnLocation();
+
+        if (spawnLoc == null) {
+            player.sendMessage("§c§l[New Moon] §cCRITICAL ERROR: No player spawn block found in schematic!");
+            // Cleanup instance and refund
+            newMoonManager.getMap2InstanceManager().removeInstance(player.getUniqueId());
+            PouchHelper.addItem(player, "new_moon_parchment", 1);
+            if (isHard) {
+                PouchHelper.addItem(player, "ips", 30);
+            }
+            return;
+        }
+
+        // Load the realm's chunks off the main thread, then teleport
+        newMoonManager.getMap2InstanceManager().enterInstance(instance, player, spawnLoc).thenAccept(arrived -> {
+            if (!arrived) {
+                newMoonManager.getMap2InstanceManager().removeInstance(player.getUniqueId());
+                if (player.isOnline()) {
+                    player.sendMessage("§c§l[New Moon] §cFailed to enter the realm!");
+                    PouchHelper.addItem(player, "new_moon_parchment", 1);
+                    if (isHard) {
+                        PouchHelper.addItem(player, "ips", 30);
+                    }
+                }
+                return;
+            }
+
+            player.sendMessage("§a§l[New Moon] §aWelcome to the " +
+                    (realmType.equals("white") ? "§f§lWhite" : "§5§lBlack") + " Realm§a!");
+            player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.2f);
+
+            // Spawn mobs and mini-bosses from markers
+            newMoonManager.getMap2MobSpawner().initializeMobSpawning(instance, player);
+
+            // Create holograms for lord respawn blocks
+            newMoonManager.getHologramManager().createHolograms(instance);
+        });
+    }
+
     @EventHandler
     public void onClose(InventoryCloseEvent event) {
         UUID playerId = event.getPlayer().getUniqueId();
@@ -7,10 +7,9 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.maks.eventPlugin.eventsystem.PlayerEventState;
 import org.maks.eventPlugin.newmoon.NewMoonManager;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -25,7 +24,6 @@ import java.util.UUID;
 public class CauldronListener implements Listener {
 
     private final NewMoonManager newMoonManager;
-    private final Map<UUID, Long> clickCooldowns = new HashMap<>();
     private static final long CLICK_COOLDOWN_MS = 3000; // 3 seconds
 
     public CauldronListener(NewMoonManager newMoonManager) {
@@ -50,23 +48,23 @@ public class CauldronListener implements Listener {
 
         Player player = event.getPlayer();
         UUID playerId = player.getUniqueId();
+        PlayerEventState state = newMoonManager.getPlayerStates().get(player);
 
         // Cancel the event to prevent cauldron interaction
         event.setCancelled(true);
 
         // Check click cooldown to prevent double-click spam
         long now = System.currentTimeMillis();
-        Long lastClick = clickCooldowns.get(playerId);
-        if (lastClick != null && (now - lastClick) < CLICK_COOLDOWN_MS) {
+        if ((now - state.getCauldronClickAt()) < CLICK_COOLDOWN_MS) {
             // Player clicked too recently, silently ignore
             return;
         }
 
         // Set new click cooldown
-        clickCooldowns.put(playerId, now);
+        state.setCauldronClickAt(now);
 
         // Check if player already has active buff
-        if (newMoonManager.hasCauldronBuff(playerId)) {
+        if (newMoonManager.hasCauldronBuff(state)) {
             int remaining = newMoonManager.getCauldronBuffRemainingSeconds(playerId);
             player.sendMessage("§c§l[New Moon] §cYou already have the Lord's Weakness active! (" + remaining + "s remaining)");
             return;
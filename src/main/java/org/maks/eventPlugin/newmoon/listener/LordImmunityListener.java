@@ -1,19 +1,17 @@
 package org.maks.eventPlugin.newmoon.listener;
 
-import io.lumine.mythic.bukkit.MythicBukkit;
-import io.lumine.mythic.core.mobs.ActiveMob;
+import io.lumine.mythic.bukkit.events.MythicMobDeathEvent;
+import io.lumine.mythic.bukkit.events.MythicMobDespawnEvent;
+import io.lumine.mythic.bukkit.events.MythicMobSpawnEvent;
 import org.bukkit.ChatColor;
-import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.maks.eventPlugin.eventsystem.PlayerEventState;
 import org.maks.eventPlugin.newmoon.NewMoonManager;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Handles Lord immunity system for New Moon event.
  *
@@ -27,13 +25,37 @@ public class LordImmunityListener implements Listener {
     private final NewMoonManager newMoonManager;
 
     // Debounce warning messages (only show every 5 seconds)
-    private final Map<UUID, Long> lastWarningTime = new HashMap<>();
     private static final long WARNING_COOLDOWN_MS = 5000;
 
     public LordImmunityListener(NewMoonManager newMoonManager) {
         this.newMoonManager = newMoonManager;
     }
 
+    /**
+     * Register Lords as they spawn so damage checks are a single map lookup.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMythicMobSpawn(MythicMobSpawnEvent event) {
+        if (event.getMobType() == null) {
+            return;
+        }
+
+        String lordName = newMoonManager.getLordName(event.getMobType().getInternalName());
+        if (lordName != null) {
+            newMoonManager.registerLord(event.getEntity().getUniqueId(), lordName);
+        }
+    }
+
+    @EventHandler
+    public void onMythicMobDeath(MythicMobDeathEvent event) {
+        newMoonManager.unregisterLord(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler
+    public void onMythicMobDespawn(MythicMobDespawnEvent event) {
+        newMoonManager.unregisterLord(event.getEntity().getUniqueId());
+    }
+
     @EventHandler
     public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
         // Check if damager is a player
@@ -41,46 +63,23 @@ public class LordImmunityListener implements Listener {
             return;
         }
 
-        // Check if entity is a LivingEntity
-        if (!(event.getEntity() instanceof LivingEntity)) {
+        // Lords are registered on spawn and chunk load, so this is a single map lookup
+        String lordName = newMoonManager.getLiveLordName(event.getEntity().getUniqueId());
+        if (lordName == null) {
             return;
         }
 
         Player player = (Player) event.getDamager();
-        LivingEntity target = (LivingEntity) event.getEntity();
-
-        // Get MythicMob type if this is a MythicMob
-        ActiveMob activeMob = MythicBukkit.inst().getMobManager()
-                .getActiveMob(target.getUniqueId())
-                .orElse(null);
-
-        if (activeMob == null) {
-            return; // Not a MythicMob
-        }
-
-        String mobTypeName = activeMob.getType().getInternalName().toLowerCase();
-
-        // Check if this is a Lord (Silvanus or Malachai)
-        boolean isLordSilvanus = mobTypeName.equals("lord_silvanus_normal") ||
-                                 mobTypeName.equals("lord_silvanus_hard");
-        boolean isLordMalachai = mobTypeName.equals("lord_malachai_normal") ||
-                                 mobTypeName.equals("lord_malachai_hard");
-
-        if (!isLordSilvanus && !isLordMalachai) {
-            return; // Not a Lord, allow damage
-        }
 
         // Check if player has cauldron buff
-        if (!newMoonManager.hasCauldronBuff(player.getUniqueId())) {
+        PlayerEventState state = newMoonManager.getPlayerStates().get(player);
+        if (!newMoonManager.hasCauldronBuff(state)) {
             // Cancel damage - Lord is immune
             event.setCancelled(true);
 
             // Show warning message (with cooldown to prevent spam)
             long now = System.currentTimeMillis();
-            if (!lastWarningTime.containsKey(player.getUniqueId()) ||
-                    now - lastWarningTime.getOrDefault(player.getUniqueId(), 0L) > WARNING_COOLDOWN_MS) {
-
-                String lordName = isLordSilvanus ? "Lord Silvanus" : "Lord Malachai";
+            if (now - state.getLordWarningAt() > WARNING_COOLDOWN_MS) {
                 player.sendMessage("");
                 player.sendMessage(ChatColor.RED + "§l⚔ §c" + lordName + " is protected by ancient magic!");
                 player.sendMessage(ChatColor.GRAY + "   You cannot damage them without the §6Lord's Weakness §7buff!");
@@ -90,16 +89,9 @@ public class LordImmunityListener implements Listener {
                 player.sendMessage(ChatColor.YELLOW + "§l» §eThe buff lasts §660 seconds");
                 player.sendMessage("");
 
-                lastWarningTime.put(player.getUniqueId(), now);
+                state.setLordWarningAt(now);
             }
         }
         // If player has buff, allow damage (don't cancel event)
     }
-
-    /**
-     * Clear warning cooldown for player (e.g., when they leave or event ends)
-     */
-    public void clearPlayerData(UUID playerId) {
-        lastWarningTime.remove(playerId);
-    }
 }
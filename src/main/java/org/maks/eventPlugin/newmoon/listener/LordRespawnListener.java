@@ -9,13 +9,11 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.maks.eventPlugin.eventsystem.PlayerEventState;
 import org.maks.eventPlugin.fullmoon.integration.PouchHelper;
 import org.maks.eventPlugin.newmoon.NewMoonManager;
 import org.maks.eventPlugin.newmoon.map2.Map2Instance;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
 
 /**
  * Handles Lord respawn blocks in Map 2 (White/Black Realms).
@@ -32,7 +30,6 @@ import java.util.UUID;
 public class LordRespawnListener implements Listener {
 
     private final NewMoonManager newMoonManager;
-    private final Map<UUID, Long> clickCooldowns = new HashMap<>();
     private static final long CLICK_COOLDOWN_MS = 3000; // 3 seconds
 
     public LordRespawnListener(NewMoonManager newMoonManager) {
@@ -56,21 +53,20 @@ public class LordRespawnListener implements Listener {
         }
 
         Player player = event.getPlayer();
-        UUID playerId = player.getUniqueId();
 
         // Cancel the event
         event.setCancelled(true);
 
         // Check click cooldown to prevent double-click spam
         long now = System.currentTimeMillis();
-        Long lastClick = clickCooldowns.get(playerId);
-        if (lastClick != null && (now - lastClick) < CLICK_COOLDOWN_MS) {
+        PlayerEventState state = newMoonManager.getPlayerStates().get(player);
+        if ((now - state.getLordRespawnClickAt()) < CLICK_COOLDOWN_MS) {
             // Player clicked too recently, silently ignore
             return;
         }
 
         // Set new click cooldown
-        clickCooldowns.put(playerId, now);
+        state.setLordRespawnClickAt(now);
 
         // Check if player is in a Map2 instance
         Map2Instance instance = newMoonManager.getMap2InstanceManager().getInstance(player.getUniqueId());
@@ -1,6 +1,5 @@
 package org.maks.eventPlugin.newmoon.listener;
 
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -11,7 +10,9 @@ import org.maks.eventPlugin.newmoon.map2.Map2Instance;
 
 /**
  * Listener for Map 2 player events (disconnect, death).
- * Handles cleanup when player leaves or dies in the New Moon Realm instances.
+ * Handles cleanup when a player dies in a New Moon Realm instance and clears
+ * buff data on disconnect; the instance itself is ended on disconnect by
+ * {@link org.maks.eventPlugin.eventsystem.InstanceQuitListener}.
  */
 public class Map2PlayerListener implements Listener {
 
@@ -22,26 +23,12 @@ public class Map2PlayerListener implements Listener {
     }
 
     /**
-     * Handle player disconnect - cleanup their Map 2 instance.
+     * Handle player disconnect - clear their buff data.
      */
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        Player player = event.getPlayer();
-        Map2Instance instance = newMoonManager.getMap2InstanceManager().getInstance(player.getUniqueId());
-
-        if (instance != null) {
-            String realmName = instance.getRealmType().equals("white") ? "White Realm" : "Black Realm";
-            Bukkit.getLogger().info("[New Moon] Player " + player.getName() + " disconnected, cleaning up " + realmName + " instance");
-
-            // Cancel any scheduled cleanup tasks
-            instance.cancelScheduledCleanup();
-
-            // Remove instance immediately
-            newMoonManager.getMap2InstanceManager().removeInstance(player.getUniqueId());
-        }
-
         // Clear player buff data (boss bars, buffs)
-        newMoonManager.clearPlayerBuffData(player.getUniqueId());
+        newMoonManager.clearPlayerBuffData(event.getPlayer().getUniqueId());
     }
 
     /**
@@ -59,17 +46,7 @@ public class Map2PlayerListener implements Listener {
         player.sendMessage("§c§l[New Moon] §cYou have died in the " + realmName + "!");
         player.sendMessage("§7Your instance will be removed shortly...");
 
-        // Cancel any scheduled cleanup tasks
-        instance.cancelScheduledCleanup();
-
-        // Schedule immediate cleanup
-        Bukkit.getScheduler().runTaskLater(
-                Bukkit.getPluginManager().getPlugin("EventPlugin"),
-                () -> {
-                    // Cleanup instance immediately
-                    newMoonManager.getMap2InstanceManager().removeInstance(player.getUniqueId());
-                },
-                5 * 20L  // 5 seconds (time to click respawn)
-        );
+        // Remove the instance shortly, replacing any pending timers
+        newMoonManager.getMap2InstanceManager().drainInstance(instance, 5 * 20L); // 5 seconds (time to click respawn)
     }
 }
@@ -1,10 +1,15 @@
 package org.maks.eventPlugin.newmoon.listener;
 
 import io.lumine.mythic.bukkit.events.MythicMobDeathEvent;
+import io.lumine.mythic.bukkit.events.MythicMobSpawnEvent;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
+import org.maks.eventPlugin.eventsystem.Notifications;
+import org.maks.eventPlugin.eventsystem.ProgressModifiers;
 import org.maks.eventPlugin.newmoon.NewMoonManager;
+import org.maks.eventPlugin.newmoon.map2.Map2Instance;
+import org.maks.eventPlugin.newmoon.map2.Map2InstanceManager;
 
 import java.util.Random;
 
@@ -22,10 +27,28 @@ import java.util.Random;
 public class NewMoonMobListener implements Listener {
 
     private final NewMoonManager newMoonManager;
+    private final ProgressModifiers progressModifiers;
     private final Random random = new Random();
 
-    public NewMoonMobListener(NewMoonManager newMoonManager) {
+    public NewMoonMobListener(NewMoonManager newMoonManager, ProgressModifiers progressModifiers) {
         this.newMoonManager = newMoonManager;
+        this.progressModifiers = progressModifiers;
+    }
+
+    /**
+     * Track mobs spawned inside a realm instance so they can be resolved by UUID.
+     */
+    @EventHandler
+    public void onMythicMobSpawn(MythicMobSpawnEvent event) {
+        if (!newMoonManager.isEventActive()) {
+            return;
+        }
+
+        Map2InstanceManager instanceManager = newMoonManager.getMap2InstanceManager();
+        Map2Instance instance = instanceManager.getInstanceAt(event.getEntity().getLocation());
+        if (instance != null) {
+            instanceManager.trackEntity(instance, event.getEntity().getUniqueId());
+        }
     }
 
     @EventHandler
@@ -34,6 +57,8 @@ public class NewMoonMobListener implements Listener {
             return;
         }
 
+        newMoonManager.getMap2InstanceManager().untrackEntity(event.getEntity().getUniqueId());
+
         // Check if killer is a player
         if (!(event.getKiller() instanceof Player)) {
             return;
@@ -79,12 +104,8 @@ public class NewMoonMobListener implements Listener {
             // 5% chance - continue to give full event progress
         }
 
-        // Check for Attrie buff (from IngredientPouch)
-        // For now we assume no buff, but this can be enhanced later
-        double buffMultiplier = 1.0;
-
         // Handle mob kill - ALWAYS updates quest progress, but event progress depends on droprate
-        newMoonManager.handleMobKill(player, baseMobType, isHard, eventProgressAmount, buffMultiplier);
+        newMoonManager.handleMobKill(player, baseMobType, isHard, eventProgressAmount, getMultiplier(player, isHard));
 
         // Send feedback to player based on mob type
         sendMobKillFeedback(player, baseMobType, isHard);
@@ -109,8 +130,7 @@ public class NewMoonMobListener implements Listener {
     private void handleWalkingWoodDeath(Player player, boolean isHard) {
         // Always give event progress (25 or 35 randomly)
         int eventProgressAmount = getMobProgressAmount("walking_wood", isHard);
-        double buffMultiplier = 1.0;
-        newMoonManager.handleMobKill(player, "walking_wood", isHard, eventProgressAmount, buffMultiplier);
+        newMoonManager.handleMobKill(player, "walking_wood", isHard, eventProgressAmount, getMultiplier(player, isHard));
 
         // 10% chance to get quest progress
         double roll = random.nextDouble();
@@ -150,8 +170,7 @@ public class NewMoonMobListener implements Listener {
         }
 
         // ALWAYS call handleMobKill to track quest 6 (kill count), with or without event progress
-        double buffMultiplier = 1.0;
-        newMoonManager.handleMobKill(player, "nighty_witch", isHard, eventProgressAmount, buffMultiplier);
+        newMoonManager.handleMobKill(player, "nighty_witch", isHard, eventProgressAmount, getMultiplier(player, isHard));
 
         // Then, 15% chance to get non-physical quest progress (for quest 7 - essence)
         double questProgressRoll = random.nextDouble();
@@ -190,7 +209,7 @@ public class NewMoonMobListener implements Listener {
      * Get the progress amount for a mob type.
      * This determines how much event progress the mob gives.
      *
-     * Note: Hard mode multiplier (2x) is applied in NewMoonManager.handleMobKill(),
+     * Note: Hard mode multiplier (2x, progress_modifiers.difficulty) is applied on top of these,
      * so base values here are for normal mode unless otherwise noted.
      *
      * @param baseMobType The base mob type (without _normal/_hard suffix)
@@ -231,6 +250,13 @@ public class NewMoonMobListener implements Listener {
         };
     }
 
+    /**
+     * Combined Attrie / weekend / party / difficulty multiplier for a kill.
+     */
+    private double getMultiplier(Player player, boolean isHard) {
+        return progressModifiers.getMultiplier(player, "new_moon", isHard ? "hard" : "normal");
+    }
+
     /**
      * Send feedback to player when they kill a mob.
      */
@@ -239,22 +265,22 @@ public class NewMoonMobListener implements Listener {
 
         switch (baseMobType) {
             case "patriarch_of_the_lords":
-                player.sendMessage("§6§l[New Moon] §eYou defeated the Patriarch of the Lords!" + difficultyTag);
-                player.sendTitle("§6§lPatriarch Defeated!", "", 10, 40, 10);
+                Notifications.important(player, "§6§l[New Moon] §eYou defeated the Patriarch of the Lords!" + difficultyTag);
+                Notifications.title(player, "§6§lPatriarch Defeated!", "", 10, 40, 10, Notifications.Priority.IMPORTANT);
                 break;
 
             case "lords_guard":
-                player.sendMessage("§6§l[New Moon] §eYou defeated a Lord's Guard!" + difficultyTag);
+                Notifications.chat(player, "§6§l[New Moon] §eYou defeated a Lord's Guard!" + difficultyTag);
                 break;
 
             case "lord_silvanus":
-                player.sendMessage("§f§l[New Moon] §eYou defeated Lord Silvanus, White King!" + difficultyTag);
-                player.sendTitle("§f§l§oLord Silvanus Defeated!", "", 10, 60, 10);
+                Notifications.important(player, "§f§l[New Moon] §eYou defeated Lord Silvanus, White King!" + difficultyTag);
+                Notifications.title(player, "§f§l§oLord Silvanus Defeated!", "", 10, 60, 10, Notifications.Priority.IMPORTANT);
                 break;
 
             case "lord_malachai":
-                player.sendMessage("§0§l[New Moon] §eYou defeated Lord Malachai, Black King!" + difficultyTag);
-                player.sendTitle("§0§l§oLord Malachai Defeated!", "", 10, 60, 10);
+                Notifications.important(player, "§0§l[New Moon] §eYou defeated Lord Malachai, Black King!" + difficultyTag);
+                Notifications.title(player, "§0§l§oLord Malachai Defeated!", "", 10, 60, 10, Notifications.Priority.IMPORTANT);
                 break;
         }
     }
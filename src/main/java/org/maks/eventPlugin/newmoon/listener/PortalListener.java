@@ -6,6 +6,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.maks.eventPlugin.config.ConfigManager;
+import org.maks.eventPlugin.eventsystem.PlayerEventState;
 import org.maks.eventPlugin.newmoon.NewMoonManager;
 import org.maks.eventPlugin.newmoon.gui.PortalConfirmationGUI;
 
@@ -28,8 +29,6 @@ public class PortalListener implements Listener {
     private final NewMoonManager newMoonManager;
     private final ConfigManager config;
     private PortalConfirmationGUI portalGUI;
-    private final Map<UUID, Long> lockedPortalCooldowns = new HashMap<>();
-    private final Map<UUID, Long> guiOpenCooldowns = new HashMap<>(); // Cooldown after opening GUI
 
     private static final long COOLDOWN_MS = 5000; // 5 seconds
     private static final long GUI_OPEN_COOLDOWN_MS = 3000; // 3 seconds cooldown after opening GUI
@@ -50,11 +49,10 @@ public class PortalListener implements Listener {
     /**
      * Check if player can show locked portal message (not on cooldown).
      */
-    private boolean canShowLockedMessage(Player player) {
+    private boolean canShowLockedMessage(PlayerEventState state) {
         long now = System.currentTimeMillis();
-        Long cooldown = lockedPortalCooldowns.get(player.getUniqueId());
-        if (cooldown == null || now >= cooldown) {
-            lockedPortalCooldowns.put(player.getUniqueId(), now + COOLDOWN_MS);
+        if (now >= state.getLockedPortalCooldownUntil()) {
+            state.setLockedPortalCooldownUntil(now + COOLDOWN_MS);
             return true;
         }
         return false;
@@ -64,7 +62,10 @@ public class PortalListener implements Listener {
      * Clear GUI cooldown when player confirms entry (teleports away).
      */
     public void clearGUICooldown(UUID playerId) {
-        guiOpenCooldowns.remove(playerId);
+        PlayerEventState state = newMoonManager.getPlayerStates().find(playerId);
+        if (state != null) {
+            state.setPortalGuiCooldownUntil(0L);
+        }
     }
 
     /**
@@ -72,7 +73,10 @@ public class PortalListener implements Listener {
      * This sets a 5 second cooldown from NOW.
      */
     public void setDeclineCooldown(UUID playerId) {
-        guiOpenCooldowns.put(playerId, System.currentTimeMillis() + COOLDOWN_MS);
+        PlayerEventState state = newMoonManager.getPlayerStates().get(playerId);
+        if (state != null) {
+            state.setPortalGuiCooldownUntil(System.currentTimeMillis() + COOLDOWN_MS);
+        }
     }
 
     @EventHandler
@@ -105,8 +109,8 @@ public class PortalListener implements Listener {
 
         // Check if player is on GUI open cooldown
         long now = System.currentTimeMillis();
-        Long guiCooldown = guiOpenCooldowns.get(playerId);
-        if (guiCooldown != null && now < guiCooldown) {
+        PlayerEventState state = newMoonManager.getPlayerStates().get(player);
+        if (now < state.getPortalGuiCooldownUntil()) {
             return; // Still on cooldown, don't open GUI again
         }
 
@@ -119,7 +123,7 @@ public class PortalListener implements Listener {
 
             // Check if player has unlocked the portal
             if (!checkPortalUnlock(player, portalNow)) {
-                if (canShowLockedMessage(player)) {
+                if (canShowLockedMessage(state)) {
                     player.sendMessage("§c§l[New Moon] §cYou must complete Quest " +
                             (portalNow.realm.equals("white") ? "3" : "8") + " to unlock this portal!");
                 }
@@ -133,14 +137,14 @@ public class PortalListener implements Listener {
             }
 
             // Set cooldown for reopening GUI
-            guiOpenCooldowns.put(playerId, now + GUI_OPEN_COOLDOWN_MS);
+            state.setPortalGuiCooldownUntil(now + GUI_OPEN_COOLDOWN_MS);
 
             // Open confirmation GUI
             try {
                 portalGUI.open(player, portalNow.realm, portalNow.difficulty, to);
             } catch (Exception e) {
                 // If GUI opening fails, clean up cooldown
-                guiOpenCooldowns.remove(playerId);
+                state.setPortalGuiCooldownUntil(0L);
                 player.sendMessage("§c§l[New Moon] §cFailed to open portal GUI! Contact an administrator.");
                 e.printStackTrace();
             }
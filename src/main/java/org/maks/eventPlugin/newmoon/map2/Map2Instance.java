@@ -3,21 +3,18 @@ package org.maks.eventPlugin.newmoon.map2;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
-import com.sk89q.worldedit.world.block.BlockTypes;
-import com.sk89q.worldedit.EditSession;
-import com.sk89q.worldedit.WorldEdit;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
-import org.bukkit.entity.LivingEntity;
-import org.bukkit.entity.Player;
-import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 import org.maks.eventPlugin.config.ConfigManager;
+import org.maks.eventPlugin.fullmoon.map2.BlockJobScheduler;
+import org.maks.eventPlugin.fullmoon.map2.DirtySectionListener;
+import org.maks.eventPlugin.fullmoon.map2.DirtySections;
 import org.maks.eventPlugin.fullmoon.map2.SchematicHandler;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -27,10 +24,16 @@ import java.util.UUID;
 /**
  * Represents a solo New Moon Realm instance for a player.
  * Each instance can be either White Realm (Lord Silvanus) or Black Realm (Lord Malachai).
- * Manages the instance lifecycle, entity tracking, cauldron, lord respawn blocks, and cleanup.
+ * Holds the realm's markers, cauldron, lord respawn blocks and spawned entities,
+ * and clears them on cleanup. States, timers and lookups live in the manager's
+ * {@link org.maks.eventPlugin.eventsystem.InstanceLifecycle}.
  */
 public class Map2Instance {
 
+    // Named markers in the paste result (see SchematicHandler.MarkerConfiguration)
+    public static final String CAULDRON_MARKER = "cauldron";
+    public static final String LORD_RESPAWN_MARKER = "lord_respawn";
+
     private final ConfigManager config;
     private final UUID playerId;
     private final UUID instanceId;
@@ -58,15 +61,11 @@ public class Map2Instance {
     private int lordRespawnCount = 0; // 0 = initial, 1, 2, 3 = respawned
     private boolean completed = false;
 
-    // Lifecycle
-    private BukkitTask cleanupTask;
-    private BukkitTask autoCleanupTimer;
-    private final List<BukkitTask> countdownTasks = new ArrayList<>();
+    // Cleanup
+    private BlockJobScheduler.Job clearJob;
+    private final DirtySections dirtySections;
     private long createdAt;
 
-    // Auto-cleanup after 10 minutes
-    private static final long AUTO_CLEANUP_TIME = 10 * 60 * 20L; // 10 minutes in ticks
-
     /**
      * Create a new New Moon Map2 instance.
      *
@@ -76,10 +75,13 @@ public class Map2Instance {
      * @param pasteResult The result from pasting the schematic
      * @param isHard Whether this is hard mode (true) or normal mode (false)
      * @param realmType The realm type: "white" for White Realm (Silvanus), "black" for Black Realm (Malachai)
+     * @param dirtySections Changed sections of the slot, kept across the instances pasted into it
      */
     public Map2Instance(ConfigManager config, UUID playerId, Location origin,
-                       SchematicHandler.PasteResult pasteResult, boolean isHard, String realmType) {
+                       SchematicHandler.PasteResult pasteResult, boolean isHard, String realmType,
+                       DirtySections dirtySections) {
         this.config = config;
+        this.dirtySections = dirtySections;
         this.playerId = playerId;
         this.instanceId = UUID.randomUUID();
         this.world = origin.getWorld();
@@ -170,14 +172,34 @@ public class Map2Instance {
             playerSpawnLocation = origin.clone().add(offset.x(), offset.y(), offset.z()).add(0.5, 1.0, 0.5);
         }
 
-        // TODO: Add support for CAULDRON and END_PORTAL_FRAME markers in SchematicHandler
-        // For now, these will need to be scanned manually or added to SchematicHandler interface
+        // Cauldron location (first CAULDRON found, center of block + 1 up)
+        List<SchematicHandler.BlockOffset> cauldronOffsets = pasteResult.markerOffsets(CAULDRON_MARKER);
+        if (!cauldronOffsets.isEmpty()) {
+            SchematicHandler.BlockOffset offset = cauldronOffsets.get(0);
+            cauldronLocation = origin.clone().add(offset.x(), offset.y(), offset.z()).add(0.5, 1.0, 0.5);
+        } else {
+            Bukkit.getLogger().warning("[New Moon] No CAULDRON found in instance " + instanceId);
+        }
+
+        // Lord respawn blocks (first 3 END_PORTAL_FRAME found)
+        List<SchematicHandler.BlockOffset> respawnOffsets = pasteResult.markerOffsets(LORD_RESPAWN_MARKER);
+        Location[] respawnLocations = new Location[3];
+        for (int i = 0; i < respawnLocations.length && i < respawnOffsets.size(); i++) {
+            SchematicHandler.BlockOffset offset = respawnOffsets.get(i);
+            respawnLocations[i] = origin.clone().add(offset.x(), offset.y(), offset.z());
+        }
+        if (respawnOffsets.size() < 3) {
+            Bukkit.getLogger().warning("[New Moon] Found only " + respawnOffsets.size() + "/3 END_PORTAL_FRAME blocks in instance " + instanceId);
+        }
+        setLordRespawnLocations(respawnLocations[0], respawnLocations[1], respawnLocations[2]);
 
         config.debug("[New Moon] Markers found: " +
                 mobSpawnLocations.size() + " mobs, " +
                 miniBossSpawnLocations.size() + " mini-bosses, " +
                 (lordSpawnLocation != null ? "1" : "0") + " lord spawn, " +
-                (playerSpawnLocation != null ? "1" : "0") + " player spawn");
+                (playerSpawnLocation != null ? "1" : "0") + " player spawn, " +
+                (cauldronLocation != null ? "1" : "0") + " cauldron, " +
+                Math.min(3, respawnOffsets.size()) + " lord respawn blocks");
     }
 
     public UUID getPlayerId() {
@@ -323,198 +345,79 @@ public class Map2Instance {
     }
 
     /**
-     * Start auto-cleanup timer (10 minutes) with time reminders.
+     * Remove all entities spawned in this instance, then sweep the chunks the
+     * region overlaps for any left over, in slices over the next ticks.
      *
-     * @param onCleanup Callback to execute when timer expires
+     * @param items Whether dropped items in the region are removed as well
+     * @return The sweep job
      */
-    public void startAutoCleanupTimer(Runnable onCleanup) {
-        if (autoCleanupTimer != null) {
-            autoCleanupTimer.cancel();
-        }
-
-        // Clear any existing countdown tasks
-        for (BukkitTask task : countdownTasks) {
-            if (task != null) {
-                task.cancel();
+    public BlockJobScheduler.Job removeEntities(boolean items) {
+        for (UUID entityId : spawnedEntities) {
+            Entity entity = Bukkit.getEntity(entityId);
+            if (entity != null && entity.isValid()) {
+                entity.remove();
             }
         }
-        countdownTasks.clear();
-
-        JavaPlugin plugin = (JavaPlugin) Bukkit.getPluginManager().getPlugin("EventPlugin");
+        spawnedEntities.clear();
 
-        // 5 minutes remaining reminder (after 5 minutes)
-        BukkitTask reminder5min = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player != null && player.isOnline()) {
-                player.sendMessage("§e§l[New Moon] §e⏰ 5 minutes remaining in the realm!");
-                player.sendTitle("§e⏰ 5 Minutes", "§7Time remaining", 10, 40, 10);
-                player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.0f);
-            }
-        }, 5 * 60 * 20L); // 5 minutes in ticks
-        countdownTasks.add(reminder5min);
-
-        // 3 minutes remaining reminder (after 7 minutes)
-        BukkitTask reminder3min = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player != null && player.isOnline()) {
-                player.sendMessage("§6§l[New Moon] §6⏰ 3 minutes remaining in the realm!");
-                player.sendTitle("§6⏰ 3 Minutes", "§7Time remaining", 10, 40, 10);
-                player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.2f);
-            }
-        }, 7 * 60 * 20L); // 7 minutes in ticks
-        countdownTasks.add(reminder3min);
-
-        // 1 minute remaining reminder (after 9 minutes)
-        BukkitTask reminder1min = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player != null && player.isOnline()) {
-                player.sendMessage("§c§l[New Moon] §c⏰ 1 MINUTE remaining in the realm!");
-                player.sendTitle("§c⏰ 1 MINUTE", "§7Hurry up!", 10, 60, 10);
-                player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.5f);
-            }
-        }, 9 * 60 * 20L); // 9 minutes in ticks
-        countdownTasks.add(reminder1min);
-
-        // 10 seconds remaining reminder (after 9 minutes 50 seconds)
-        BukkitTask reminder10sec = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player != null && player.isOnline()) {
-                player.sendMessage("§4§l[New Moon] §4⏰ 10 SECONDS LEFT!");
-                player.sendTitle("§4⏰ 10 SECONDS", "§c§lGET OUT NOW!", 5, 40, 5);
-                player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 2.0f);
-            }
-        }, (9 * 60 + 50) * 20L); // 9 minutes 50 seconds in ticks
-        countdownTasks.add(reminder10sec);
-
-        // Final cleanup after 10 minutes - teleport player to spawn and clean up instance
-        autoCleanupTimer = Bukkit.getScheduler().runTaskLater(
-                plugin,
-                () -> {
-                    Player player = Bukkit.getPlayer(playerId);
-                    if (player != null && player.isOnline()) {
-                        player.sendMessage("§c§l[New Moon] §cTime's up! Returning to spawn...");
-                        player.sendTitle("§c§lTIME'S UP!", "§7Teleporting to spawn...", 10, 60, 20);
-                        Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "spawn " + player.getName());
-                    }
-                    onCleanup.run();
-                },
-                AUTO_CLEANUP_TIME
-        );
-
-        config.debug("[New Moon] Auto-cleanup timer (10 minutes) started with reminders for " + realmType + " realm instance " + instanceId);
+        // Also remove any remaining entities in the region
+        return BlockJobScheduler.removeEntities(world, region.getMinimumPoint(), region.getMaximumPoint(), items);
     }
 
     /**
-     * Schedule cleanup task after completion.
+     * Clear all blocks in this instance (set to AIR), in slices over the next ticks.
+     * Calling it again while the clear is still running returns the same job.
      */
-    public void scheduleCleanup(long delaySeconds, Runnable onCleanup) {
-        if (cleanupTask != null) {
-            cleanupTask.cancel();
-        }
-
-        // Cancel auto-cleanup timer
-        if (autoCleanupTimer != null) {
-            autoCleanupTimer.cancel();
-            autoCleanupTimer = null;
+    public BlockJobScheduler.Job clearBlocks() {
+        if (clearJob == null || clearJob.isCancelled()) {
+            clearJob = BlockJobScheduler.clear(world, region.getMinimumPoint(), region.getMaximumPoint());
         }
-
-        cleanupTask = Bukkit.getScheduler().runTaskLater(
-                Bukkit.getPluginManager().getPlugin("EventPlugin"),
-                onCleanup,
-                delaySeconds * 20L
-        );
+        return clearJob;
     }
 
     /**
-     * Cancel any scheduled cleanup tasks.
+     * Chunk sections of the slot changed since its last paste or reset (see {@link DirtySectionListener}).
      */
-    public void cancelScheduledCleanup() {
-        if (cleanupTask != null) {
-            cleanupTask.cancel();
-            cleanupTask = null;
-        }
-
-        if (autoCleanupTimer != null) {
-            autoCleanupTimer.cancel();
-            autoCleanupTimer = null;
-        }
-
-        for (BukkitTask task : countdownTasks) {
-            if (task != null) {
-                task.cancel();
-            }
-        }
-        countdownTasks.clear();
-
-        config.debug("[New Moon] Cancelled scheduled cleanup for " + realmType + " realm instance " + instanceId);
+    public DirtySections getDirtySections() {
+        return dirtySections;
     }
 
     /**
-     * Add a countdown task to be tracked.
+     * Whether the blocks of this instance were (or are being) cleared.
      */
-    public void addCountdownTask(BukkitTask task) {
-        countdownTasks.add(task);
+    public boolean isBlocksCleared() {
+        return clearJob != null && !clearJob.isCancelled();
     }
 
     /**
-     * Remove all entities spawned in this instance.
-     */
-    public void removeEntities() {
-        for (UUID entityId : spawnedEntities) {
-            Entity entity = Bukkit.getEntity(entityId);
-            if (entity != null && entity.isValid()) {
-                entity.remove();
-            }
-        }
-        spawnedEntities.clear();
-
-        // Also remove any remaining entities in the region
-        for (LivingEntity entity : world.getLivingEntities()) {
-            if (entity instanceof Player) continue;
-
-            Location loc = entity.getLocation();
-            if (region.contains(BlockVector3.at(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()))) {
-                entity.remove();
-            }
-        }
-    }
-
-    /**
-     * Clear all blocks in this instance (set to AIR).
+     * Reset the instance for reuse: remove entities and dropped items and restore
+     * only the chunk sections changed since the paste.
+     *
+     * @param schematicHandler The schematic handler
+     * @param schematicFile The schematic this instance was pasted from
+     * @return The restore job; the region matches a fresh paste once it is done
+     * @throws Exception if the schematic cannot be read
      */
-    public void clearBlocks() {
-        try (EditSession session = WorldEdit.getInstance()
-                .newEditSessionBuilder()
-                .world(BukkitAdapter.adapt(world))
-                .build()) {
-
-            for (BlockVector3 vec : region) {
-                session.setBlock(vec, BlockTypes.AIR.getDefaultState());
-            }
+    public BlockJobScheduler.Job reset(SchematicHandler schematicHandler, File schematicFile) throws Exception {
+        removeEntities(true);
 
-        } catch (Exception e) {
-            Bukkit.getLogger().warning("[New Moon] Failed to clear instance blocks: " + e.getMessage());
-        }
+        BlockJobScheduler.Job job = schematicHandler.restoreSections(schematicFile, world, origin, dirtySections.getSections());
+        config.debug("[New Moon] " + realmType + " realm instance " + instanceId + " reset, restoring " + dirtySections.size() + " changed sections");
+        dirtySections.clear();
+        return job;
     }
 
     /**
-     * Full cleanup: remove entities, clear blocks, cancel tasks.
+     * Full cleanup: remove entities and clear blocks.
+     *
+     * @return The block clear job; the region is free to reuse once it is done
      */
-    public void cleanup() {
-        if (cleanupTask != null) {
-            cleanupTask.cancel();
-            cleanupTask = null;
-        }
-
-        if (autoCleanupTimer != null) {
-            autoCleanupTimer.cancel();
-            autoCleanupTimer = null;
-        }
-
-        removeEntities();
-        clearBlocks();
+    public BlockJobScheduler.Job cleanup() {
+        removeEntities(false);
+        BlockJobScheduler.Job job = clearBlocks();
 
         config.debug("[New Moon] " + realmType + " realm instance " + instanceId + " cleaned up");
+        return job;
     }
 
     /**
@@ -4,16 +4,24 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.util.Vector;
 import org.maks.eventPlugin.config.ConfigManager;
+import org.maks.eventPlugin.eventsystem.InstanceLifecycle;
+import org.maks.eventPlugin.eventsystem.InstancePool;
+import org.maks.eventPlugin.eventsystem.InstanceState;
+import org.maks.eventPlugin.fullmoon.map2.BlockJobScheduler;
+import org.maks.eventPlugin.fullmoon.map2.DirtySections;
 import org.maks.eventPlugin.fullmoon.map2.SchematicHandler;
+import org.maks.eventPlugin.fullmoon.map2.SchematicSlots;
 import org.maks.eventPlugin.fullmoon.map2.WorldEditSchematicHandler;
 
 import java.io.File;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 
 /**
  * Manages New Moon Realm (Map 2) solo instances.
@@ -25,20 +33,30 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class Map2InstanceManager {
 
+    // Realms expire after 10 minutes, with reminders before that
+    private static final long TIME_LIMIT_TICKS = 10 * 60 * 20L;
+
     private final JavaPlugin plugin;
     private final ConfigManager config;
     private final SchematicHandler schematicHandler;
     private final LordRespawnHologramManager hologramManager;
+    private final BooleanSupplier eventActive;
+
+    // Realm states, player/location/entity lookups and timers
+    private final InstanceLifecycle<Map2Instance, PastedSlot> lifecycle;
 
-    // Active instances: Player UUID -> Instance
-    private final Map<UUID, Map2Instance> activeInstances = new ConcurrentHashMap<>();
+    // Pre-pasted realms ready to hand out, keyed by realm type
+    private final InstancePool<InstanceLifecycle.Handle<Map2Instance, PastedSlot>> pool;
 
-    // Occupied coordinate ranges (to prevent overlap)
-    private final Set<CoordinateRange> occupiedRanges = new HashSet<>();
+    // Realm slots in each spawn area
+    private final SchematicSlots whiteSlots;
+    private final SchematicSlots blackSlots;
 
     // Instance spacing and limits from config
     private int spacing = 100;
     private int maxInstancesPerRealm = 4;
+    private int whitePoolSize = 1;
+    private int blackPoolSize = 1;
 
     // White Realm configuration
     private String whiteRealmSchematic = "new_moon_white_realm";
@@ -67,12 +85,45 @@ public class Map2InstanceManager {
     private Material cauldronMarker = Material.CAULDRON;
     private Material lordRespawnMarker = Material.END_PORTAL_FRAME;
 
-    public Map2InstanceManager(JavaPlugin plugin, ConfigManager config, LordRespawnHologramManager hologramManager) {
+    public Map2InstanceManager(JavaPlugin plugin, ConfigManager config, LordRespawnHologramManager hologramManager,
+                               BooleanSupplier eventActive) {
         this.plugin = plugin;
         this.config = config;
         this.schematicHandler = new WorldEditSchematicHandler(config);
         this.hologramManager = hologramManager;
+        this.eventActive = eventActive;
         loadConfig();
+        this.whiteSlots = new SchematicSlots(plugin, schematicHandler, "new_moon_white",
+                whiteMinX, whiteMinY, whiteMinZ, whiteMaxX, whiteMaxZ, spacing);
+        this.blackSlots = new SchematicSlots(plugin, schematicHandler, "new_moon_black",
+                blackMinX, blackMinY, blackMinZ, blackMaxX, blackMaxZ, spacing);
+        precompileSchematics();
+
+        this.lifecycle = new InstanceLifecycle<>(plugin, "New Moon realms", new InstanceLifecycle.Content<Map2Instance, PastedSlot>() {
+            @Override
+            public void clear(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, boolean reuse) {
+                clearSlot(handle, reuse);
+            }
+
+            @Override
+            public void onExpire(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle) {
+                // Time's up - teleport player to spawn before the realm is cleaned up
+                Player player = Bukkit.getPlayer(handle.getPlayerId());
+                if (player != null && player.isOnline()) {
+                    player.sendMessage("§c§l[New Moon] §cTime's up! Returning to spawn...");
+                    player.sendTitle("§c§lTIME'S UP!", "§7Teleporting to spawn...", 10, 60, 20);
+                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "spawn " + player.getName());
+                }
+                config.debug("[New Moon] Instance auto-cleaned after 10 minutes for " + handle.getPlayerId());
+            }
+        });
+        this.pool = new InstancePool<>("New Moon realms", this::fillPool, this::dropSlot);
+        pool.setTarget("white", Math.min(whitePoolSize, maxInstancesPerRealm));
+        pool.setTarget("black", Math.min(blackPoolSize, maxInstancesPerRealm));
+        var poolSection = config.getSection("instance_pool");
+        pool.start(plugin,
+                poolSection != null ? poolSection.getLong("interval_ticks", 100L) : 100L,
+                poolSection != null ? poolSection.getDouble("max_mspt", 40.0) : 40.0);
     }
 
     private void loadConfig() {
@@ -88,6 +139,7 @@ public class Map2InstanceManager {
             whiteRealmSchematic = whiteSection.getString("file_name", "new_moon_white_realm");
             spacing = whiteSection.getInt("spacing", 100);
             maxInstancesPerRealm = whiteSection.getInt("max_instances", 4);
+            whitePoolSize = whiteSection.getInt("pool_size", 1);
 
             var whiteSpawnArea = whiteSection.getConfigurationSection("spawn_area");
             if (whiteSpawnArea != null) {
@@ -104,6 +156,7 @@ public class Map2InstanceManager {
         var blackSection = newMoonSection.getConfigurationSection("black_realm");
         if (blackSection != null) {
             blackRealmSchematic = blackSection.getString("file_name", "new_moon_black_realm");
+            blackPoolSize = blackSection.getInt("pool_size", 1);
 
             var blackSpawnArea = blackSection.getConfigurationSection("spawn_area");
             if (blackSpawnArea != null) {
@@ -155,128 +208,171 @@ public class Map2InstanceManager {
         config.debug("[New Moon] Max instances per realm: " + maxInstancesPerRealm + ", Spacing: " + spacing);
     }
 
+    private File schematicFile(String schematicName) {
+        File schematicFile = new File(plugin.getDataFolder(), "schematics/" + schematicName + ".schem");
+        if (!schematicFile.exists()) {
+            schematicFile = new File(plugin.getDataFolder(), "schematics/" + schematicName + ".schematic");
+        }
+        return schematicFile;
+    }
+
     /**
-     * Create a new Map 2 instance for a player.
+     * Compile the marker sidecars of both realms in the background, so the
+     * first paste does not have to scan the schematics, then set up the realm slots.
+     */
+    private void precompileSchematics() {
+        Map<File, List<Material>> schematics = new LinkedHashMap<>();
+        schematics.put(schematicFile(whiteRealmSchematic), List.of(whiteMobMarker, miniBossMarker, lordMarker,
+                playerSpawnMarker, cauldronMarker, lordRespawnMarker));
+        schematics.put(schematicFile(blackRealmSchematic), List.of(blackMobMarker, miniBossMarker, lordMarker,
+                playerSpawnMarker, cauldronMarker, lordRespawnMarker));
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            for (Map.Entry<File, List<Material>> entry : schematics.entrySet()) {
+                if (!entry.getKey().exists()) continue;
+                try {
+                    schematicHandler.precompile(entry.getKey(), entry.getValue());
+                } catch (Exception e) {
+                    plugin.getLogger().warning("[New Moon] Failed to precompile " + entry.getKey().getName() + ": " + e.getMessage());
+                }
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                World world = Bukkit.getWorld(worldName);
+                if (world != null) {
+                    whiteSlots.prepare(schematicFile(whiteRealmSchematic), world);
+                    blackSlots.prepare(schematicFile(blackRealmSchematic), world);
+                }
+            });
+        });
+    }
+
+    /**
+     * Create a new Map 2 instance for a player. Main thread only (the pool,
+     * slots and block jobs are).
+     *
+     * A pooled realm is handed out at once. On a pool miss the realm is pasted
+     * in slices through the block job budget, and the instance is created once
+     * the paste is done.
      *
      * @param player The player
      * @param isHard Whether this is hard mode
      * @param realmType The realm type: "white" or "black"
-     * @return The created instance, or null if failed
+     * @return Completes on the main thread with the created instance, or null if failed
      */
-    public Map2Instance createInstance(Player player, boolean isHard, String realmType) {
+    public CompletableFuture<Map2Instance> createInstance(Player player, boolean isHard, String realmType) {
         // Check if player already has an active instance
-        if (activeInstances.containsKey(player.getUniqueId())) {
+        Map2Instance existing = lifecycle.get(player.getUniqueId());
+        if (existing != null) {
             player.sendMessage("§c§l[New Moon] §cYou already have an active realm instance!");
-            return activeInstances.get(player.getUniqueId());
+            return CompletableFuture.completedFuture(existing);
         }
 
         // Count instances of this realm type
-        long realmCount = activeInstances.values().stream()
-                .filter(inst -> inst.getRealmType().equals(realmType))
-                .count();
+        long realmCount = countRealm(realmType);
 
         // Check max instances limit for this realm
         if (realmCount >= maxInstancesPerRealm) {
             String realmName = realmType.equals("white") ? "White Realm" : "Black Realm";
             player.sendMessage("§c§l[New Moon] §cAll " + realmName + " slots are currently occupied!");
             player.sendMessage("§7Please try again later. (" + realmCount + "/" + maxInstancesPerRealm + " active)");
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
-        // Get schematic and spawn area based on realm type
+        // Get schematic based on realm type
         String schematicName;
-        int minX, minY, minZ, maxX, maxZ;
         if (realmType.equals("white")) {
             schematicName = whiteRealmSchematic;
-            minX = whiteMinX;
-            minY = whiteMinY;
-            minZ = whiteMinZ;
-            maxX = whiteMaxX;
-            maxZ = whiteMaxZ;
         } else if (realmType.equals("black")) {
             schematicName = blackRealmSchematic;
-            minX = blackMinX;
-            minY = blackMinY;
-            minZ = blackMinZ;
-            maxX = blackMaxX;
-            maxZ = blackMaxZ;
         } else {
             player.sendMessage("§c§l[New Moon] §cInvalid realm type!");
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
-
-        // Load schematic file
-        File schematicFile = new File(plugin.getDataFolder(), "schematics/" + schematicName + ".schem");
-        if (!schematicFile.exists()) {
-            schematicFile = new File(plugin.getDataFolder(), "schematics/" + schematicName + ".schematic");
+        File schematicFile = schematicFile(schematicName);
+
+        // Use a pre-pasted realm if one is ready, otherwise paste one in slices
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = pool.take(realmType);
+        if (handle != null) {
+            // A pooled paste or reset may still be running in slices; finish it before handing it out
+            if (handle.getSlot().pasteJob() != null) {
+                handle.getSlot().pasteJob().finishNow();
+            }
+            config.debug("[New Moon] Instance pool hit (" + realmType + ") for " + player.getName());
+            return CompletableFuture.completedFuture(activate(handle, player, isHard, realmType));
         }
 
         if (!schematicFile.exists()) {
             player.sendMessage("§c§l[New Moon] §cRealm schematic not found!");
             plugin.getLogger().warning("[New Moon] Schematic not found: " + schematicFile.getPath());
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
-        // Get world
         World world = Bukkit.getWorld(worldName);
         if (world == null) {
             player.sendMessage("§c§l[New Moon] §cRealm world not found!");
             plugin.getLogger().warning("[New Moon] World not found: " + worldName);
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
-        // Find free location for the instance
-        Location origin = findFreeLocation(world, minX, minY, minZ, maxX, maxZ);
-        if (origin == null) {
-            player.sendMessage("§c§l[New Moon] §cNo space available for realm instance!");
-            return null;
-        }
-
-        // Paste schematic and get result with marker locations
-        // Scan for realm-specific mob spawn markers (CALCITE for white, COARSE_DIRT for black)
-        Material mobSpawnMarker = realmType.equals("white") ? whiteMobMarker : blackMobMarker;
-
-        SchematicHandler.PasteResult pasteResult;
         try {
-            SchematicHandler.MarkerConfiguration markerConfig = new SchematicHandler.MarkerConfiguration(
-                    mobSpawnMarker,  // Scan for realm-specific mob spawn marker
-                    miniBossMarker,
-                    lordMarker,
-                    playerSpawnMarker
-            );
-
-            pasteResult = schematicHandler.pasteSchematic(schematicFile, world, origin, markerConfig);
+            handle = pasteSlot(realmType, schematicFile, world, true);
         } catch (Exception e) {
             player.sendMessage("§c§l[New Moon] §cFailed to create realm instance!");
             plugin.getLogger().warning("[New Moon] Failed to paste schematic: " + e.getMessage());
             e.printStackTrace();
-            return null;
+            return CompletableFuture.completedFuture(null);
+        }
+        if (handle == null) {
+            player.sendMessage("§c§l[New Moon] §cNo space available for realm instance!");
+            return CompletableFuture.completedFuture(null);
         }
 
-        // Create instance with paste result, difficulty, and realm type
-        Map2Instance instance = new Map2Instance(config, player.getUniqueId(), origin, pasteResult, isHard, realmType);
-
-        // Calculate occupied space using actual region size
-        Vector regionSize = pasteResult.regionSize();
-        CoordinateRange range = new CoordinateRange(
-                instance.getOrigin().getBlockX(),
-                instance.getOrigin().getBlockZ(),
-                instance.getOrigin().getBlockX() + (int) Math.ceil(regionSize.getX()) + spacing,
-                instance.getOrigin().getBlockZ() + (int) Math.ceil(regionSize.getZ()) + spacing
-        );
-        occupiedRanges.add(range);
-
-        // Register instance
-        activeInstances.put(player.getUniqueId(), instance);
-
-        // Scan for special blocks (CAULDRON and END_PORTAL_FRAME) in the instance
-        scanSpecialBlocks(instance);
+        BlockJobScheduler.Job pasteJob = handle.getSlot().pasteJob();
+        if (pasteJob == null) {
+            return CompletableFuture.completedFuture(activate(handle, player, isHard, realmType));
+        }
 
-        // Start auto-cleanup timer (15 minutes)
-        instance.startAutoCleanupTimer(() -> {
-            removeInstance(player.getUniqueId());
-            config.debug("[New Moon] Instance auto-cleaned after 15 minutes for " + player.getName());
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> pasted = handle;
+        CompletableFuture<Map2Instance> result = new CompletableFuture<>();
+        // Registered after readyWhenDone's callback, so the realm is READY by now
+        pasteJob.whenDone(() -> {
+            if (pasteJob.isCancelled()) {
+                result.complete(null);
+            } else if (!player.isOnline() || !eventActive.getAsBoolean()) {
+                // Nobody to hand it to: keep it pooled if there is room
+                if (!eventActive.getAsBoolean() || !pool.offer(realmType, pasted)) {
+                    lifecycle.end(pasted, false);
+                }
+                result.complete(null);
+            } else {
+                result.complete(activate(pasted, player, isHard, realmType));
+            }
         });
+        return result;
+    }
+
+    /**
+     * Hand a ready realm to a player and start its time limit and reminders.
+     *
+     * @return The instance, or null if the realm was no longer ready (it is then cleared)
+     */
+    private Map2Instance activate(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, Player player,
+                                  boolean isHard, String realmType) {
+        // Create instance with paste result, difficulty, and realm type
+        PastedSlot slot = handle.getSlot();
+        Map2Instance instance = new Map2Instance(config, player.getUniqueId(), slot.origin(), slot.pasteResult(), isHard, realmType,
+                slot.dirtySections());
+
+        // Register instance and start its time limit (10 minutes) with reminders
+        com.sk89q.worldedit.math.BlockVector3 min = instance.getRegion().getMinimumPoint();
+        com.sk89q.worldedit.math.BlockVector3 max = instance.getRegion().getMaximumPoint();
+        if (!lifecycle.activate(handle, player.getUniqueId(), instance, instance.getWorld(),
+                min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ(), TIME_LIMIT_TICKS)) {
+            // Not READY (dropped or still pasting): clear it rather than hand out an untracked realm
+            lifecycle.end(handle, false);
+            return null;
+        }
+        scheduleReminders(handle);
 
         String realmName = realmType.equals("white") ? "White Realm" : "Black Realm";
         config.debug("[New Moon] Created " + realmName + " instance for " + player.getName() + " at " + instance.getOrigin());
@@ -284,196 +380,378 @@ public class Map2InstanceManager {
     }
 
     /**
-     * Find a free location for a new instance within the configured spawn area.
-     * Uses a simple grid-based allocation system.
+     * Remind the player of the time left: 5, 3 and 1 minutes and 10 seconds
+     * before the realm expires.
      */
-    private Location findFreeLocation(World world, int minX, int minY, int minZ, int maxX, int maxZ) {
-        // Calculate grid dimensions based on max instances
-        int gridSize = (int) Math.ceil(Math.sqrt(maxInstancesPerRealm));
-
-        // Handle negative Z coordinates
-        int availableX = maxX - minX;
-        int availableZ = Math.abs(maxZ - minZ);
-
-        // Calculate spacing between grid slots
-        int slotSpacingX = availableX / gridSize;
-        int slotSpacingZ = availableZ / gridSize;
-
-        // Try each possible grid slot
-        for (int slotX = 0; slotX < gridSize; slotX++) {
-            for (int slotZ = 0; slotZ < gridSize; slotZ++) {
-                int x = minX + (slotX * slotSpacingX);
-                int z;
-
-                // Ensure Z is calculated correctly
-                if (maxZ < minZ) {
-                    z = minZ - (slotZ * slotSpacingZ);
-                } else {
-                    z = minZ + (slotZ * slotSpacingZ);
-                }
+    private void scheduleReminders(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle) {
+        UUID playerId = handle.getPlayerId();
+
+        // 5 minutes remaining reminder (after 5 minutes)
+        lifecycle.schedule(handle, 5 * 60 * 20L, () -> {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null && player.isOnline()) {
+                player.sendMessage("§e§l[New Moon] §e⏰ 5 minutes remaining in the realm!");
+                player.sendTitle("§e⏰ 5 Minutes", "§7Time remaining", 10, 40, 10);
+                player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.0f);
+            }
+        });
 
-                // Check if this location is already occupied
-                Location testLocation = new Location(world, x, minY, z);
-                boolean occupied = false;
+        // 3 minutes remaining reminder (after 7 minutes)
+        lifecycle.schedule(handle, 7 * 60 * 20L, () -> {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null && player.isOnline()) {
+                player.sendMessage("§6§l[New Moon] §6⏰ 3 minutes remaining in the realm!");
+                player.sendTitle("§6⏰ 3 Minutes", "§7Time remaining", 10, 40, 10);
+                player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.2f);
+            }
+        });
 
-                for (CoordinateRange range : occupiedRanges) {
-                    if (range.contains(x, z)) {
-                        occupied = true;
-                        break;
-                    }
-                }
+        // 1 minute remaining reminder (after 9 minutes)
+        lifecycle.schedule(handle, 9 * 60 * 20L, () -> {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null && player.isOnline()) {
+                player.sendMessage("§c§l[New Moon] §c⏰ 1 MINUTE remaining in the realm!");
+                player.sendTitle("§c⏰ 1 MINUTE", "§7Hurry up!", 10, 60, 10);
+                player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.5f);
+            }
+        });
 
-                if (!occupied) {
-                    return testLocation;
-                }
+        // 10 seconds remaining reminder (after 9 minutes 50 seconds)
+        lifecycle.schedule(handle, (9 * 60 + 50) * 20L, () -> {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null && player.isOnline()) {
+                player.sendMessage("§4§l[New Moon] §4⏰ 10 SECONDS LEFT!");
+                player.sendTitle("§4⏰ 10 SECONDS", "§c§lGET OUT NOW!", 5, 40, 5);
+                player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 2.0f);
             }
+        });
+    }
+
+    /**
+     * Instances of a realm type in play.
+     */
+    private long countRealm(String realmType) {
+        return lifecycle.getInstances().stream()
+                .filter(inst -> inst.getRealmType().equals(realmType))
+                .count();
+    }
+
+    /**
+     * Paste a realm into a free slot of its spawn area and reserve its space.
+     *
+     * @param sliced Paste in slices over the next ticks instead of all at once
+     * @return The realm's handle (READY, or PASTING while slices run), or null if there is no free space
+     */
+    private InstanceLifecycle.Handle<Map2Instance, PastedSlot> pasteSlot(String realmType, File schematicFile, World world,
+                                                                         boolean sliced) throws Exception {
+        boolean white = realmType.equals("white");
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = lifecycle.allocate();
+        SchematicSlots.Claim claim;
+        try {
+            claim = (white ? whiteSlots : blackSlots).claim(schematicFile, world);
+        } catch (Exception e) {
+            lifecycle.free(handle);
+            throw e;
+        }
+        if (claim == null) {
+            lifecycle.free(handle);
+            return null;
+        }
+        Location origin = claim.origin();
+        lifecycle.pasting(handle);
+
+        // Scan for realm-specific mob spawn markers (CALCITE for white, COARSE_DIRT for black),
+        // plus the cauldron and lord respawn blocks
+        SchematicHandler.MarkerConfiguration markerConfig = new SchematicHandler.MarkerConfiguration(
+                white ? whiteMobMarker : blackMobMarker,
+                miniBossMarker,
+                lordMarker,
+                playerSpawnMarker,
+                Map.of(Map2Instance.CAULDRON_MARKER, cauldronMarker,
+                        Map2Instance.LORD_RESPAWN_MARKER, lordRespawnMarker)
+        );
+        SchematicHandler.PasteResult pasteResult;
+        BlockJobScheduler.Job pasteJob = null;
+        try {
+            if (sliced) {
+                SchematicHandler.SlicedPaste paste = schematicHandler.pasteSchematicSliced(schematicFile, world, origin, markerConfig);
+                pasteResult = paste.result();
+                pasteJob = paste.job();
+            } else {
+                pasteResult = schematicHandler.pasteSchematic(schematicFile, world, origin, markerConfig);
+            }
+        } catch (Exception e) {
+            claim.release();
+            lifecycle.free(handle);
+            throw e;
         }
 
-        return null; // No free location found
+        handle.setSlot(new PastedSlot(origin, pasteResult, claim, pasteJob, schematicFile.lastModified(), new DirtySections()));
+        occupy(handle, world, origin, pasteResult);
+        readyWhenDone(handle, pasteJob);
+        return handle;
     }
 
     /**
-     * Get the active instance for a player.
+     * Register the pasted box with the lifecycle so block changes in it are
+     * tracked while the realm is pooled, in play or being cleared.
      */
-    public Map2Instance getInstance(UUID playerId) {
-        return activeInstances.get(playerId);
+    private void occupy(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, World world,
+                        Location origin, SchematicHandler.PasteResult pasteResult) {
+        Location min = origin.clone().add(pasteResult.appliedOffset()).add(pasteResult.minimumOffset());
+        Location max = origin.clone().add(pasteResult.appliedOffset()).add(pasteResult.maximumOffset());
+        lifecycle.occupy(handle, world, min.getBlockX(), min.getBlockY(), min.getBlockZ(),
+                max.getBlockX(), max.getBlockY(), max.getBlockZ());
     }
 
     /**
-     * Remove and cleanup an instance.
+     * Mark a realm READY once its paste or reset job is done (now if there is none).
      */
-    public void removeInstance(UUID playerId) {
-        Map2Instance instance = activeInstances.remove(playerId);
-        if (instance != null) {
-            // Remove holograms first
-            hologramManager.removeHolograms(instance.getInstanceId());
+    private void readyWhenDone(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, BlockJobScheduler.Job job) {
+        if (job == null) {
+            lifecycle.ready(handle);
+            return;
+        }
+        job.whenDone(() -> {
+            if (!job.isCancelled()) {
+                lifecycle.ready(handle);
+            }
+        });
+    }
 
-            // Then cleanup instance
-            instance.cleanup();
+    /**
+     * Build a ready realm for the pool (runs on quiet ticks).
+     * Pooled realms count towards max_instances.
+     */
+    private InstanceLifecycle.Handle<Map2Instance, PastedSlot> fillPool(String realmType) {
+        if (!eventActive.getAsBoolean()) return null;
+        if (countRealm(realmType) + pool.readyCount(realmType) >= maxInstancesPerRealm) return null;
 
-            // Free up space
-            occupiedRanges.removeIf(range ->
-                    range.minX == instance.getOrigin().getBlockX() &&
-                            range.minZ == instance.getOrigin().getBlockZ()
-            );
+        File schematicFile = schematicFile(realmType.equals("white") ? whiteRealmSchematic : blackRealmSchematic);
+        World world = Bukkit.getWorld(worldName);
+        if (!schematicFile.exists() || world == null) return null;
 
-            config.debug("[New Moon] Removed " + instance.getRealmType() + " realm instance for player " + playerId);
+        try {
+            InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = pasteSlot(realmType, schematicFile, world, true);
+            if (handle != null) {
+                config.debug("[New Moon] Pre-pasted pooled " + realmType + " realm at " + handle.getSlot().origin());
+            }
+            return handle;
+        } catch (Exception e) {
+            plugin.getLogger().warning("[New Moon] Failed to pre-paste " + realmType + " realm: " + e.getMessage());
+            return null;
         }
     }
 
     /**
-     * Get all active instances.
+     * Pool hit/miss counters and ready realms.
      */
-    public Collection<Map2Instance> getAllInstances() {
-        return activeInstances.values();
+    public List<InstancePool.Stats> getPoolStats() {
+        return pool.getStats();
     }
 
     /**
-     * Cleanup all instances.
+     * Get the active instance for a player.
      */
-    public void cleanupAll() {
-        for (UUID playerId : new HashSet<>(activeInstances.keySet())) {
-            removeInstance(playerId);
+    public Map2Instance getInstance(UUID playerId) {
+        return lifecycle.get(playerId);
+    }
+
+    /**
+     * Remove and cleanup an instance.
+     * While the pool wants more realms, the instance is reset and recycled instead.
+     */
+    public void removeInstance(UUID playerId) {
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = lifecycle.getHandle(playerId);
+        if (handle != null) {
+            lifecycle.end(handle);
         }
-        occupiedRanges.clear();
     }
 
     /**
-     * Replace marker blocks with target blocks in the instance.
-     * Used to replace GRASS_BLOCK markers with realm-specific blocks (CALCITE or COARSE_DIRT).
+     * Teleport the owner into their realm once its chunks are loaded (see
+     * {@link InstanceLifecycle#enter}). Main thread only.
      *
-     * @param instance The instance
-     * @param fromMaterial The marker block to replace
-     * @param toMaterial The target block to replace with
+     * @return Completes on the main thread with whether the player arrived
      */
-    private void replaceMarkerBlocks(Map2Instance instance, Material fromMaterial, Material toMaterial) {
-        com.sk89q.worldedit.regions.CuboidRegion region = instance.getRegion();
-        World world = instance.getWorld();
-        int replacedCount = 0;
-
-        // Scan region and replace marker blocks
-        for (com.sk89q.worldedit.math.BlockVector3 vec : region) {
-            Location loc = new Location(world, vec.getX(), vec.getY(), vec.getZ());
-            Material type = loc.getBlock().getType();
-
-            if (type == fromMaterial) {
-                loc.getBlock().setType(toMaterial);
-                replacedCount++;
-            }
+    public java.util.concurrent.CompletableFuture<Boolean> enterInstance(Map2Instance instance, Player player, Location destination) {
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = lifecycle.getHandle(instance);
+        if (handle == null) {
+            return java.util.concurrent.CompletableFuture.completedFuture(false);
         }
+        return lifecycle.enter(handle, player, destination);
+    }
 
-        config.debug("[New Moon] Replaced " + replacedCount + " " + fromMaterial + " blocks with " + toMaterial +
-                " in " + instance.getRealmType() + " realm instance");
+    /**
+     * Stop an instance and remove it after a delay.
+     */
+    public void drainInstance(Map2Instance instance, long delayTicks) {
+        drainInstance(instance, delayTicks, () -> {
+        });
     }
 
     /**
-     * Scan instance region for special blocks (CAULDRON and END_PORTAL_FRAME).
-     * This is done after schematic paste to locate these blocks.
+     * Stop an instance and remove it after a delay (e.g. time to respawn after
+     * death). A later call replaces the delay.
+     *
+     * @param beforeRemove Runs when the delay is over, right before the instance is removed
      */
-    private void scanSpecialBlocks(Map2Instance instance) {
-        com.sk89q.worldedit.regions.CuboidRegion region = instance.getRegion();
-        World world = instance.getWorld();
-
-        Location cauldronLoc = null;
-        Location[] respawnLocs = new Location[3];
-        int respawnIndex = 0;
-
-        // Scan region for special blocks
-        for (com.sk89q.worldedit.math.BlockVector3 vec : region) {
-            Location loc = new Location(world, vec.getX(), vec.getY(), vec.getZ());
-            Material type = loc.getBlock().getType();
-
-            // Check for CAULDRON
-            if (type == cauldronMarker && cauldronLoc == null) {
-                cauldronLoc = loc.clone().add(0.5, 1.0, 0.5); // Center of block + 1 up
-                config.debug("[New Moon] Found CAULDRON at " + loc);
-            }
+    public void drainInstance(Map2Instance instance, long delayTicks, Runnable beforeRemove) {
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle = lifecycle.getHandle(instance);
+        if (handle != null) {
+            lifecycle.drain(handle, delayTicks, beforeRemove);
+        }
+    }
 
-            // Check for END_PORTAL_FRAME (up to 3)
-            if (type == lordRespawnMarker && respawnIndex < 3) {
-                respawnLocs[respawnIndex] = loc.clone();
-                respawnIndex++;
-                config.debug("[New Moon] Found END_PORTAL_FRAME #" + respawnIndex + " at " + loc);
-            }
+    /**
+     * Clear a realm that left play or the pool (the lifecycle's CLEARING step):
+     * recycle it into its realm's pool when allowed, otherwise clear its blocks
+     * and free the slot once they are gone.
+     */
+    private void clearSlot(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, boolean reuse) {
+        PastedSlot slot = handle.getSlot();
+        // Stop a paste or reset still running in slices
+        if (slot.pasteJob() != null) {
+            slot.pasteJob().cancel();
         }
 
-        // Set locations in instance
-        if (cauldronLoc != null) {
-            instance.setCauldronLocation(cauldronLoc);
-        } else {
-            Bukkit.getLogger().warning("[New Moon] No CAULDRON found in instance " + instance.getInstanceId());
+        Map2Instance instance = handle.getInstance();
+        if (instance == null) {
+            // A pooled realm that was never handed out
+            SchematicHandler.PasteResult result = slot.pasteResult();
+            Location min = slot.origin().clone().add(result.appliedOffset()).add(result.minimumOffset());
+            Vector size = result.maximumOffset().subtract(result.minimumOffset()).add(new Vector(1, 1, 1));
+            schematicHandler.clearRegion(min.getWorld(), min, size).whenDone(() -> {
+                slot.claim().release();
+                lifecycle.free(handle);
+            });
+            return;
         }
 
-        if (respawnIndex == 3) {
-            instance.setLordRespawnLocations(respawnLocs[0], respawnLocs[1], respawnLocs[2]);
-        } else {
-            Bukkit.getLogger().warning("[New Moon] Found only " + respawnIndex + "/3 END_PORTAL_FRAME blocks in instance " + instance.getInstanceId());
-            // Set what we found
-            instance.setLordRespawnLocations(
-                    respawnLocs[0],
-                    respawnIndex > 1 ? respawnLocs[1] : null,
-                    respawnIndex > 2 ? respawnLocs[2] : null
-            );
+        // Remove holograms first
+        hologramManager.removeHolograms(instance.getInstanceId());
+
+        if (reuse && recycleSlot(handle, instance)) {
+            config.debug("[New Moon] Recycled " + instance.getRealmType() + " realm instance of player " + instance.getPlayerId() + " into the pool");
+            return;
         }
 
-        config.debug("[New Moon] Special block scan complete for instance " + instance.getInstanceId());
+        // Free the slot once the blocks are cleared
+        instance.cleanup().whenDone(() -> {
+            slot.claim().release();
+            lifecycle.free(handle);
+        });
+        config.debug("[New Moon] Removed " + instance.getRealmType() + " realm instance for player " + instance.getPlayerId());
     }
 
     /**
-     * Represents a rectangular coordinate range in the world.
+     * Drop a realm from the pool. A recycled realm may still be resetting.
      */
-    private static class CoordinateRange {
-        final int minX, minZ, maxX, maxZ;
-
-        CoordinateRange(int minX, int minZ, int maxX, int maxZ) {
-            this.minX = Math.min(minX, maxX);
-            this.minZ = Math.min(minZ, maxZ);
-            this.maxX = Math.max(minX, maxX);
-            this.maxZ = Math.max(minZ, maxZ);
+    private void dropSlot(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle) {
+        if (handle.getState() == InstanceState.CLEARING) {
+            clearSlot(handle, false);
+        } else {
+            lifecycle.end(handle, false);
         }
+    }
 
-        boolean contains(int x, int z) {
-            return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+    /**
+     * Reset a finished realm (restoring only the sections changed while it was
+     * live) and put it back into its realm's pool.
+     *
+     * @return false if the realm cannot be recycled and has to be cleared
+     */
+    private boolean recycleSlot(InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle, Map2Instance instance) {
+        String realmType = instance.getRealmType();
+        if (!eventActive.getAsBoolean() || instance.isBlocksCleared() || !pool.hasRoom(realmType)) return false;
+
+        // A re-exported schematic no longer matches the pasted blocks
+        PastedSlot slot = handle.getSlot();
+        File schematicFile = schematicFile(realmType.equals("white") ? whiteRealmSchematic : blackRealmSchematic);
+        if (schematicFile.lastModified() != slot.schematicStamp()) return false;
+
+        try {
+            BlockJobScheduler.Job resetJob = instance.reset(schematicHandler, schematicFile);
+            handle.setSlot(new PastedSlot(slot.origin(), slot.pasteResult(), slot.claim(),
+                    resetJob, slot.schematicStamp(), slot.dirtySections()));
+            if (!pool.offer(realmType, handle)) {
+                resetJob.cancel();
+                handle.setSlot(slot);
+                return false;
+            }
+            readyWhenDone(handle, resetJob);
+            return true;
+        } catch (Exception e) {
+            plugin.getLogger().warning("[New Moon] Failed to reset " + realmType + " realm instance: " + e.getMessage());
+            return false;
         }
     }
+
+    /**
+     * Get all active instances.
+     */
+    public Collection<Map2Instance> getAllInstances() {
+        return lifecycle.getInstances();
+    }
+
+    /**
+     * Get the instance whose region contains a location, or null.
+     */
+    public Map2Instance getInstanceAt(Location location) {
+        return lifecycle.getAt(location);
+    }
+
+    /**
+     * Dirty sections of the instance containing a block, or null.
+     */
+    public DirtySections getDirtySectionsAt(Block block) {
+        InstanceLifecycle.Handle<Map2Instance, PastedSlot> handle =
+                lifecycle.getHandleAt(block.getWorld(), block.getX(), block.getY(), block.getZ());
+        PastedSlot slot = handle != null ? handle.getSlot() : null;
+        return slot != null ? slot.dirtySections() : null;
+    }
+
+    /**
+     * Track an entity spawned in an instance so it can be resolved by UUID.
+     */
+    public void trackEntity(Map2Instance instance, UUID entityId) {
+        instance.trackEntity(entityId);
+        lifecycle.trackEntity(instance, entityId);
+    }
+
+    /**
+     * Get the instance that owns a tracked entity, or null.
+     */
+    public Map2Instance getInstanceByEntity(UUID entityId) {
+        return lifecycle.getByEntity(entityId);
+    }
+
+    /**
+     * Stop tracking an entity (on death).
+     *
+     * @return The instance that owned it, or null
+     */
+    public Map2Instance untrackEntity(UUID entityId) {
+        return lifecycle.untrackEntity(entityId);
+    }
+
+    /**
+     * Cleanup all instances.
+     */
+    public void cleanupAll() {
+        lifecycle.endAll();
+        pool.clear();
+        // Slots are released as the clear jobs finish
+    }
+
+    /**
+     * A pasted realm: paste origin, paste result, the slot it occupies, the
+     * sliced paste or reset job (null when pasted at once) and the schematic's
+     * modification time at paste, and the sections changed since the last
+     * paste or reset (kept for the slot's whole life, so changes while it is
+     * pooled or clearing are restored by the next reset).
+     */
+    private record PastedSlot(Location origin, SchematicHandler.PasteResult pasteResult, SchematicSlots.Claim claim,
+                              BlockJobScheduler.Job pasteJob, long schematicStamp, DirtySections dirtySections) {
+    }
 }
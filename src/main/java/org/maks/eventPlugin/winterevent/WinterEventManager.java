@@ -4,7 +4,11 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.maks.eventPlugin.config.ConfigManager;
 import org.maks.eventPlugin.db.DatabaseManager;
+import org.maks.eventPlugin.eventsystem.EventChoices;
 import org.maks.eventPlugin.eventsystem.EventManager;
+import org.maks.eventPlugin.eventsystem.KillStats;
+import org.maks.eventPlugin.eventsystem.PlayerEventState;
+import org.maks.eventPlugin.eventsystem.PlayerStateManager;
 import org.maks.eventPlugin.winterevent.wintercave.WinterCaveManager;
 import org.maks.eventPlugin.winterevent.summit.WinterSummitManager;
 
@@ -29,11 +33,15 @@ public class WinterEventManager {
     private final Map<String, Double> giftRarities = new LinkedHashMap<>();
     private final Map<String, String> giftBoxIds = new HashMap<>();
 
-    // Track which difficulty each player is currently in (infernal/hell/blood)
-    private final Map<UUID, String> playerDifficulty = new HashMap<>();
+    // Per-player difficulty lives in the player's session state
+    private final PlayerStateManager playerStates;
+    private final KillStats killStats;
 
-    public WinterEventManager(JavaPlugin plugin, DatabaseManager database, ConfigManager config, EventManager eventManager) {
+    public WinterEventManager(JavaPlugin plugin, DatabaseManager database, ConfigManager config, EventManager eventManager,
+                              PlayerStateManager playerStates, KillStats killStats) {
         this.plugin = plugin;
+        this.playerStates = playerStates;
+        this.killStats = killStats;
         this.database = database;
         this.config = config;
         this.eventManager = eventManager;
@@ -156,7 +164,10 @@ public class WinterEventManager {
     public void setPlayerDifficulty(UUID playerId, String difficulty) {
         String normalized = difficulty.toLowerCase();
         if (normalized.equals("infernal") || normalized.equals("hell") || normalized.equals("blood")) {
-            playerDifficulty.put(playerId, normalized);
+            PlayerEventState state = playerStates.get(playerId);
+            if (state != null) {
+                state.setWinterDifficulty(normalized);
+            }
         }
     }
 
@@ -164,7 +175,8 @@ public class WinterEventManager {
      * Get the current difficulty for a player.
      */
     public String getPlayerDifficulty(UUID playerId) {
-        return playerDifficulty.getOrDefault(playerId, "infernal");
+        EventChoices choices = playerStates.findChoices(playerId);
+        return choices != null ? choices.getWinterDifficulty() : "infernal";
     }
 
     /**
@@ -265,20 +277,31 @@ public class WinterEventManager {
     /**
      * Handle a MythicMob kill by a player.
      * Updates event progress based on difficulty and mob type.
+     *
+     * @param baseMobType Mob type without the difficulty suffix, used for kill statistics
      */
-    public void handleMobKill(Player player, String mobType, int progressAmount, double multiplier) {
+    public void handleMobKill(Player player, String mobType, String baseMobType, int progressAmount, double multiplier) {
         if (!isEventActive()) {
             return;
         }
 
-        eventManager.addProgress(player, progressAmount, multiplier);
+        eventManager.addProgress(player, progressAmount, multiplier, mobType);
+        killStats.recordKill(player.getUniqueId(), eventManager.getEventId(), baseMobType);
+    }
+
+    public KillStats getKillStats() {
+        return killStats;
     }
 
     /**
      * Stop the Winter Event and cleanup.
      */
     public void stopEvent() {
-        playerDifficulty.clear();
+        for (PlayerEventState state : playerStates.all()) {
+            state.resetWinter();
+        }
+        playerStates.resetChoices(EventChoices::resetWinter);
+        killStats.resetEdition(eventManager.getEventId());
         winterCaveManager.cleanup();
         winterCaveManager.resetClaims(); // Reset daily reward claims between editions
         winterSummitManager.cleanupLeftoverInstances();
@@ -294,7 +317,11 @@ public class WinterEventManager {
      * Reset all Winter Event data.
      */
     public void resetAllData() {
-        playerDifficulty.clear();
+        for (PlayerEventState state : playerStates.all()) {
+            state.resetWinter();
+        }
+        playerStates.resetChoices(EventChoices::resetWinter);
+        killStats.resetEdition(eventManager.getEventId());
         winterCaveManager.cleanup();
         winterSummitManager.cleanupLeftoverInstances();
         if (questManager != null) {
@@ -349,4 +376,8 @@ public class WinterEventManager {
     public ConfigManager getConfig() {
         return config;
     }
+
+    public PlayerStateManager getPlayerStates() {
+        return playerStates;
+    }
 }
@@ -5,6 +5,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.maks.eventPlugin.config.ConfigManager;
 import org.maks.eventPlugin.db.DatabaseManager;
+import org.maks.eventPlugin.eventsystem.AuditLog;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -289,6 +290,7 @@ public class WinterQuestManager {
         Set<Integer> accepted = acceptedQuests.computeIfAbsent(playerId, k -> new HashSet<>());
         accepted.add(questId);
         saveAcceptance(playerId, questId);
+        AuditLog.quest(playerId, eventId, questId, "accepted");
         return true;
     }
 
@@ -299,6 +301,7 @@ public class WinterQuestManager {
         Set<Integer> completed = completedQuests.computeIfAbsent(playerId, k -> new HashSet<>());
         completed.add(questId);
         saveCompletion(playerId, questId);
+        AuditLog.quest(playerId, eventId, questId, "completed");
     }
 
     /**
@@ -311,6 +314,7 @@ public class WinterQuestManager {
         Set<Integer> claimed = claimedRewards.computeIfAbsent(playerId, k -> new HashSet<>());
         claimed.add(questId);
         saveClaim(playerId, questId);
+        AuditLog.quest(playerId, eventId, questId, "claimed");
         return true;
     }
 
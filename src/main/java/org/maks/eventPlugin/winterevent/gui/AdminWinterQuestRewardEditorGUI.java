@@ -14,6 +14,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.maks.eventPlugin.winterevent.WinterQuest;
 import org.maks.eventPlugin.winterevent.WinterQuestManager;
+import org.maks.eventPlugin.eventsystem.AuditLog;
 
 import java.util.*;
 
@@ -274,6 +275,7 @@ public class AdminWinterQuestRewardEditorGUI implements Listener {
             }
         }
 
+        AuditLog.admin(player.getName(), "winter_event", "saved " + savedCount + " rewards for quest " + session.selectedQuestId);
         player.sendMessage("§a§l[Winter Event] §aSaved " + savedCount + " rewards for Quest " + session.selectedQuestId + "!");
         player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 2.0f);
 
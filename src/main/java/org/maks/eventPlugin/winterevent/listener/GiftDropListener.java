@@ -6,13 +6,19 @@ import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
+import org.maks.eventPlugin.eventsystem.Notifications;
 import org.maks.eventPlugin.winterevent.WinterEventManager;
 
+import java.util.Set;
+
 /**
  * Listens to ALL MythicMob deaths globally and gives Winter gifts with 0.1% chance.
  * This is independent of which mob type is killed.
  */
 public class GiftDropListener implements Listener {
+    // Legendary and above
+    private static final Set<String> RARE_TIERS = Set.of("orange", "gold", "red");
+
     private final WinterEventManager winterEventManager;
 
     public GiftDropListener(WinterEventManager winterEventManager) {
@@ -57,8 +63,14 @@ public class GiftDropListener implements Listener {
         }
 
         // Notify player
-        player.sendMessage("§f§l[Winter Event] §fYou found a " + color + rarityName + " Gift§f!");
+        // Common gifts are routine kill feedback; only the rare tiers always get through
+        String message = "§f§l[Winter Event] §fYou found a " + color + rarityName + " Gift§f!";
+        if (RARE_TIERS.contains(rarity)) {
+            Notifications.important(player, message);
+        } else {
+            Notifications.chat(player, message);
+        }
         //player.sendTitle("§f⛄ Winter Gift!", color + rarityName, 10, 60, 10);
-        player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_CHIME, 1.0f, 1.5f);
+        Notifications.sound(player, Sound.BLOCK_NOTE_BLOCK_CHIME, 1.0f, 1.5f);
     }
 }
@@ -1,15 +1,22 @@
 package org.maks.eventPlugin.winterevent.listener;
 
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
 import io.lumine.mythic.bukkit.events.MythicMobDeathEvent;
+import io.lumine.mythic.bukkit.events.MythicMobDespawnEvent;
+import io.lumine.mythic.bukkit.events.MythicMobSpawnEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
 import org.bukkit.entity.Tameable;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
-import org.maks.eventPlugin.eventsystem.BuffManager;
+import org.maks.eventPlugin.eventsystem.ContributionLedger;
+import org.maks.eventPlugin.eventsystem.Notifications;
+import org.maks.eventPlugin.eventsystem.ProgressModifiers;
 import org.maks.eventPlugin.winterevent.WinterEventManager;
 
 import java.util.*;
@@ -20,28 +27,97 @@ import java.util.*;
  */
 public class WinterEventMobListener implements Listener {
     private final WinterEventManager winterEventManager;
-    private final BuffManager buffManager;
+    private final ProgressModifiers progressModifiers;
 
-    // Track players who damaged a boss (for participation rewards)
-    private final Map<UUID, Set<UUID>> mobParticipants = new HashMap<>();
+    /** Name prefixes of the Winter Event mobs (x_mas_* MythicMobs). */
+    private static final List<String> WINTER_MOB_PREFIXES = List.of(
+            "sugar_goblin_miner_", "snow_wolf_", "dough_troll_kneader_",
+            "cookie_commander_wolf_", "cookie_thief_goblin_", "cookie_destroyer_sludge_",
+            "walking_christmas_tree_", "gluttonous_bear_", "krampus_spirit_");
 
-    public WinterEventMobListener(WinterEventManager winterEventManager, BuffManager buffManager) {
+    // Damage dealt per player to each mob (for participation and boss shares)
+    private final ContributionLedger contributionLedger;
+
+    // Live Winter Event mobs, so damage to anything else is skipped with one set lookup
+    private final Set<UUID> eventMobs = new HashSet<>();
+
+    public WinterEventMobListener(WinterEventManager winterEventManager, ProgressModifiers progressModifiers) {
         this.winterEventManager = winterEventManager;
-        this.buffManager = buffManager;
+        this.progressModifiers = progressModifiers;
+        this.contributionLedger = new ContributionLedger(winterEventManager.getConfig());
+    }
+
+    private static boolean isWinterMob(String mobType) {
+        String lower = mobType.toLowerCase();
+        for (String prefix : WINTER_MOB_PREFIXES) {
+            if (lower.startsWith(prefix)) return true;
+        }
+        return false;
     }
 
     /**
-     * Track damage to mobs for participation tracking.
+     * Track Winter Event mobs as they spawn.
      */
-    @EventHandler
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMythicMobSpawn(MythicMobSpawnEvent event) {
+        if (event.getMobType() == null) return;
+        registerLoaded(event.getEntity(), event.getMobType().getInternalName());
+    }
+
+    /**
+     * Track a Winter Event mob that spawned or came back with its chunk
+     * (see {@link org.maks.eventPlugin.eventsystem.MythicMobLoads}).
+     */
+    public void registerLoaded(Entity entity, String mobType) {
+        if (!winterEventManager.isEventActive()) return;
+        if (isWinterMob(mobType)) {
+            eventMobs.add(entity.getUniqueId());
+        }
+    }
+
+    /**
+     * Drop despawned mobs and release their damage slot.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onMythicMobDespawn(MythicMobDespawnEvent event) {
+        UUID mobId = event.getEntity().getUniqueId();
+        eventMobs.remove(mobId);
+        contributionLedger.discard(mobId);
+    }
+
+    /**
+     * Stop tracking mobs removed from the world (chunk unload). Their damage
+     * slot is kept in case the chunk loads again.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        eventMobs.remove(event.getEntity().getUniqueId());
+    }
+
+    /**
+     * Drop all tracked mobs and damage (the event stopped or expired).
+     */
+    public void clearTracking() {
+        eventMobs.clear();
+        contributionLedger.clear();
+    }
+
+    /**
+     * Track damage dealt to Winter Event mobs for participation and boss contribution shares.
+     * Players, vanilla mobs and other MythicMobs never settle here, so they get no slot.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onEntityDamage(EntityDamageByEntityEvent event) {
         if (!winterEventManager.isEventActive()) return;
+        if (!(event.getEntity() instanceof LivingEntity living) || living instanceof Player) return;
+        if (!eventMobs.contains(living.getUniqueId())) return;
 
         Player damager = getDamager(event.getDamager());
         if (damager == null) return;
 
-        UUID mobId = event.getEntity().getUniqueId();
-        mobParticipants.computeIfAbsent(mobId, k -> new HashSet<>()).add(damager.getUniqueId());
+        // Overkill damage does not count towards the share
+        float dealt = (float) Math.min(event.getFinalDamage(), living.getHealth());
+        contributionLedger.record(living.getUniqueId(), damager.getUniqueId(), dealt);
     }
 
     /**
@@ -52,17 +128,11 @@ public class WinterEventMobListener implements Listener {
         if (!winterEventManager.isEventActive()) return;
 
         String mobType = event.getMobType().getInternalName();
+        eventMobs.remove(event.getEntity().getUniqueId());
 
         // Only handle x_mas_* mobs
-        if (!mobType.toLowerCase().startsWith("sugar_goblin_miner_") &&
-            !mobType.toLowerCase().startsWith("snow_wolf_") &&
-            !mobType.toLowerCase().startsWith("dough_troll_kneader_") &&
-            !mobType.toLowerCase().startsWith("cookie_commander_wolf_") &&
-            !mobType.toLowerCase().startsWith("cookie_thief_goblin_") &&
-            !mobType.toLowerCase().startsWith("cookie_destroyer_sludge_") &&
-            !mobType.toLowerCase().startsWith("walking_christmas_tree_") &&
-            !mobType.toLowerCase().startsWith("gluttonous_bear_") &&
-            !mobType.toLowerCase().startsWith("krampus_spirit_")) {
+        if (!isWinterMob(mobType)) {
+            contributionLedger.discard(event.getEntity().getUniqueId());
             return; // Not a Winter Event mob
         }
 
@@ -70,24 +140,19 @@ public class WinterEventMobListener implements Listener {
         Entity killerEntity = event.getKiller();
         Player killer = getPlayer(killerEntity);
 
+        UUID mobId = event.getEntity().getUniqueId();
         if (killer == null) {
             // Check participants if no direct killer
-            Set<UUID> participants = mobParticipants.getOrDefault(event.getEntity().getUniqueId(), new HashSet<>());
-            if (participants.isEmpty()) {
-                mobParticipants.remove(event.getEntity().getUniqueId());
-                return;
-            }
-            killer = Bukkit.getPlayer(participants.iterator().next());
-            if (killer == null) {
-                mobParticipants.remove(event.getEntity().getUniqueId());
+            if (!contributionLedger.hasParticipants(mobId)) {
+                contributionLedger.discard(mobId);
                 return;
             }
         } else {
-            mobParticipants.computeIfAbsent(event.getEntity().getUniqueId(), k -> new HashSet<>()).add(killer.getUniqueId());
+            contributionLedger.record(mobId, killer.getUniqueId(), 0f);
         }
 
-        // Get all participants
-        Set<UUID> participants = mobParticipants.getOrDefault(event.getEntity().getUniqueId(), new HashSet<>());
+        // Settle damage shares - bosses drop low contributors and weight the rest
+        List<ContributionLedger.Share> shares = contributionLedger.settle(mobId, mobType);
 
         // Determine difficulty from mob suffix
         String difficulty = "infernal"; // default
@@ -100,19 +165,21 @@ public class WinterEventMobListener implements Listener {
         // Get progress amount based on mob tier and difficulty
         int baseProgress = winterEventManager.getProgressForMob(mobType, difficulty);
 
-        // Award progress to all participants
-        for (UUID participantId : participants) {
+        // Award progress to all eligible participants
+        for (ContributionLedger.Share share : shares) {
+            UUID participantId = share.playerId();
             Player participant = Bukkit.getPlayer(participantId);
             if (participant == null || !participant.isOnline()) continue;
 
             // Update player difficulty tracking
             winterEventManager.setPlayerDifficulty(participantId, difficulty);
 
-            // Get buff multiplier
-            double buffMultiplier = buffManager.hasBuff(participant) ? 1.5 : 1.0;
+            // Combined Attrie / weekend / party / difficulty multiplier
+            double multiplier = progressModifiers.getMultiplier(participant, "winter_event", difficulty);
 
             // Handle mob kill (event progress)
-            winterEventManager.handleMobKill(participant, mobType, baseProgress, buffMultiplier);
+            int sharedProgress = (int) Math.round(baseProgress * share.weight());
+            winterEventManager.handleMobKill(participant, mobType, stripDifficultySuffix(mobType), sharedProgress, multiplier);
 
             // === QUEST SYSTEM INTEGRATION ===
             if (winterEventManager.getQuestManager() != null) {
@@ -130,11 +197,14 @@ public class WinterEventMobListener implements Listener {
                                 participantId, "candy_cane", 1, false);
 
                             int progress = winterEventManager.getQuestManager().getQuestProgress(participantId, 3);
-                            participant.sendMessage("§e§l[Winter Event] §a+1 Candy Cane! §7(" + progress + "/150)");
+                            Notifications.chat(participant, "winter_candy_cane",
+                                    "§e§l[Winter Event] §a+1 Candy Cane! §7(" + progress + "/150)",
+                                    Notifications.Priority.NORMAL);
 
                             if (completed) {
-                                participant.sendMessage("§a§lQuest completed!");
-                                participant.sendTitle("§aQuest Complete!", "§7Sweet Collector", 10, 40, 10);
+                                Notifications.important(participant, "§a§lQuest completed!");
+                                Notifications.title(participant, "§aQuest Complete!", "§7Sweet Collector", 10, 40, 10,
+                                        Notifications.Priority.IMPORTANT);
                             }
                         }
                     }
@@ -150,11 +220,14 @@ public class WinterEventMobListener implements Listener {
                                 participantId, "frozen_shard", 1, false);
 
                             int progress = winterEventManager.getQuestManager().getQuestProgress(participantId, 10);
-                            participant.sendMessage("§e§l[Winter Event] §b+1 Frozen Shard! §7(" + progress + "/150)");
+                            Notifications.chat(participant, "winter_frozen_shard",
+                                    "§e§l[Winter Event] §b+1 Frozen Shard! §7(" + progress + "/150)",
+                                    Notifications.Priority.NORMAL);
 
                             if (completed) {
-                                participant.sendMessage("§a§lQuest completed!");
-                                participant.sendTitle("§aQuest Complete!", "§7Winter Shards", 10, 40, 10);
+                                Notifications.important(participant, "§a§lQuest completed!");
+                                Notifications.title(participant, "§aQuest Complete!", "§7Winter Shards", 10, 40, 10,
+                                        Notifications.Priority.IMPORTANT);
                             }
                         }
                     }
@@ -165,14 +238,11 @@ public class WinterEventMobListener implements Listener {
                     participantId, baseMobType, 1, isBlood);
 
                 if (questCompleted) {
-                    participant.sendMessage("§a§l[Winter Event] §aQuest completed!");
-                    participant.sendTitle("§aQuest Complete!", "", 10, 40, 10);
+                    Notifications.important(participant, "§a§l[Winter Event] §aQuest completed!");
+                    Notifications.title(participant, "§aQuest Complete!", "", 10, 40, 10, Notifications.Priority.IMPORTANT);
                 }
             }
         }
-
-        // Clean up participants tracking
-        mobParticipants.remove(event.getEntity().getUniqueId());
     }
 
     /**
@@ -9,13 +9,15 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.maks.eventPlugin.config.ConfigManager;
+import org.maks.eventPlugin.eventsystem.InstanceLifecycle;
+import org.maks.eventPlugin.eventsystem.InstanceState;
 import org.maks.eventPlugin.fullmoon.map2.SchematicHandler;
+import org.maks.eventPlugin.fullmoon.map2.SchematicSlots;
 import org.maks.eventPlugin.fullmoon.map2.WorldEditSchematicHandler;
 import org.maks.eventPlugin.winterevent.WinterEventManager;
 
 import java.io.File;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages Winter Summit boss instances (Bear and Krampus).
@@ -27,17 +29,98 @@ public class WinterSummitManager {
     private final WinterEventManager winterEventManager;
     private final SchematicHandler schematicHandler;
 
-    // Active instances: Instance ID -> Instance
-    private final Map<UUID, WinterSummitInstance> activeInstances = new ConcurrentHashMap<>();
+    // Time limit of a boss instance
+    private static final long TIME_LIMIT_TICKS = 15 * 60 * 20L;
 
-    // Player -> Instance mapping
-    private final Map<UUID, UUID> playerToInstance = new ConcurrentHashMap<>();
+    // Instance states, lookups and timers; the slot is the claimed arena space
+    private final InstanceLifecycle<WinterSummitInstance, SchematicSlots.Claim> lifecycle;
+
+    // Arena slots per boss type
+    private final Map<String, SchematicSlots> bossSlots = new HashMap<>();
 
     public WinterSummitManager(JavaPlugin plugin, ConfigManager config, WinterEventManager winterEventManager) {
         this.plugin = plugin;
         this.config = config;
         this.winterEventManager = winterEventManager;
         this.schematicHandler = new WorldEditSchematicHandler(config);
+        this.lifecycle = new InstanceLifecycle<>(plugin, "Winter Summit", new InstanceLifecycle.Content<WinterSummitInstance, SchematicSlots.Claim>() {
+            @Override
+            public void clear(InstanceLifecycle.Handle<WinterSummitInstance, SchematicSlots.Claim> handle, boolean reuse) {
+                clearInstance(handle);
+            }
+
+            @Override
+            public void onExpire(InstanceLifecycle.Handle<WinterSummitInstance, SchematicSlots.Claim> handle) {
+                Player player = Bukkit.getPlayer(handle.getPlayerId());
+                if (player != null && player.isOnline()) {
+                    player.sendMessage("§c§l[Winter Event] §cTime's up! The boss arena has closed.");
+                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "spawn " + player.getName());
+                }
+            }
+        });
+        precompileSchematics();
+    }
+
+    private File schematicFile(String schematicName) {
+        File schematicFile = new File("plugins/FastAsyncWorldEdit/schematics/" + schematicName + ".schem");
+        if (!schematicFile.exists()) {
+            schematicFile = new File("plugins/FastAsyncWorldEdit/schematics/" + schematicName + ".schematic");
+        }
+        return schematicFile;
+    }
+
+    /**
+     * Compile the marker sidecars of the boss arenas in the background, so the
+     * first paste does not have to scan the schematics, then set up the arena slots.
+     */
+    private void precompileSchematics() {
+        var schematicsSection = config.getSection("winter_event.summit.schematics");
+        if (schematicsSection == null) return;
+
+        Map<String, File> files = new LinkedHashMap<>();
+        for (String bossType : schematicsSection.getKeys(false)) {
+            String schematicName = schematicsSection.getString(bossType + ".file_name");
+            if (schematicName == null) continue;
+            File schematicFile = schematicFile(schematicName);
+            if (schematicFile.exists()) files.put(bossType, schematicFile);
+        }
+
+        List<Material> markers = List.of(Material.DIAMOND_BLOCK, Material.GOLD_BLOCK);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            for (File schematicFile : files.values()) {
+                try {
+                    schematicHandler.precompile(schematicFile, markers);
+                } catch (Exception e) {
+                    plugin.getLogger().warning("[Winter Summit] Failed to precompile " + schematicFile.getName() + ": " + e.getMessage());
+                }
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                for (Map.Entry<String, File> entry : files.entrySet()) {
+                    var spawnArea = config.getSection("winter_event.summit.schematics." + entry.getKey() + ".spawn_area");
+                    World world = spawnArea != null ? Bukkit.getWorld(spawnArea.getString("world", "world")) : null;
+                    if (world != null) {
+                        slots(entry.getKey()).prepare(entry.getValue(), world);
+                    }
+                }
+            });
+        });
+    }
+
+    /**
+     * Arena slots of a boss type, built from its spawn area on first use.
+     */
+    private SchematicSlots slots(String bossType) {
+        return bossSlots.computeIfAbsent(bossType, type -> {
+            String configPath = "winter_event.summit.schematics." + type;
+            var spawnArea = config.getSection(configPath + ".spawn_area");
+            return new SchematicSlots(plugin, schematicHandler, "winter_" + type,
+                    spawnArea.getInt("min_x"),
+                    spawnArea.getInt("min_y"),
+                    spawnArea.getInt("min_z"),
+                    spawnArea.getInt("max_x"),
+                    spawnArea.getInt("max_z"),
+                    config.getSection(configPath).getInt("spacing", 100));
+        });
     }
 
     /**
@@ -50,7 +133,7 @@ public class WinterSummitManager {
      */
     public WinterSummitInstance createBossInstance(Player player, String bossType, String difficulty) {
         // Check if player already has active instance
-        if (playerToInstance.containsKey(player.getUniqueId())) {
+        if (lifecycle.get(player.getUniqueId()) != null) {
             player.sendMessage("§c§l[Winter Event] §cYou already have an active boss instance!");
             return null;
         }
@@ -58,10 +141,7 @@ public class WinterSummitManager {
         // Load schematic
         String configPath = "winter_event.summit.schematics." + bossType;
         String schematicName = config.getSection(configPath).getString("file_name");
-        File schematicFile = new File("plugins/FastAsyncWorldEdit/schematics/" + schematicName + ".schem");
-        if (!schematicFile.exists()) {
-            schematicFile = new File("plugins/FastAsyncWorldEdit/schematics/" + schematicName + ".schematic");
-        }
+        File schematicFile = schematicFile(schematicName);
 
         if (!schematicFile.exists()) {
             player.sendMessage("§c§l[Winter Event] §cBoss arena schematic not found!");
@@ -77,15 +157,20 @@ public class WinterSummitManager {
             return null;
         }
 
-        // Find free location
-        Location origin = findFreeLocation(bossType, world);
-        if (origin == null) {
-            player.sendMessage("§c§l[Winter Event] §cNo space available for boss instance!");
-            return null;
-        }
-
         // Paste schematic
+        InstanceLifecycle.Handle<WinterSummitInstance, SchematicSlots.Claim> handle = lifecycle.allocate();
+        SchematicSlots.Claim claim = null;
         try {
+            // Claim a free slot
+            claim = slots(bossType).claim(schematicFile, world);
+            if (claim == null) {
+                lifecycle.free(handle);
+                player.sendMessage("§c§l[Winter Event] §cNo space available for boss instance!");
+                return null;
+            }
+            Location origin = claim.origin();
+            lifecycle.pasting(handle);
+
             Material playerSpawnMarker = Material.GOLD_BLOCK;
             Material bossSpawnMarker = Material.DIAMOND_BLOCK;
 
@@ -95,6 +180,8 @@ public class WinterSummitManager {
 
             SchematicHandler.PasteResult result = schematicHandler.pasteSchematic(
                     schematicFile, world, origin, markerConfig);
+            handle.setSlot(claim);
+            lifecycle.ready(handle);
 
             // Create region
             org.bukkit.util.Vector minOffset = result.minimumOffset();
@@ -133,32 +220,33 @@ public class WinterSummitManager {
                 Bukkit.getLogger().info("[Winter Summit] Boss spawn set to: " + bossSpawn);
             }
 
-            // Store instance
-            activeInstances.put(instance.getInstanceId(), instance);
-            playerToInstance.put(player.getUniqueId(), instance.getInstanceId());
-
-            // Teleport player
-            if (instance.getPlayerSpawnLocation() != null) {
-                player.teleport(instance.getPlayerSpawnLocation());
-            } else {
-                player.teleport(origin);
-            }
-
-            // Spawn boss
-            spawnBoss(instance);
-
-            // Auto-cleanup after 15 minutes
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                if (activeInstances.containsKey(instance.getInstanceId())) {
-                    cleanupInstance(instance.getInstanceId());
+            // Hand the instance to the player; it expires after the time limit
+            lifecycle.activate(handle, player.getUniqueId(), instance, world,
+                    min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ(), TIME_LIMIT_TICKS);
+
+            // Load the arena's chunks off the main thread, teleport, then spawn the boss
+            Location destination = instance.getPlayerSpawnLocation() != null ? instance.getPlayerSpawnLocation() : origin;
+            lifecycle.enter(handle, player, destination).thenAccept(arrived -> {
+                if (arrived) {
+                    spawnBoss(instance);
+                } else {
+                    lifecycle.end(handle);
                 }
-            }, 15 * 60 * 20L);
+            });
 
             player.sendMessage("§f§l[Winter Event] §aBoss arena created! Defeat the boss to earn rewards.");
 
             return instance;
 
         } catch (Exception e) {
+            if (handle.getState() == InstanceState.ALLOCATING || handle.getState() == InstanceState.PASTING) {
+                if (claim != null) {
+                    claim.release();
+                }
+                lifecycle.free(handle);
+            } else {
+                lifecycle.end(handle);
+            }
             player.sendMessage("§c§l[Winter Event] §cFailed to create boss instance!");
             plugin.getLogger().severe("[Winter Event] Failed to paste schematic: " + e.getMessage());
             e.printStackTrace();
@@ -166,40 +254,6 @@ public class WinterSummitManager {
         }
     }
 
-    /**
-     * Find free location for instance.
-     */
-    private Location findFreeLocation(String bossType, World world) {
-        String configPath = "winter_event.summit.schematics." + bossType + ".spawn_area";
-        int minX = config.getSection(configPath).getInt("min_x");
-        int minY = config.getSection(configPath).getInt("min_y");
-        int minZ = config.getSection(configPath).getInt("min_z");
-        int maxX = config.getSection(configPath).getInt("max_x");
-        int maxZ = config.getSection(configPath).getInt("max_z");
-        int spacing = config.getSection("winter_event.summit.schematics." + bossType).getInt("spacing", 100);
-
-        for (int x = minX; x <= maxX; x += spacing) {
-            for (int z = minZ; z <= maxZ; z += spacing) {
-                Location candidate = new Location(world, x, minY, z);
-
-                // Check if location is free
-                boolean isFree = true;
-                for (WinterSummitInstance instance : activeInstances.values()) {
-                    if (instance.contains(candidate)) {
-                        isFree = false;
-                        break;
-                    }
-                }
-
-                if (isFree) {
-                    return candidate;
-                }
-            }
-        }
-
-        return null;
-    }
-
     /**
      * Spawn boss in instance.
      */
@@ -225,37 +279,79 @@ public class WinterSummitManager {
     }
 
     /**
-     * Cleanup instance and remove from tracking.
+     * End an instance now and clear its blocks.
      */
-    public void cleanupInstance(UUID instanceId) {
-        WinterSummitInstance instance = activeInstances.remove(instanceId);
-        if (instance != null) {
-            playerToInstance.remove(instance.getPlayerId());
-
-            // Clear blocks from world
-            try {
-                com.sk89q.worldedit.math.BlockVector3 min = instance.getRegion().getMinimumPoint();
-                com.sk89q.worldedit.math.BlockVector3 max = instance.getRegion().getMaximumPoint();
-
-                int width = max.getX() - min.getX() + 1;
-                int height = max.getY() - min.getY() + 1;
-                int depth = max.getZ() - min.getZ() + 1;
-
-                org.bukkit.util.Vector size = new org.bukkit.util.Vector(width, height, depth);
-
-                // Use actual region minimum point, not paste origin (origin can have offsets from schematic)
-                Location clearOrigin = new Location(
-                        instance.getPasteOrigin().getWorld(),
-                        min.getX(),
-                        min.getY(),
-                        min.getZ()
-                );
-                schematicHandler.clearRegion(clearOrigin.getWorld(), clearOrigin, size);
-
-                plugin.getLogger().info("[Winter Event] Cleaned up instance " + instanceId + " and cleared blocks");
-            } catch (Exception e) {
-                plugin.getLogger().warning("[Winter Event] Failed to clear blocks for instance " + instanceId + ": " + e.getMessage());
+    public void cleanupInstance(WinterSummitInstance instance) {
+        InstanceLifecycle.Handle<WinterSummitInstance, SchematicSlots.Claim> handle = lifecycle.getHandle(instance);
+        if (handle != null) {
+            lifecycle.end(handle);
+        }
+    }
+
+    /**
+     * Close an instance after a delay (e.g. once the boss is dead). The time
+     * limit is cancelled.
+     *
+     * @param beforeRemove Runs when the delay is over, right before the instance is cleared
+     */
+    public void drainInstance(WinterSummitInstance instance, long delayTicks, Runnable beforeRemove) {
+        InstanceLifecycle.Handle<WinterSummitInstance, SchematicSlots.Claim> handle = lifecycle.getHandle(instance);
+        if (handle != null) {
+            lifecycle.drain(handle, delayTicks, beforeRemove);
+        }
+    }
+
+    /**
+     * Remove the boss and clear the arena, then give its slot back.
+     */
+    private void clearInstance(InstanceLifecycle.Handle<WinterSummitInstance, SchematicSlots.Claim> handle) {
+        WinterSummitInstance instance = handle.getInstance();
+        SchematicSlots.Claim claim = handle.getSlot();
+        if (instance == null) {
+            // Never handed out: nothing was left in the world
+            if (claim != null) {
+                claim.release();
             }
+            lifecycle.free(handle);
+            return;
+        }
+
+        if (instance.getBossEntityId() != null) {
+            org.bukkit.entity.Entity boss = Bukkit.getEntity(instance.getBossEntityId());
+            if (boss != null && boss.isValid()) {
+                boss.remove();
+            }
+        }
+
+        UUID instanceId = instance.getInstanceId();
+        try {
+            com.sk89q.worldedit.math.BlockVector3 min = instance.getRegion().getMinimumPoint();
+            com.sk89q.worldedit.math.BlockVector3 max = instance.getRegion().getMaximumPoint();
+
+            int width = max.getX() - min.getX() + 1;
+            int height = max.getY() - min.getY() + 1;
+            int depth = max.getZ() - min.getZ() + 1;
+
+            org.bukkit.util.Vector size = new org.bukkit.util.Vector(width, height, depth);
+
+            // Use actual region minimum point, not paste origin (origin can have offsets from schematic)
+            Location clearOrigin = new Location(
+                    instance.getPasteOrigin().getWorld(),
+                    min.getX(),
+                    min.getY(),
+                    min.getZ()
+            );
+            schematicHandler.clearRegion(clearOrigin.getWorld(), clearOrigin, size)
+                    .whenDone(() -> {
+                        if (claim != null) {
+                            claim.release();
+                        }
+                        lifecycle.free(handle);
+                        plugin.getLogger().info("[Winter Event] Cleaned up instance " + instanceId + " and cleared blocks");
+                    });
+        } catch (Exception e) {
+            // Keep the slot marked as used; the arena is cleared as a leftover on the next start
+            plugin.getLogger().warning("[Winter Event] Failed to clear blocks for instance " + instanceId + ": " + e.getMessage());
         }
     }
 
@@ -263,34 +359,53 @@ public class WinterSummitManager {
      * Get instance by player.
      */
     public WinterSummitInstance getInstanceByPlayer(UUID playerId) {
-        UUID instanceId = playerToInstance.get(playerId);
-        return instanceId != null ? activeInstances.get(instanceId) : null;
+        return lifecycle.get(playerId);
     }
 
     /**
      * Get instance by location.
      */
     public WinterSummitInstance getInstanceByLocation(Location location) {
-        for (WinterSummitInstance instance : activeInstances.values()) {
-            if (instance.contains(location)) {
-                return instance;
-            }
-        }
-        return null;
+        return lifecycle.getAt(location);
+    }
+
+    /**
+     * Track the boss spawned in an instance so it can be resolved by UUID.
+     */
+    public void trackBoss(WinterSummitInstance instance, UUID entityId) {
+        instance.setBossEntityId(entityId);
+        lifecycle.trackEntity(instance, entityId);
+    }
+
+    /**
+     * Get the instance that owns a tracked entity, or null.
+     */
+    public WinterSummitInstance getInstanceByEntity(UUID entityId) {
+        return lifecycle.getByEntity(entityId);
+    }
+
+    /**
+     * Stop tracking an entity (on death).
+     *
+     * @return The instance that owned it, or null
+     */
+    public WinterSummitInstance untrackEntity(UUID entityId) {
+        return lifecycle.untrackEntity(entityId);
     }
 
     /**
      * Check if player has active instance.
      */
     public boolean hasActiveInstance(UUID playerId) {
-        return playerToInstance.containsKey(playerId);
+        return lifecycle.get(playerId) != null;
     }
 
     /**
-     * Cleanup all instances (on plugin disable).
+     * End all instances (event stop or plugin disable) and clear their arenas.
+     * A slot is released once its arena is cleared, so arenas still standing
+     * at shutdown are cleared on the next start.
      */
     public void cleanupLeftoverInstances() {
-        activeInstances.clear();
-        playerToInstance.clear();
+        lifecycle.endAll();
     }
 }
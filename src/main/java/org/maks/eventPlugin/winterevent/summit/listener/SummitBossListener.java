@@ -1,6 +1,7 @@
 package org.maks.eventPlugin.winterevent.summit.listener;
 
 import io.lumine.mythic.bukkit.events.MythicMobDeathEvent;
+import io.lumine.mythic.bukkit.events.MythicMobSpawnEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -15,8 +16,8 @@ import java.util.Map;
 import java.util.Random;
 
 /**
- * Listens for boss deaths in Winter Summit instances.
- * Awards progress and cleans up instances.
+ * Listens for boss spawns and deaths in Winter Summit instances.
+ * Tracks bosses by entity, awards progress and cleans up instances.
  */
 public class SummitBossListener implements Listener {
     private final WinterSummitManager summitManager;
@@ -32,13 +33,23 @@ public class SummitBossListener implements Listener {
         this.plugin = plugin;
     }
 
+    /**
+     * Bind a summit boss to the instance it spawned in.
+     */
     @EventHandler
-    public void onMythicMobDeath(MythicMobDeathEvent event) {
-        if (!(event.getKiller() instanceof Player)) {
+    public void onMythicMobSpawn(MythicMobSpawnEvent event) {
+        if (event.getMobType() == null || !isSummitBoss(event.getMobType().getInternalName())) {
             return;
         }
 
-        Player player = (Player) event.getKiller();
+        WinterSummitInstance instance = summitManager.getInstanceByLocation(event.getEntity().getLocation());
+        if (instance != null) {
+            summitManager.trackBoss(instance, event.getEntity().getUniqueId());
+        }
+    }
+
+    @EventHandler
+    public void onMythicMobDeath(MythicMobDeathEvent event) {
         String mobType = event.getMobType().getInternalName();
 
         // Check if this is a Winter Summit boss
@@ -46,8 +57,16 @@ public class SummitBossListener implements Listener {
             return;
         }
 
-        // Get instance by player
-        WinterSummitInstance instance = summitManager.getInstanceByPlayer(player.getUniqueId());
+        WinterSummitInstance tracked = summitManager.untrackEntity(event.getEntity().getUniqueId());
+
+        if (!(event.getKiller() instanceof Player)) {
+            return;
+        }
+
+        Player player = (Player) event.getKiller();
+
+        // Resolve the instance from the boss entity, falling back to the killer's instance
+        WinterSummitInstance instance = tracked != null ? tracked : summitManager.getInstanceByPlayer(player.getUniqueId());
         if (instance == null) {
             return;
         }
@@ -58,13 +77,9 @@ public class SummitBossListener implements Listener {
         player.sendMessage("§f§l[Winter Event] §aBoss defeated! You earned event progress.");
         player.sendMessage("§f§l[Winter Event] §eArena will close in 15 seconds...");
 
-        // Cleanup instance after 15 seconds
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            summitManager.cleanupInstance(instance.getInstanceId());
-
-            // Teleport player to spawn
-            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "spawn " + player.getName());
-        }, 15 * 20L);
+        // Close the arena after 15 seconds, then teleport player to spawn
+        summitManager.drainInstance(instance, 15 * 20L, () ->
+                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "spawn " + player.getName()));
     }
 
     /**
@@ -8,13 +8,10 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.configuration.ConfigurationSection;
 import org.maks.eventPlugin.config.ConfigManager;
+import org.maks.eventPlugin.eventsystem.PlayerEventState;
 import org.maks.eventPlugin.winterevent.WinterEventManager;
 import org.maks.eventPlugin.winterevent.summit.WinterSummitManager;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -29,8 +26,6 @@ public class WinterPortalListener implements Listener {
     private final ConfigManager config;
     private org.maks.eventPlugin.winterevent.summit.gui.WinterPortalConfirmationGUI portalGUI;
 
-    private final Map<UUID, Long> guiOpenCooldowns = new HashMap<>();
-    private final Set<UUID> playersWithOpenGUI = new HashSet<>(); // Track players with GUI open
     private static final long COOLDOWN_MS = 5000; // 5s before reopening GUI after decline/close
     private static final long GUI_OPEN_COOLDOWN_MS = 3000; // 3s basic debounce when opening
 
@@ -51,16 +46,22 @@ public class WinterPortalListener implements Listener {
      * Clear GUI cooldown when player confirms entry (teleports away)
      */
     public void clearGUICooldown(UUID playerId) {
-        guiOpenCooldowns.remove(playerId);
-        playersWithOpenGUI.remove(playerId);
+        PlayerEventState state = winterEventManager.getPlayerStates().find(playerId);
+        if (state != null) {
+            state.setWinterPortalGuiCooldownUntil(0L);
+            state.setWinterPortalGuiOpen(false);
+        }
     }
 
     /**
      * Set GUI cooldown when player declines or closes the GUI without confirming.
      */
     public void setDeclineCooldown(UUID playerId) {
-        guiOpenCooldowns.put(playerId, System.currentTimeMillis() + COOLDOWN_MS);
-        playersWithOpenGUI.remove(playerId);
+        PlayerEventState state = winterEventManager.getPlayerStates().get(playerId);
+        if (state != null) {
+            state.setWinterPortalGuiCooldownUntil(System.currentTimeMillis() + COOLDOWN_MS);
+            state.setWinterPortalGuiOpen(false);
+        }
     }
 
     @EventHandler
@@ -80,9 +81,10 @@ public class WinterPortalListener implements Listener {
 
         Player player = event.getPlayer();
         UUID playerId = player.getUniqueId();
+        PlayerEventState state = winterEventManager.getPlayerStates().get(player);
 
         // CRITICAL: If player has GUI open, completely ignore ALL portal detection
-        if (playersWithOpenGUI.contains(playerId)) {
+        if (state.isWinterPortalGuiOpen()) {
             return; // Don't process anything if GUI is open
         }
 
@@ -91,14 +93,13 @@ public class WinterPortalListener implements Listener {
 
         // Double check with GUI itself
         if (portalGUI != null && portalGUI.hasOpenGUI(playerId)) {
-            playersWithOpenGUI.add(playerId); // Add to tracking
+            state.setWinterPortalGuiOpen(true); // Add to tracking
             return;
         }
 
         // Check if player is on GUI open cooldown
         long now = System.currentTimeMillis();
-        Long guiCooldown = guiOpenCooldowns.get(playerId);
-        if (guiCooldown != null && now < guiCooldown) {
+        if (now < state.getWinterPortalGuiCooldownUntil()) {
             return; // Still on cooldown, don't open GUI again
         }
 
@@ -117,7 +118,7 @@ public class WinterPortalListener implements Listener {
             }
 
             // Set longer cooldown to prevent spam (10 seconds)
-            guiOpenCooldowns.put(playerId, now + 10000L);
+            state.setWinterPortalGuiCooldownUntil(now + 10000L);
 
             // TELEPORT PLAYER OUT OF PORTAL FIRST to prevent Nether Portal from closing GUI
             Location safeLocation = findSafeLocationOutsidePortal(player.getLocation(), portal);
@@ -128,11 +129,11 @@ public class WinterPortalListener implements Listener {
             // Open GUI after teleport (with small delay to let teleport settle)
             Bukkit.getScheduler().runTaskLater(winterEventManager.getPlugin(), () -> {
                 try {
-                    playersWithOpenGUI.add(playerId); // Mark as having GUI open BEFORE opening
+                    state.setWinterPortalGuiOpen(true); // Mark as having GUI open BEFORE opening
                     portalGUI.open(player, portal.bossType, portal.difficulty, to);
                 } catch (Exception e) {
-                    guiOpenCooldowns.remove(playerId);
-                    playersWithOpenGUI.remove(playerId);
+                    state.setWinterPortalGuiCooldownUntil(0L);
+                    state.setWinterPortalGuiOpen(false);
                     Bukkit.getLogger().severe("[Winter Portal] Failed to open GUI: " + e.getMessage());
                     player.sendMessage("§c§l[Winter Event] §cFailed to open portal GUI! Contact an administrator.");
                     e.printStackTrace();
@@ -2,10 +2,13 @@ package org.maks.eventPlugin.winterevent.wintercave;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.maks.eventPlugin.config.ConfigManager;
 import org.maks.eventPlugin.db.DatabaseManager;
+import org.maks.eventPlugin.eventsystem.ChunkTickets;
 import org.maks.eventPlugin.winterevent.WinterEventManager;
 
 import java.sql.Connection;
@@ -27,6 +30,10 @@ public class WinterCaveManager {
 
     private WinterCaveInstance activeInstance;
 
+    // Cave chunks held loaded while the cave is in use: world and block columns {minX, minZ, maxX, maxZ}
+    private World ticketWorld;
+    private int[] ticketArea;
+
     public WinterCaveManager(JavaPlugin plugin, DatabaseManager database, ConfigManager config, WinterEventManager winterEventManager) {
         this.plugin = plugin;
         this.database = database;
@@ -64,7 +71,7 @@ public class WinterCaveManager {
 
     /**
      * Start cave instance for player.
-     * Locks instance, warps player, spawns mob, starts timer.
+     * Locks instance, loads the cave chunks, teleports player, spawns mob, starts timer.
      */
     public void startInstance(Player player) {
         if (isInstanceLocked()) {
@@ -80,17 +87,31 @@ public class WinterCaveManager {
         // Create instance
         activeInstance = new WinterCaveInstance(player.getUniqueId(), System.currentTimeMillis());
 
+        WinterCaveInstance instance = activeInstance;
+
         // Lock in database
         lockInstanceInDatabase(player.getUniqueId());
 
-        // Warp player
-        String warpName = config.getSection("winter_event.winter_cave").getString("warp_name", "winter_cave");
-        Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "warp " + warpName + " " + player.getName());
-
         player.sendMessage("§f§l[Winter Event] §aTeleporting to Winter Cave...");
 
-        // Spawn mob after short delay
-        Bukkit.getScheduler().runTaskLater(plugin, () -> spawnCaveMob(player), 20L); // 1 second
+        // Load the cave's chunks off the main thread and keep them loaded while the cave is in use
+        ConfigurationSection caveSection = config.getSection("winter_event.winter_cave");
+        Location entry = readLocation(caveSection.getConfigurationSection("entry_location"));
+        holdCaveChunks(caveSection, entry).thenAccept(ignored -> {
+            // The player may have left while the chunks loaded
+            if (activeInstance != instance || !player.isOnline()) return;
+
+            if (entry != null) {
+                player.teleportAsync(entry);
+            } else {
+                // No entry location configured: use the warp
+                String warpName = caveSection.getString("warp_name", "winter_cave");
+                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "warp " + warpName + " " + player.getName());
+            }
+
+            // Spawn mob after short delay
+            Bukkit.getScheduler().runTaskLater(plugin, () -> spawnCaveMob(player), 20L); // 1 second
+        });
 
         // Start 5-minute timer
         int timerMinutes = config.getSection("winter_event.winter_cave").getInt("timer_minutes", 5);
@@ -101,6 +122,59 @@ public class WinterCaveManager {
         player.sendMessage("§f§l[Winter Event] §cTime limit: " + timerMinutes + " minutes");
     }
 
+    /**
+     * Load the chunks around the cave (the mob spawn and the entry location,
+     * within preload_radius chunks) and hold tickets on them until the cave
+     * is released.
+     *
+     * @return Completes on the main thread once the chunks are loaded
+     */
+    private java.util.concurrent.CompletableFuture<Void> holdCaveChunks(ConfigurationSection caveSection, Location entry) {
+        Location mobSpawn = readLocation(caveSection.getConfigurationSection("spawn_location"));
+        if (mobSpawn == null) {
+            return java.util.concurrent.CompletableFuture.completedFuture(null);
+        }
+
+        int radius = Math.max(0, caveSection.getInt("preload_radius", 2)) * 16;
+        int minX = mobSpawn.getBlockX(), minZ = mobSpawn.getBlockZ();
+        int maxX = minX, maxZ = minZ;
+        if (entry != null && entry.getWorld().equals(mobSpawn.getWorld())) {
+            minX = Math.min(minX, entry.getBlockX());
+            minZ = Math.min(minZ, entry.getBlockZ());
+            maxX = Math.max(maxX, entry.getBlockX());
+            maxZ = Math.max(maxZ, entry.getBlockZ());
+        }
+
+        releaseCaveChunks();
+        ticketWorld = mobSpawn.getWorld();
+        ticketArea = new int[]{minX - radius, minZ - radius, maxX + radius, maxZ + radius};
+        return ChunkTickets.acquire(plugin, ticketWorld, ticketArea[0], ticketArea[1], ticketArea[2], ticketArea[3])
+                .exceptionally(e -> {
+                    plugin.getLogger().warning("[Winter Cave] Failed to load cave chunks: " + e.getMessage());
+                    return null;
+                });
+    }
+
+    private void releaseCaveChunks() {
+        if (ticketArea != null) {
+            ChunkTickets.release(plugin, ticketWorld, ticketArea[0], ticketArea[1], ticketArea[2], ticketArea[3]);
+            ticketWorld = null;
+            ticketArea = null;
+        }
+    }
+
+    /**
+     * Read a location section (world, x, y, z and optional yaw and pitch), or null
+     * if it is missing or its world is not loaded.
+     */
+    private Location readLocation(ConfigurationSection section) {
+        if (section == null) return null;
+        World world = Bukkit.getWorld(section.getString("world", "world"));
+        if (world == null) return null;
+        return new Location(world, section.getDouble("x"), section.getDouble("y"), section.getDouble("z"),
+                (float) section.getDouble("yaw"), (float) section.getDouble("pitch"));
+    }
+
     /**
      * Spawn the cave mob at configured location.
      */
@@ -210,6 +284,7 @@ public class WinterCaveManager {
                 Bukkit.getScheduler().cancelTask(activeInstance.getPostClaimTaskId());
             }
             unlockInstanceInDatabase();
+            releaseCaveChunks();
             activeInstance = null;
         }
     }